@@ -0,0 +1,29 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.engine.delegate;
+
+/**
+ * The input for a evaluated decision whose input expression may not be
+ * evaluated if the lazy evaluation of inputs is enabled.
+ */
+public interface DmnLazyEvaluatedInput extends DmnEvaluatedInput {
+
+  /**
+   * @return true if the input expression was evaluated, false if the
+   *         evaluation was skipped as no rule had to test the input, in
+   *         which case the value is an untyped null value
+   */
+  boolean isEvaluated();
+
+}
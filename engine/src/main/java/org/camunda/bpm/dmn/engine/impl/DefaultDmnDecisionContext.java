@@ -16,6 +16,7 @@ package org.camunda.bpm.dmn.engine.impl;
 import static org.camunda.commons.utils.EnsureUtil.ensureNotNull;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,10 +36,17 @@ import org.camunda.bpm.dmn.engine.impl.delegate.DmnEvaluatedDecisionRuleImpl;
 import org.camunda.bpm.dmn.engine.impl.delegate.DmnEvaluatedInputImpl;
 import org.camunda.bpm.dmn.engine.impl.delegate.DmnEvaluatedOutputImpl;
 import org.camunda.bpm.dmn.engine.impl.el.VariableContextScriptBindings;
+import org.camunda.bpm.dmn.engine.impl.evaluation.CompiledDecisionTable;
+import org.camunda.bpm.dmn.engine.impl.evaluation.FeelSimpleUnaryTestsEvaluator;
 import org.camunda.bpm.dmn.engine.impl.spi.el.DmnScriptEngineResolver;
 import org.camunda.bpm.dmn.engine.impl.spi.el.ElExpression;
 import org.camunda.bpm.dmn.engine.impl.spi.el.ElProvider;
+import org.camunda.bpm.dmn.engine.impl.spi.evaluation.DmnDecisionTableCompiler;
+import org.camunda.bpm.dmn.engine.impl.spi.hitpolicy.DmnHitPolicyHandler;
+import org.camunda.bpm.dmn.engine.impl.spi.hitpolicy.DmnShortCircuitHitPolicyHandler;
 import org.camunda.bpm.dmn.feel.impl.FeelEngine;
+import org.camunda.bpm.dmn.feel.impl.FeelSimpleExpression;
+import org.camunda.bpm.dmn.feel.impl.FeelSimpleUnaryTests;
 import org.camunda.bpm.engine.variable.Variables;
 import org.camunda.bpm.engine.variable.context.VariableContext;
 import org.camunda.bpm.engine.variable.impl.context.CompositeVariableContext;
@@ -61,6 +69,10 @@ public class DefaultDmnDecisionContext {
   protected final String inputEntryExpressionLanguage;
   protected final String outputEntryExpressionLanguage;
 
+  protected final boolean lazyInputEvaluation;
+
+  protected final DmnDecisionTableCompiler decisionTableCompiler;
+
   public DefaultDmnDecisionContext(DefaultDmnEngineConfiguration configuration) {
     evaluationListeners = configuration.getDecisionTableEvaluationListeners();
 
@@ -71,6 +83,10 @@ public class DefaultDmnDecisionContext {
     inputExpressionExpressionLanguage = configuration.getDefaultInputExpressionExpressionLanguage();
     inputEntryExpressionLanguage = configuration.getDefaultInputEntryExpressionLanguage();
     outputEntryExpressionLanguage = configuration.getDefaultOutputEntryExpressionLanguage();
+
+    lazyInputEvaluation = configuration.isLazyInputEvaluationEnabled();
+
+    decisionTableCompiler = configuration.getDecisionTableCompiler();
   }
 
   /**
@@ -81,15 +97,54 @@ public class DefaultDmnDecisionContext {
    * @return the result of the decision evaluation
    */
   public DmnDecisionTableResult evaluateDecisionTable(DmnDecisionTableImpl decisionTable, VariableContext variableContext) {
+    DmnDecisionTableEvaluationEventImpl evaluationResult;
+    if (decisionTableCompiler != null) {
+      CompiledDecisionTable compiledDecisionTable = getCompiledDecisionTable(decisionTable);
+      evaluationResult = compiledDecisionTable.evaluate(variableContext);
+    }
+    else {
+      evaluationResult = interpretDecisionTable(decisionTable, variableContext);
+    }
+
+    return generateDecisionTableResult(decisionTable, evaluationResult);
+  }
+
+  /**
+   * Returns the compiled form of the decision table. If the decision table was
+   * not compiled by the compiler of this engine it is compiled now.
+   */
+  protected CompiledDecisionTable getCompiledDecisionTable(DmnDecisionTableImpl decisionTable) {
+    CompiledDecisionTable compiledDecisionTable = decisionTable.getCompiledDecisionTable(decisionTableCompiler);
+    if (compiledDecisionTable == null) {
+      compiledDecisionTable = decisionTableCompiler.compile(decisionTable);
+      decisionTable.addCompiledDecisionTable(compiledDecisionTable);
+    }
+    return compiledDecisionTable;
+  }
+
+  protected DmnDecisionTableEvaluationEventImpl interpretDecisionTable(DmnDecisionTableImpl decisionTable, VariableContext variableContext) {
     DmnDecisionTableEvaluationEventImpl evaluationResult = new DmnDecisionTableEvaluationEventImpl();
     evaluationResult.setDecisionTable(decisionTable);
     evaluationResult.setExecutedDecisionElements(calculateExecutedDecisionElements(decisionTable));
 
+    DmnHitPolicyHandler hitPolicyHandler = decisionTable.getHitPolicyHandler();
+    if (hitPolicyHandler instanceof DmnShortCircuitHitPolicyHandler) {
+      interpretRulesInOrder(decisionTable, (DmnShortCircuitHitPolicyHandler) hitPolicyHandler, variableContext, evaluationResult);
+      return evaluationResult;
+    }
+
     int inputSize = decisionTable.getInputs().size();
-    List<DmnDecisionTableRuleImpl> matchingRules = new ArrayList<DmnDecisionTableRuleImpl>(decisionTable.getRules());
+    List<DmnDecisionTableRuleImpl> rules = decisionTable.getRules();
+    BitSet matchingRules = new BitSet(rules.size());
+    matchingRules.set(0, rules.size());
     for (int inputIdx = 0; inputIdx < inputSize; inputIdx++) {
-      // evaluate input
       DmnDecisionTableInputImpl input = decisionTable.getInputs().get(inputIdx);
+      if (lazyInputEvaluation && !hasAvailableRuleTestingInput(inputIdx, rules, matchingRules)) {
+        evaluationResult.getInputs().add(createUnevaluatedInput(input));
+        continue;
+      }
+
+      // evaluate input
       DmnEvaluatedInput evaluatedInput = evaluateInput(input, variableContext);
       evaluationResult.getInputs().add(evaluatedInput);
 
@@ -97,11 +152,106 @@ public class DefaultDmnDecisionContext {
       VariableContext localVariableContext = getLocalVariableContext(input, evaluatedInput, variableContext);
 
       // filter rules applicable with this input
-      matchingRules = evaluateInputForAvailableRules(inputIdx, input, matchingRules, localVariableContext);
+      evaluateInputForAvailableRules(inputIdx, input, rules, matchingRules, localVariableContext);
     }
 
     setEvaluationOutput(decisionTable, matchingRules, variableContext, evaluationResult);
-    return generateDecisionTableResult(decisionTable, evaluationResult);
+    return evaluationResult;
+  }
+
+  /**
+   * Evaluates the rules in rule order until the hit policy handler declares
+   * the evaluation as complete.
+   */
+  protected void interpretRulesInOrder(DmnDecisionTableImpl decisionTable, DmnShortCircuitHitPolicyHandler hitPolicyHandler, VariableContext variableContext, DmnDecisionTableEvaluationEventImpl evaluationResult) {
+    List<DmnDecisionTableInputImpl> inputs = decisionTable.getInputs();
+    DmnEvaluatedInput[] evaluatedInputs = new DmnEvaluatedInput[inputs.size()];
+    VariableContext[] localVariableContexts = new VariableContext[inputs.size()];
+    if (!lazyInputEvaluation) {
+      for (int inputIdx = 0; inputIdx < inputs.size(); inputIdx++) {
+        evaluateInput(inputs, inputIdx, evaluatedInputs, localVariableContexts, variableContext);
+      }
+    }
+
+    List<DmnEvaluatedDecisionRule> evaluatedDecisionRules = new ArrayList<DmnEvaluatedDecisionRule>();
+    for (DmnDecisionTableRuleImpl rule : decisionTable.getRules()) {
+      if (isRuleApplicable(inputs, rule, evaluatedInputs, localVariableContexts, variableContext)) {
+        evaluatedDecisionRules.add(evaluateMatchingRule(decisionTable.getOutputs(), rule, variableContext));
+        if (hitPolicyHandler.isEvaluationComplete(evaluatedDecisionRules)) {
+          break;
+        }
+      }
+    }
+
+    for (int inputIdx = 0; inputIdx < inputs.size(); inputIdx++) {
+      if (evaluatedInputs[inputIdx] != null) {
+        evaluationResult.getInputs().add(evaluatedInputs[inputIdx]);
+      }
+      else {
+        evaluationResult.getInputs().add(createUnevaluatedInput(inputs.get(inputIdx)));
+      }
+    }
+    evaluationResult.setMatchingRules(evaluatedDecisionRules);
+  }
+
+  /**
+   * Tests the input entries of the rule. If the lazy evaluation of inputs is
+   * enabled, an input is evaluated when the first input entry has to test it.
+   */
+  protected boolean isRuleApplicable(List<DmnDecisionTableInputImpl> inputs, DmnDecisionTableRuleImpl rule, DmnEvaluatedInput[] evaluatedInputs, VariableContext[] localVariableContexts, VariableContext variableContext) {
+    for (int inputIdx = 0; inputIdx < inputs.size(); inputIdx++) {
+      DmnExpressionImpl condition = rule.getConditions().get(inputIdx);
+      if (evaluatedInputs[inputIdx] == null) {
+        if (isWildcardCondition(condition)) {
+          continue;
+        }
+        evaluateInput(inputs, inputIdx, evaluatedInputs, localVariableContexts, variableContext);
+      }
+      if (!isConditionApplicable(inputs.get(inputIdx), condition, localVariableContexts[inputIdx])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  protected void evaluateInput(List<DmnDecisionTableInputImpl> inputs, int inputIdx, DmnEvaluatedInput[] evaluatedInputs, VariableContext[] localVariableContexts, VariableContext variableContext) {
+    DmnDecisionTableInputImpl input = inputs.get(inputIdx);
+    evaluatedInputs[inputIdx] = evaluateInput(input, variableContext);
+    localVariableContexts[inputIdx] = getLocalVariableContext(input, evaluatedInputs[inputIdx], variableContext);
+  }
+
+  /**
+   * @return true if an available rule has an input entry for the input which
+   *         does not match every value
+   */
+  protected boolean hasAvailableRuleTestingInput(int conditionIdx, List<DmnDecisionTableRuleImpl> rules, BitSet matchingRules) {
+    for (int ruleIdx = matchingRules.nextSetBit(0); ruleIdx >= 0; ruleIdx = matchingRules.nextSetBit(ruleIdx + 1)) {
+      if (!isWildcardCondition(rules.get(ruleIdx).getConditions().get(conditionIdx))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return true if the input entry is empty or the FEEL expression <code>-</code>
+   */
+  protected boolean isWildcardCondition(DmnExpressionImpl condition) {
+    if (!isNonEmptyExpression(condition)) {
+      return true;
+    }
+    String expressionLanguage = condition.getExpressionLanguage();
+    if (expressionLanguage == null) {
+      expressionLanguage = inputEntryExpressionLanguage;
+    }
+    return isFeelExpressionLanguage(expressionLanguage) && "-".equals(condition.getExpression().trim());
+  }
+
+  protected DmnEvaluatedInput createUnevaluatedInput(DmnDecisionTableInputImpl input) {
+    DmnEvaluatedInputImpl evaluatedInput = new DmnEvaluatedInputImpl(input);
+    evaluatedInput.setEvaluated(false);
+    evaluatedInput.setValue(Variables.untypedNullValue());
+    return evaluatedInput;
   }
 
   protected DmnEvaluatedInput evaluateInput(DmnDecisionTableInputImpl input, VariableContext variableContext) {
@@ -120,15 +270,17 @@ public class DefaultDmnDecisionContext {
     return evaluatedInput;
   }
 
-  protected List<DmnDecisionTableRuleImpl> evaluateInputForAvailableRules(int conditionIdx, DmnDecisionTableInputImpl input, List<DmnDecisionTableRuleImpl> availableRules, VariableContext variableContext) {
-    List<DmnDecisionTableRuleImpl> matchingRules = new ArrayList<DmnDecisionTableRuleImpl>();
-    for (DmnDecisionTableRuleImpl availableRule : availableRules) {
-      DmnExpressionImpl condition = availableRule.getConditions().get(conditionIdx);
-      if (isConditionApplicable(input, condition, variableContext)) {
-        matchingRules.add(availableRule);
+  /**
+   * Removes all rules from the matching rules which are not applicable with
+   * this input. Rules which were already removed are skipped.
+   */
+  protected void evaluateInputForAvailableRules(int conditionIdx, DmnDecisionTableInputImpl input, List<DmnDecisionTableRuleImpl> rules, BitSet matchingRules, VariableContext variableContext) {
+    for (int ruleIdx = matchingRules.nextSetBit(0); ruleIdx >= 0; ruleIdx = matchingRules.nextSetBit(ruleIdx + 1)) {
+      DmnExpressionImpl condition = rules.get(ruleIdx).getConditions().get(conditionIdx);
+      if (!isConditionApplicable(input, condition, variableContext)) {
+        matchingRules.clear(ruleIdx);
       }
     }
-    return matchingRules;
   }
 
   private VariableContext getLocalVariableContext(DmnDecisionTableInputImpl input, DmnEvaluatedInput evaluatedInput, VariableContext variableContext) {
@@ -148,12 +300,13 @@ public class DefaultDmnDecisionContext {
     return result != null && result.equals(true);
   }
 
-  protected void setEvaluationOutput(DmnDecisionTableImpl decisionTable, List<DmnDecisionTableRuleImpl> matchingRules, VariableContext variableContext, DmnDecisionTableEvaluationEventImpl evaluationResult) {
+  protected void setEvaluationOutput(DmnDecisionTableImpl decisionTable, BitSet matchingRules, VariableContext variableContext, DmnDecisionTableEvaluationEventImpl evaluationResult) {
     List<DmnDecisionTableOutputImpl> decisionTableOutputs = decisionTable.getOutputs();
+    List<DmnDecisionTableRuleImpl> rules = decisionTable.getRules();
 
-    List<DmnEvaluatedDecisionRule> evaluatedDecisionRules = new ArrayList<DmnEvaluatedDecisionRule>();
-    for (DmnDecisionTableRuleImpl matchingRule : matchingRules) {
-      DmnEvaluatedDecisionRule evaluatedRule = evaluateMatchingRule(decisionTableOutputs, matchingRule, variableContext);
+    List<DmnEvaluatedDecisionRule> evaluatedDecisionRules = new ArrayList<DmnEvaluatedDecisionRule>(matchingRules.cardinality());
+    for (int ruleIdx = matchingRules.nextSetBit(0); ruleIdx >= 0; ruleIdx = matchingRules.nextSetBit(ruleIdx + 1)) {
+      DmnEvaluatedDecisionRule evaluatedRule = evaluateMatchingRule(decisionTableOutputs, rules.get(ruleIdx), variableContext);
       evaluatedDecisionRules.add(evaluatedRule);
     }
     evaluationResult.setMatchingRules(evaluatedDecisionRules);
@@ -242,11 +395,14 @@ public class DefaultDmnDecisionContext {
       // evaluate output entry, skip empty expressions
       DmnExpressionImpl conclusion = matchingRule.getConclusions().get(outputIdx);
       if (isNonEmptyExpression(conclusion)) {
-        Object value = evaluateOutputEntry(conclusion, variableContext);
-
-        // transform to output type
         DmnDecisionTableOutputImpl decisionTableOutput = decisionTableOutputs.get(outputIdx);
-        TypedValue typedValue = decisionTableOutput.getTypeDefinition().transform(value);
+        TypedValue typedValue = getConstantValue(conclusion, decisionTableOutput);
+        if (typedValue == null) {
+          Object value = evaluateOutputEntry(conclusion, variableContext);
+
+          // transform to output type
+          typedValue = decisionTableOutput.getTypeDefinition().transform(value);
+        }
 
         // set on result
         DmnEvaluatedOutputImpl evaluatedOutput = new DmnEvaluatedOutputImpl(decisionTableOutput, typedValue);
@@ -257,6 +413,25 @@ public class DefaultDmnDecisionContext {
     return outputEntries;
   }
 
+  /**
+   * @return the value of the literal output entry transformed during the
+   *         transformation or null if it has to be evaluated
+   */
+  protected TypedValue getConstantValue(DmnExpressionImpl conclusion, DmnDecisionTableOutputImpl decisionTableOutput) {
+    String expressionLanguage = conclusion.getExpressionLanguage();
+    if (expressionLanguage == null) {
+      expressionLanguage = outputEntryExpressionLanguage;
+    }
+    // the decision may be transformed with a different default expression language
+    if (conclusion.getConstantValue() != null && conclusion.getTypeDefinition() == decisionTableOutput.getTypeDefinition()
+      && DefaultDmnEngineConfiguration.JUEL_EXPRESSION_LANGUAGE.equals(expressionLanguage)) {
+      return conclusion.getConstantValue();
+    }
+    else {
+      return null;
+    }
+  }
+
   protected Object evaluateOutputEntry(DmnExpressionImpl conclusion, VariableContext variableContext) {
     String expressionLanguage = conclusion.getExpressionLanguage();
     if (expressionLanguage == null) {
@@ -270,10 +445,16 @@ public class DefaultDmnDecisionContext {
     }
   }
 
-  protected TypedValue evaluateFeelSimpleExpression(DmnExpressionImpl expression, VariableContext variableContext) {
+  protected Object evaluateFeelSimpleExpression(DmnExpressionImpl expression, VariableContext variableContext) {
+    FeelSimpleExpression simpleExpression = expression.getSimpleExpression(feelEngine);
     String expressionText = expression.getExpression();
-    if (expressionText != null) {
-      return feelEngine.evaluateSimpleExpression(expressionText, variableContext);
+    if (simpleExpression == null && expressionText != null) {
+      // compile once and reuse the compiled expression for further evaluations
+      simpleExpression = feelEngine.compileSimpleExpression(expressionText);
+      expression.setSimpleExpression(feelEngine, simpleExpression);
+    }
+    if (simpleExpression != null) {
+      return simpleExpression.evaluate(variableContext);
     }
     else {
       return null;
@@ -281,8 +462,12 @@ public class DefaultDmnDecisionContext {
   }
 
   protected Object evaluateFeelSimpleUnaryTests(DmnDecisionTableInputImpl input, DmnExpressionImpl condition, VariableContext variableContext) {
+    FeelSimpleUnaryTests simpleUnaryTests = FeelSimpleUnaryTestsEvaluator.getCompiledSimpleUnaryTests(feelEngine, condition, input.getInputVariable());
     String expressionText = condition.getExpression();
-    if (expressionText != null) {
+    if (simpleUnaryTests != null) {
+      return simpleUnaryTests.evaluate(variableContext);
+    }
+    else if (expressionText != null) {
       return feelEngine.evaluateSimpleUnaryTests(expressionText, input.getInputVariable(), variableContext);
     }
     else {
@@ -290,11 +475,19 @@ public class DefaultDmnDecisionContext {
     }
   }
 
-  protected Object evaluateExpression(String expressionLanguage, DmnExpressionImpl expression, VariableContext variableContext) {
+  /**
+   * Evaluate a non FEEL expression
+   *
+   * @param expressionLanguage the resolved expression language of the expression
+   * @param expression the expression to evaluate
+   * @param variableContext the available variable context
+   * @return the result of the expression
+   */
+  public Object evaluateExpression(String expressionLanguage, DmnExpressionImpl expression, VariableContext variableContext) {
     String expressionText = getExpressionTextForLanguage(expression, expressionLanguage);
     if (expressionText != null) {
       if(isElExpression(expressionLanguage)) {
-        return evaluateElExpression(expressionLanguage, expressionText, variableContext);
+        return evaluateElExpression(expressionLanguage, expression, expressionText, variableContext);
       }
       else {
         return evaluateScriptExpression(expressionLanguage, variableContext, expressionText);
@@ -319,8 +512,13 @@ public class DefaultDmnDecisionContext {
     }
   }
 
-  private Object evaluateElExpression(String expressionLanguage, String expressionText, VariableContext variableContext) {
-    ElExpression elExpression = elProvider.createExpression(expressionText);
+  private Object evaluateElExpression(String expressionLanguage, DmnExpressionImpl expression, String expressionText, VariableContext variableContext) {
+    ElExpression elExpression = expression.getElExpression(elProvider);
+    if (elExpression == null) {
+      // create once and reuse the expression for further evaluations
+      elExpression = elProvider.createExpression(expressionText);
+      expression.setElExpression(elProvider, elExpression);
+    }
     try {
       return elExpression.getValue(variableContext);
     }
@@ -369,7 +567,7 @@ public class DefaultDmnDecisionContext {
   protected boolean isFeelExpressionLanguage(String expressionLanguage) {
     ensureNotNull("expressionLanguage", expressionLanguage);
     return expressionLanguage.equals(DefaultDmnEngineConfiguration.FEEL_EXPRESSION_LANGUAGE) ||
-      expressionLanguage.toLowerCase().equals(DefaultDmnEngineConfiguration.FEEL_EXPRESSION_LANGUAGE_ALTERNATIVE);
+      expressionLanguage.equalsIgnoreCase(DefaultDmnEngineConfiguration.FEEL_EXPRESSION_LANGUAGE_ALTERNATIVE);
   }
 
 }
@@ -23,7 +23,9 @@ import org.camunda.bpm.dmn.engine.DmnDecision;
 import org.camunda.bpm.dmn.engine.DmnDecisionTableResult;
 import org.camunda.bpm.dmn.engine.DmnEngine;
 import org.camunda.bpm.dmn.engine.DmnEngineConfiguration;
+import org.camunda.bpm.dmn.engine.impl.spi.transform.DmnTransform;
 import org.camunda.bpm.dmn.engine.impl.spi.transform.DmnTransformer;
+import org.camunda.bpm.dmn.engine.impl.transform.DefaultDmnTransform;
 import org.camunda.bpm.engine.variable.Variables;
 import org.camunda.bpm.engine.variable.context.VariableContext;
 import org.camunda.bpm.model.dmn.DmnModelInstance;
@@ -46,18 +48,34 @@ public class DefaultDmnEngine implements DmnEngine {
 
   public List<DmnDecision> parseDecisions(InputStream inputStream) {
     ensureNotNull("inputStream", inputStream);
-    return transformer.createTransform()
+    return createTransform()
       .modelInstance(inputStream)
       .transformDecisions();
   }
 
   public List<DmnDecision> parseDecisions(DmnModelInstance dmnModelInstance) {
     ensureNotNull("dmnModelInstance", dmnModelInstance);
-    return transformer.createTransform()
+    return createTransform()
       .modelInstance(dmnModelInstance)
       .transformDecisions();
   }
 
+  /**
+   * Creates a transform with the settings of this engine, as the transformer
+   * is shared by all engines of a configuration.
+   */
+  protected DmnTransform createTransform() {
+    DmnTransform transform = transformer.createTransform();
+    if (transform instanceof DefaultDmnTransform) {
+      DefaultDmnTransform defaultTransform = (DefaultDmnTransform) transform;
+      defaultTransform.setFeelEngine(dmnEngineConfiguration.getFeelEngine());
+      defaultTransform.setDefaultInputEntryExpressionLanguage(dmnEngineConfiguration.getDefaultInputEntryExpressionLanguage());
+      defaultTransform.setDefaultOutputEntryExpressionLanguage(dmnEngineConfiguration.getDefaultOutputEntryExpressionLanguage());
+      defaultTransform.setDecisionTableCompiler(dmnEngineConfiguration.getDecisionTableCompiler());
+    }
+    return transform;
+  }
+
   public DmnDecision parseDecision(String decisionKey, InputStream inputStream) {
     ensureNotNull("decisionKey", decisionKey);
     List<DmnDecision> decisions = parseDecisions(inputStream);
@@ -20,11 +20,15 @@ import java.util.List;
 import org.camunda.bpm.dmn.engine.DmnEngine;
 import org.camunda.bpm.dmn.engine.DmnEngineConfiguration;
 import org.camunda.bpm.dmn.engine.delegate.DmnDecisionTableEvaluationListener;
+import org.camunda.bpm.dmn.engine.delegate.DmnLazyEvaluatedInput;
 import org.camunda.bpm.dmn.engine.impl.el.DefaultScriptEngineResolver;
 import org.camunda.bpm.dmn.engine.impl.el.JuelElProvider;
+import org.camunda.bpm.dmn.engine.impl.evaluation.DecisionTableEvaluationMode;
+import org.camunda.bpm.dmn.engine.impl.evaluation.DefaultDmnDecisionTableCompiler;
 import org.camunda.bpm.dmn.engine.impl.metrics.DefaultEngineMetricCollector;
 import org.camunda.bpm.dmn.engine.impl.spi.el.DmnScriptEngineResolver;
 import org.camunda.bpm.dmn.engine.impl.spi.el.ElProvider;
+import org.camunda.bpm.dmn.engine.impl.spi.evaluation.DmnDecisionTableCompiler;
 import org.camunda.bpm.dmn.engine.impl.spi.transform.DmnTransformer;
 import org.camunda.bpm.dmn.engine.impl.transform.DefaultDmnTransformer;
 import org.camunda.bpm.dmn.engine.spi.DmnEngineMetricCollector;
@@ -39,6 +43,8 @@ public class DefaultDmnEngineConfiguration extends DmnEngineConfiguration {
   public static final String FEEL_EXPRESSION_LANGUAGE_ALTERNATIVE = "feel";
   public static final String JUEL_EXPRESSION_LANGUAGE = "juel";
 
+  public static final int DEFAULT_DECISION_TREE_MAX_SIZE = 10000;
+
   protected DmnEngineMetricCollector engineMetricCollector;
 
   protected List<DmnDecisionTableEvaluationListener> customPreDecisionTableEvaluationListeners = new ArrayList<DmnDecisionTableEvaluationListener>();
@@ -56,6 +62,13 @@ public class DefaultDmnEngineConfiguration extends DmnEngineConfiguration {
 
   protected DmnTransformer transformer = new DefaultDmnTransformer();
 
+  protected DecisionTableEvaluationMode decisionTableEvaluationMode = DecisionTableEvaluationMode.COMPILED;
+  protected DmnDecisionTableCompiler decisionTableCompiler;
+  protected boolean rangeIndexEnabled = true;
+  protected int decisionTreeMaxSize = DEFAULT_DECISION_TREE_MAX_SIZE;
+  protected boolean adaptiveInputOrderEnabled = false;
+  protected boolean lazyInputEvaluationEnabled = false;
+
   public DmnEngine buildEngine() {
     init();
     return new DefaultDmnEngine(this);
@@ -67,6 +80,7 @@ public class DefaultDmnEngineConfiguration extends DmnEngineConfiguration {
     initScriptEngineResolver();
     initElProvider();
     initFeelEngine();
+    initDecisionTableCompiler();
   }
 
   protected void initMetricCollector() {
@@ -115,6 +129,15 @@ public class DefaultDmnEngineConfiguration extends DmnEngineConfiguration {
     }
   }
 
+  protected void initDecisionTableCompiler() {
+    if (decisionTableEvaluationMode == DecisionTableEvaluationMode.COMPILED) {
+      decisionTableCompiler = new DefaultDmnDecisionTableCompiler(this);
+    }
+    else {
+      decisionTableCompiler = null;
+    }
+  }
+
   public DmnEngineMetricCollector getEngineMetricCollector() {
     return engineMetricCollector;
   }
@@ -381,4 +404,196 @@ public class DefaultDmnEngineConfiguration extends DmnEngineConfiguration {
     return this;
   }
 
+  /**
+   * @return the mode used to evaluate decision tables
+   */
+  public DecisionTableEvaluationMode getDecisionTableEvaluationMode() {
+    return decisionTableEvaluationMode;
+  }
+
+  /**
+   * Set the mode used to evaluate decision tables. In the compiled mode,
+   * which is the default, the evaluation plan of decision tables is
+   * compiled during the transformation and used for all evaluations.
+   *
+   * @param decisionTableEvaluationMode the decision table evaluation mode
+   */
+  public void setDecisionTableEvaluationMode(DecisionTableEvaluationMode decisionTableEvaluationMode) {
+    this.decisionTableEvaluationMode = decisionTableEvaluationMode;
+  }
+
+  /**
+   * Set the mode used to evaluate decision tables. In the compiled mode,
+   * which is the default, the evaluation plan of decision tables is
+   * compiled during the transformation and used for all evaluations.
+   *
+   * @param decisionTableEvaluationMode the decision table evaluation mode
+   * @return this
+   */
+  public DefaultDmnEngineConfiguration decisionTableEvaluationMode(DecisionTableEvaluationMode decisionTableEvaluationMode) {
+    setDecisionTableEvaluationMode(decisionTableEvaluationMode);
+    return this;
+  }
+
+  /**
+   * @return true if compiled decision tables use a range index
+   */
+  public boolean isRangeIndexEnabled() {
+    return rangeIndexEnabled;
+  }
+
+  /**
+   * Enable or disable the range index of compiled decision tables. If
+   * enabled, which is the default, a decision table with consecutive inputs
+   * whose input entries are intervals (e.g. age and income) finds the
+   * matching rules of these inputs by a single query of a tree of the rule
+   * boxes.
+   *
+   * @param rangeIndexEnabled true to enable the range index
+   */
+  public void setRangeIndexEnabled(boolean rangeIndexEnabled) {
+    this.rangeIndexEnabled = rangeIndexEnabled;
+  }
+
+  /**
+   * Enable or disable the range index of compiled decision tables. If
+   * enabled, which is the default, a decision table with consecutive inputs
+   * whose input entries are intervals (e.g. age and income) finds the
+   * matching rules of these inputs by a single query of a tree of the rule
+   * boxes.
+   *
+   * @param rangeIndexEnabled true to enable the range index
+   * @return this
+   */
+  public DefaultDmnEngineConfiguration rangeIndexEnabled(boolean rangeIndexEnabled) {
+    setRangeIndexEnabled(rangeIndexEnabled);
+    return this;
+  }
+
+  /**
+   * @return the maximal size of the decision tree of a compiled decision table
+   */
+  public int getDecisionTreeMaxSize() {
+    return decisionTreeMaxSize;
+  }
+
+  /**
+   * Set the maximal size of the decision tree of a compiled decision table.
+   * A decision table whose input entries are all literals, comparisons or
+   * intervals is compiled into a decision tree which tests every input once.
+   * The size is the number of branches and leaves of the tree, a decision
+   * table whose tree would be larger is evaluated input by input.
+   *
+   * @param decisionTreeMaxSize the maximal size, 0 disables decision trees
+   */
+  public void setDecisionTreeMaxSize(int decisionTreeMaxSize) {
+    this.decisionTreeMaxSize = decisionTreeMaxSize;
+  }
+
+  /**
+   * Set the maximal size of the decision tree of a compiled decision table.
+   * A decision table whose input entries are all literals, comparisons or
+   * intervals is compiled into a decision tree which tests every input once.
+   * The size is the number of branches and leaves of the tree, a decision
+   * table whose tree would be larger is evaluated input by input.
+   *
+   * @param decisionTreeMaxSize the maximal size, 0 disables decision trees
+   * @return this
+   */
+  public DefaultDmnEngineConfiguration decisionTreeMaxSize(int decisionTreeMaxSize) {
+    setDecisionTreeMaxSize(decisionTreeMaxSize);
+    return this;
+  }
+
+  /**
+   * @return true if compiled decision tables filter the rules by the inputs in an adaptive order
+   */
+  public boolean isAdaptiveInputOrderEnabled() {
+    return adaptiveInputOrderEnabled;
+  }
+
+  /**
+   * Enable or disable the adaptive input order of compiled decision tables.
+   * If enabled, a compiled decision table which is not evaluated by a lookup
+   * table or decision tree collects the selectivity and costs of its inputs
+   * and filters the rules by the most selective and cheapest inputs first,
+   * unless its hit policy stops the evaluation at a matching rule. The
+   * inputs are still evaluated and reported in declared order. As input
+   * entries of rules which do not match may not be evaluated, an input entry
+   * which fails for such a rule may not cause an exception. Disabled by
+   * default.
+   *
+   * @param adaptiveInputOrderEnabled true to enable the adaptive input order
+   */
+  public void setAdaptiveInputOrderEnabled(boolean adaptiveInputOrderEnabled) {
+    this.adaptiveInputOrderEnabled = adaptiveInputOrderEnabled;
+  }
+
+  /**
+   * Enable or disable the adaptive input order of compiled decision tables.
+   * If enabled, a compiled decision table which is not evaluated by a lookup
+   * table or decision tree collects the selectivity and costs of its inputs
+   * and filters the rules by the most selective and cheapest inputs first,
+   * unless its hit policy stops the evaluation at a matching rule. The
+   * inputs are still evaluated and reported in declared order. As input
+   * entries of rules which do not match may not be evaluated, an input entry
+   * which fails for such a rule may not cause an exception. Disabled by
+   * default.
+   *
+   * @param adaptiveInputOrderEnabled true to enable the adaptive input order
+   * @return this
+   */
+  public DefaultDmnEngineConfiguration adaptiveInputOrderEnabled(boolean adaptiveInputOrderEnabled) {
+    setAdaptiveInputOrderEnabled(adaptiveInputOrderEnabled);
+    return this;
+  }
+
+  /**
+   * @return true if input expressions are only evaluated if a rule has to test the input
+   */
+  public boolean isLazyInputEvaluationEnabled() {
+    return lazyInputEvaluationEnabled;
+  }
+
+  /**
+   * Enable or disable the lazy evaluation of inputs. If enabled, the input
+   * expression of an input is only evaluated if a rule which can still
+   * match has an input entry for the input other than an empty input entry
+   * or <code>-</code>. Inputs which were not evaluated are reported to the
+   * listeners as {@link DmnLazyEvaluatedInput} which is not evaluated and
+   * has an untyped null value. Disabled by default.
+   *
+   * @param lazyInputEvaluationEnabled true to enable the lazy evaluation of inputs
+   */
+  public void setLazyInputEvaluationEnabled(boolean lazyInputEvaluationEnabled) {
+    this.lazyInputEvaluationEnabled = lazyInputEvaluationEnabled;
+  }
+
+  /**
+   * Enable or disable the lazy evaluation of inputs. If enabled, the input
+   * expression of an input is only evaluated if a rule which can still
+   * match has an input entry for the input other than an empty input entry
+   * or <code>-</code>. Inputs which were not evaluated are reported to the
+   * listeners as {@link DmnLazyEvaluatedInput} which is not evaluated and
+   * has an untyped null value. Disabled by default.
+   *
+   * @param lazyInputEvaluationEnabled true to enable the lazy evaluation of inputs
+   * @return this
+   */
+  public DefaultDmnEngineConfiguration lazyInputEvaluationEnabled(boolean lazyInputEvaluationEnabled) {
+    setLazyInputEvaluationEnabled(lazyInputEvaluationEnabled);
+    return this;
+  }
+
+  /**
+   * The compiler used to compile decision tables. Is initialized during the
+   * build of the engine if the decision table evaluation mode is
+   * {@link DecisionTableEvaluationMode#COMPILED}.
+   *
+   * @return the decision table compiler or null
+   */
+  public DmnDecisionTableCompiler getDecisionTableCompiler() {
+    return decisionTableCompiler;
+  }
+
 }
@@ -15,8 +15,12 @@ package org.camunda.bpm.dmn.engine.impl;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.camunda.bpm.dmn.engine.DmnDecision;
+import org.camunda.bpm.dmn.engine.impl.evaluation.CompiledDecisionTable;
+import org.camunda.bpm.dmn.engine.impl.spi.evaluation.DmnDecisionTableCompiler;
 import org.camunda.bpm.dmn.engine.impl.spi.hitpolicy.DmnHitPolicyHandler;
 
 public class DmnDecisionTableImpl implements DmnDecision {
@@ -30,6 +34,8 @@ public class DmnDecisionTableImpl implements DmnDecision {
   protected List<DmnDecisionTableOutputImpl> outputs = new ArrayList<DmnDecisionTableOutputImpl>();
   protected List<DmnDecisionTableRuleImpl> rules = new ArrayList<DmnDecisionTableRuleImpl>();
 
+  protected Map<DmnDecisionTableCompiler, CompiledDecisionTable> compiledDecisionTables = new ConcurrentHashMap<DmnDecisionTableCompiler, CompiledDecisionTable>();
+
   public String getKey() {
     return key;
   }
@@ -82,6 +88,29 @@ public class DmnDecisionTableImpl implements DmnDecision {
     this.rules = rules;
   }
 
+  /**
+   * @param compiler the compiler of the compiled form
+   * @return the compiled form of this decision table or null if it was not compiled by this compiler
+   */
+  public CompiledDecisionTable getCompiledDecisionTable(DmnDecisionTableCompiler compiler) {
+    return compiledDecisionTables.get(compiler);
+  }
+
+  /**
+   * Adds a compiled form of this decision table. It replaces the compiled form
+   * of the same compiler, the compiled forms of other compilers are kept.
+   */
+  public void addCompiledDecisionTable(CompiledDecisionTable compiledDecisionTable) {
+    compiledDecisionTables.put(compiledDecisionTable.getCompiler(), compiledDecisionTable);
+  }
+
+  /**
+   * @return the compiled forms of this decision table by their compiler
+   */
+  public Map<DmnDecisionTableCompiler, CompiledDecisionTable> getCompiledDecisionTables() {
+    return compiledDecisionTables;
+  }
+
   @Override
   public String toString() {
     return "DmnDecisionTableImpl{" +
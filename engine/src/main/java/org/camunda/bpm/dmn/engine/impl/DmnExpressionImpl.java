@@ -13,7 +13,13 @@
 
 package org.camunda.bpm.dmn.engine.impl;
 
+import org.camunda.bpm.dmn.engine.impl.spi.el.ElExpression;
+import org.camunda.bpm.dmn.engine.impl.spi.el.ElProvider;
 import org.camunda.bpm.dmn.engine.impl.spi.type.DmnTypeDefinition;
+import org.camunda.bpm.dmn.feel.impl.FeelEngine;
+import org.camunda.bpm.dmn.feel.impl.FeelSimpleExpression;
+import org.camunda.bpm.dmn.feel.impl.FeelSimpleUnaryTests;
+import org.camunda.bpm.engine.variable.value.TypedValue;
 
 public class DmnExpressionImpl {
 
@@ -24,6 +30,12 @@ public class DmnExpressionImpl {
   protected String expressionLanguage;
   protected String expression;
 
+  protected volatile CompiledExpression<FeelEngine, FeelSimpleUnaryTests> simpleUnaryTests;
+  protected volatile CompiledExpression<FeelEngine, FeelSimpleExpression> simpleExpression;
+  protected volatile CompiledExpression<ElProvider, ElExpression> elExpression;
+
+  protected TypedValue constantValue;
+
   public String getId() {
     return id;
   }
@@ -64,6 +76,66 @@ public class DmnExpressionImpl {
     this.expression = expression;
   }
 
+  /**
+   * @param feelEngine the FEEL engine which evaluates the expression
+   * @return the FEEL simple unary tests of this expression compiled by the
+   *         given FEEL engine or null if it was not compiled by this engine
+   */
+  public FeelSimpleUnaryTests getSimpleUnaryTests(FeelEngine feelEngine) {
+    return getCompiledExpression(simpleUnaryTests, feelEngine);
+  }
+
+  public void setSimpleUnaryTests(FeelEngine feelEngine, FeelSimpleUnaryTests simpleUnaryTests) {
+    this.simpleUnaryTests = new CompiledExpression<FeelEngine, FeelSimpleUnaryTests>(feelEngine, simpleUnaryTests);
+  }
+
+  /**
+   * @param feelEngine the FEEL engine which evaluates the expression
+   * @return the FEEL simple expression of this expression compiled by the
+   *         given FEEL engine or null if it was not compiled by this engine yet
+   */
+  public FeelSimpleExpression getSimpleExpression(FeelEngine feelEngine) {
+    return getCompiledExpression(simpleExpression, feelEngine);
+  }
+
+  public void setSimpleExpression(FeelEngine feelEngine, FeelSimpleExpression simpleExpression) {
+    this.simpleExpression = new CompiledExpression<FeelEngine, FeelSimpleExpression>(feelEngine, simpleExpression);
+  }
+
+  /**
+   * @param elProvider the EL provider which evaluates the expression
+   * @return the EL expression created for this expression by the given
+   *         EL provider or null if it was not created by this provider yet
+   */
+  public ElExpression getElExpression(ElProvider elProvider) {
+    return getCompiledExpression(elExpression, elProvider);
+  }
+
+  public void setElExpression(ElProvider elProvider, ElExpression elExpression) {
+    this.elExpression = new CompiledExpression<ElProvider, ElExpression>(elProvider, elExpression);
+  }
+
+  /**
+   * @return the value of a literal output entry transformed to the type
+   *         definition of this expression or null if it is not a literal
+   */
+  public TypedValue getConstantValue() {
+    return constantValue;
+  }
+
+  public void setConstantValue(TypedValue constantValue) {
+    this.constantValue = constantValue;
+  }
+
+  protected static <O, T> T getCompiledExpression(CompiledExpression<O, T> compiledExpression, O owner) {
+    if (compiledExpression != null && compiledExpression.owner == owner) {
+      return compiledExpression.expression;
+    }
+    else {
+      return null;
+    }
+  }
+
   public String toString() {
     return "DmnExpressionImpl{" +
       "id='" + id + '\'' +
@@ -74,4 +146,21 @@ public class DmnExpressionImpl {
       '}';
   }
 
+  /**
+   * A compiled form of the expression together with the engine which
+   * compiled it. It is replaced as a whole so concurrent evaluations
+   * never see the compiled form of another engine.
+   */
+  protected static class CompiledExpression<O, T> {
+
+    protected final O owner;
+    protected final T expression;
+
+    public CompiledExpression(O owner, T expression) {
+      this.owner = owner;
+      this.expression = expression;
+    }
+
+  }
+
 }
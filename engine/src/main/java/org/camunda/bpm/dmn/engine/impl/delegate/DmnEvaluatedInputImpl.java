@@ -13,16 +13,17 @@
 
 package org.camunda.bpm.dmn.engine.impl.delegate;
 
-import org.camunda.bpm.dmn.engine.delegate.DmnEvaluatedInput;
+import org.camunda.bpm.dmn.engine.delegate.DmnLazyEvaluatedInput;
 import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableInputImpl;
 import org.camunda.bpm.engine.variable.value.TypedValue;
 
-public class DmnEvaluatedInputImpl implements DmnEvaluatedInput {
+public class DmnEvaluatedInputImpl implements DmnLazyEvaluatedInput {
 
   protected String id;
   protected String name;
   protected String inputVariable;
   protected TypedValue value;
+  protected boolean evaluated = true;
 
   public DmnEvaluatedInputImpl(DmnDecisionTableInputImpl input) {
     this.id = input.getId();
@@ -62,6 +63,14 @@ public class DmnEvaluatedInputImpl implements DmnEvaluatedInput {
     this.value = value;
   }
 
+  public boolean isEvaluated() {
+    return evaluated;
+  }
+
+  public void setEvaluated(boolean evaluated) {
+    this.evaluated = evaluated;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -72,6 +81,7 @@ public class DmnEvaluatedInputImpl implements DmnEvaluatedInput {
     if (id != null ? !id.equals(that.id) : that.id != null) return false;
     if (name != null ? !name.equals(that.name) : that.name != null) return false;
     if (inputVariable != null ? !inputVariable.equals(that.inputVariable) : that.inputVariable != null) return false;
+    if (evaluated != that.evaluated) return false;
     return !(value != null ? !value.equals(that.value) : that.value != null);
 
   }
@@ -82,6 +92,7 @@ public class DmnEvaluatedInputImpl implements DmnEvaluatedInput {
     result = 31 * result + (name != null ? name.hashCode() : 0);
     result = 31 * result + (inputVariable != null ? inputVariable.hashCode() : 0);
     result = 31 * result + (value != null ? value.hashCode() : 0);
+    result = 31 * result + (evaluated ? 1 : 0);
     return result;
   }
 
@@ -92,6 +103,7 @@ public class DmnEvaluatedInputImpl implements DmnEvaluatedInput {
       ", name='" + name + '\'' +
       ", inputVariable='" + inputVariable + '\'' +
       ", value=" + value +
+      ", evaluated=" + evaluated +
       '}';
   }
 
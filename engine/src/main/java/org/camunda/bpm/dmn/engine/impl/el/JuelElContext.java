@@ -0,0 +1,73 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.engine.impl.el;
+
+import javax.el.ELContext;
+import javax.el.ELResolver;
+import javax.el.FunctionMapper;
+import javax.el.VariableMapper;
+
+import org.camunda.bpm.engine.variable.context.VariableContext;
+
+/**
+ * A minimal {@link ELContext} to evaluate already parsed JUEL expressions.
+ * The {@link VariableContext} is held in a field and returned by
+ * {@link #getContext(Class)} without a map lookup. Functions and variables
+ * are bound while parsing, therefore no mappers are provided.
+ */
+public class JuelElContext extends ELContext {
+
+  protected final ELResolver elResolver;
+  protected VariableContext variableContext;
+
+  public JuelElContext(ELResolver elResolver, VariableContext variableContext) {
+    this.elResolver = elResolver;
+    this.variableContext = variableContext;
+  }
+
+  public Object getContext(Class<?> key) {
+    if (key == VariableContext.class) {
+      return variableContext;
+    }
+    else {
+      return super.getContext(key);
+    }
+  }
+
+  public void putContext(Class<?> key, Object contextObject) {
+    if (key == VariableContext.class) {
+      variableContext = (VariableContext) contextObject;
+    }
+    else {
+      super.putContext(key, contextObject);
+    }
+  }
+
+  public ELResolver getELResolver() {
+    return elResolver;
+  }
+
+  public FunctionMapper getFunctionMapper() {
+    return null;
+  }
+
+  public VariableMapper getVariableMapper() {
+    return null;
+  }
+
+  public VariableContext getVariableContext() {
+    return variableContext;
+  }
+
+}
@@ -17,8 +17,6 @@ import javax.el.ELResolver;
 
 import org.camunda.bpm.engine.variable.context.VariableContext;
 
-import de.odysseus.el.util.SimpleContext;
-
 /**
  * @author Daniel Meyer
  *
@@ -32,9 +30,7 @@ public class JuelElContextFactory {
   }
 
   public ELContext createElContext(VariableContext variableContext) {
-    SimpleContext elContext = new SimpleContext(resolver);
-    elContext.putContext(VariableContext.class, variableContext);
-    return elContext;
+    return new JuelElContext(resolver, variableContext);
   }
 
 }
@@ -23,6 +23,9 @@ import javax.el.ResourceBundleELResolver;
 
 import org.camunda.bpm.dmn.engine.impl.spi.el.ElExpression;
 import org.camunda.bpm.dmn.engine.impl.spi.el.ElProvider;
+import org.camunda.bpm.dmn.feel.impl.juel.cache.Cache;
+import org.camunda.bpm.dmn.feel.impl.juel.cache.EvictionPolicy;
+import org.camunda.bpm.dmn.feel.impl.juel.cache.SegmentedCache;
 
 import de.odysseus.el.ExpressionFactoryImpl;
 import de.odysseus.el.TreeValueExpression;
@@ -36,18 +39,36 @@ import de.odysseus.el.util.SimpleContext;
  */
 public class JuelElProvider implements ElProvider {
 
+  public static final int DEFAULT_EXPRESSION_CACHE_SIZE = 1000;
+
   protected final ExpressionFactoryImpl factory;
   protected final JuelElContextFactory elContextFactory;
   protected final ELContext parsingElContext;
+  protected final Cache<String, JuelExpression> expressionCache;
 
   public JuelElProvider() {
     this(new ExpressionFactoryImpl(), new JuelElContextFactory(createDefaultResolver()));
   }
 
+  /**
+   * @param expressionCacheSize the maximal number of created expressions to cache, 0 disables the cache
+   */
+  public JuelElProvider(int expressionCacheSize) {
+    this(new ExpressionFactoryImpl(), new JuelElContextFactory(createDefaultResolver()), expressionCacheSize);
+  }
+
   public JuelElProvider(ExpressionFactoryImpl expressionFactory, JuelElContextFactory elContextFactory) {
+    this(expressionFactory, elContextFactory, DEFAULT_EXPRESSION_CACHE_SIZE);
+  }
+
+  /**
+   * @param expressionCacheSize the maximal number of created expressions to cache, 0 disables the cache
+   */
+  public JuelElProvider(ExpressionFactoryImpl expressionFactory, JuelElContextFactory elContextFactory, int expressionCacheSize) {
     this.factory = expressionFactory;
     this.elContextFactory = elContextFactory;
     this.parsingElContext = createDefaultParsingElContext();
+    this.expressionCache = new SegmentedCache<String, JuelExpression>(expressionCacheSize, EvictionPolicy.LRU);
   }
 
   protected SimpleContext createDefaultParsingElContext() {
@@ -55,8 +76,13 @@ public class JuelElProvider implements ElProvider {
   }
 
   public ElExpression createExpression(String expression) {
-    TreeValueExpression juelExpr = factory.createValueExpression(parsingElContext, expression, Object.class);
-    return new JuelExpression(juelExpr, elContextFactory);
+    JuelExpression juelExpression = expressionCache.get(expression);
+    if (juelExpression == null) {
+      TreeValueExpression juelExpr = factory.createValueExpression(parsingElContext, expression, Object.class);
+      juelExpression = new JuelExpression(juelExpr, elContextFactory);
+      expressionCache.put(expression, juelExpression);
+    }
+    return juelExpression;
   }
 
   public ExpressionFactoryImpl getFactory() {
@@ -71,6 +97,13 @@ public class JuelElProvider implements ElProvider {
     return parsingElContext;
   }
 
+  /**
+   * @return the cache of created expressions
+   */
+  public Cache<String, JuelExpression> getExpressionCache() {
+    return expressionCache;
+  }
+
   protected static ELResolver createDefaultResolver() {
     CompositeELResolver resolver = new CompositeELResolver();
     resolver.add(new VariableContextElResolver());
@@ -30,7 +30,7 @@ public class VariableContextElResolver extends ELResolver {
 
   @Override
   public Object getValue(ELContext context, Object base, Object property) {
-    VariableContext variableContext = (VariableContext) context.getContext(VariableContext.class);
+    VariableContext variableContext = getVariableContext(context);
     if(variableContext != null) {
       if(VARIABLE_CONTEXT_KEY.equals(property)) {
         context.setPropertyResolved(true);
@@ -68,6 +68,15 @@ public class VariableContextElResolver extends ELResolver {
     return Object.class;
   }
 
+  protected VariableContext getVariableContext(ELContext context) {
+    if (context instanceof JuelElContext) {
+      return ((JuelElContext) context).getVariableContext();
+    }
+    else {
+      return (VariableContext) context.getContext(VariableContext.class);
+    }
+  }
+
   protected Object unpack(TypedValue typedValue) {
     if(typedValue != null) {
       return typedValue.getValue();
@@ -0,0 +1,115 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.engine.impl.evaluation;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.camunda.bpm.engine.variable.context.VariableContext;
+
+/**
+ * Base class of condition indices which find the matching rules of the
+ * indexed input entries by a lookup and evaluate the other input entries.
+ */
+public abstract class AbstractConditionIndex implements ConditionIndex {
+
+  public static final int[] NO_RULES = new int[0];
+
+  protected final BitSet indexedRules;
+  protected final int[] unindexedRules;
+  protected final BitSet unindexedRuleSet;
+
+  /**
+   * @param indexedRules the rules whose input entries are indexed
+   * @param unindexedRules the rules in rule order whose input entries have to be evaluated
+   */
+  public AbstractConditionIndex(BitSet indexedRules, List<Integer> unindexedRules) {
+    this.indexedRules = indexedRules;
+    this.unindexedRules = toArray(unindexedRules);
+    this.unindexedRuleSet = new BitSet();
+    for (int ruleIdx : this.unindexedRules) {
+      unindexedRuleSet.set(ruleIdx);
+    }
+  }
+
+  public boolean filterMatchingRules(Object value, BitSet matchingRules, DmnExpressionEvaluator[] conditions, VariableContext variableContext) {
+    int[] rules = findMatchingRules(value);
+    if (rules == null) {
+      return false;
+    }
+
+    for (int i = 0; i < unindexedRules.length; i++) {
+      int ruleIdx = unindexedRules[i];
+      if (matchingRules.get(ruleIdx)) {
+        Object result = conditions[ruleIdx].evaluate(variableContext);
+        if (result == null || !result.equals(true)) {
+          matchingRules.clear(ruleIdx);
+        }
+      }
+    }
+
+    if (rules.length == 0) {
+      matchingRules.andNot(indexedRules);
+    }
+    else {
+      BitSet matchingIndexedRules = new BitSet(indexedRules.length());
+      for (int i = 0; i < rules.length; i++) {
+        if (matchingRules.get(rules[i])) {
+          matchingIndexedRules.set(rules[i]);
+        }
+      }
+      matchingRules.andNot(indexedRules);
+      matchingRules.or(matchingIndexedRules);
+    }
+
+    return true;
+  }
+
+  public BitSet findNotMatchingRules(Object value) {
+    int[] rules = findMatchingRules(value);
+    if (rules == null) {
+      return null;
+    }
+
+    BitSet notMatchingRules = (BitSet) indexedRules.clone();
+    for (int i = 0; i < rules.length; i++) {
+      notMatchingRules.clear(rules[i]);
+    }
+    return notMatchingRules;
+  }
+
+  public BitSet getUnindexedRules() {
+    return unindexedRuleSet;
+  }
+
+  /**
+   * @param value the value of the input
+   * @return the indexed rules whose input entries are satisfied by the value
+   *         or null if the value cannot be looked up in the index
+   */
+  protected abstract int[] findMatchingRules(Object value);
+
+  public int getIndexedRuleCount() {
+    return indexedRules.cardinality();
+  }
+
+  protected static int[] toArray(List<Integer> list) {
+    int[] array = new int[list.size()];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = list.get(i);
+    }
+    return array;
+  }
+
+}
@@ -0,0 +1,183 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.dmn.engine.impl.evaluation;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Collects the selectivity and the costs of the inputs of a compiled decision
+ * table and periodically orders the inputs by them. The inputs which
+ * eliminate the most rules per time are filtered first, so the following
+ * inputs only evaluate the input entries of few remaining rules.
+ *
+ * <p>The order only affects the filtering of the rules. The inputs are still
+ * evaluated and reported in declaration order.</p>
+ */
+public class AdaptiveInputOrder {
+
+  /** the number of evaluations after which the inputs are ordered again */
+  public static final int REORDER_INTERVAL = 1000;
+
+  protected final int inputCount;
+
+  protected volatile int[] order;
+
+  protected final AtomicLong evaluationCount = new AtomicLong();
+  /** the number of rules before and after the filtering indexed by input */
+  protected final AtomicLongArray candidateRuleCounts;
+  protected final AtomicLongArray matchingRuleCounts;
+  /** the time spent filtering the rules in nanoseconds indexed by input */
+  protected final AtomicLongArray filterNanos;
+
+  public AdaptiveInputOrder(int inputCount) {
+    this.inputCount = inputCount;
+    this.candidateRuleCounts = new AtomicLongArray(inputCount);
+    this.matchingRuleCounts = new AtomicLongArray(inputCount);
+    this.filterNanos = new AtomicLongArray(inputCount);
+
+    order = new int[inputCount];
+    for (int inputIdx = 0; inputIdx < inputCount; inputIdx++) {
+      order[inputIdx] = inputIdx;
+    }
+  }
+
+  /**
+   * @return the current order of the inputs, must not be modified
+   */
+  public int[] getCurrentOrder() {
+    return order;
+  }
+
+  /**
+   * Records the filtering of the rules by an input.
+   *
+   * @param inputIdx the index of the input
+   * @param candidateRuleCount the number of rules before the filtering
+   * @param matchingRuleCount the number of rules after the filtering
+   * @param nanos the time spent filtering in nanoseconds
+   */
+  public void recordFiltering(int inputIdx, int candidateRuleCount, int matchingRuleCount, long nanos) {
+    candidateRuleCounts.addAndGet(inputIdx, candidateRuleCount);
+    matchingRuleCounts.addAndGet(inputIdx, matchingRuleCount);
+    filterNanos.addAndGet(inputIdx, nanos);
+  }
+
+  /**
+   * Records a completed evaluation and orders the inputs again every
+   * {@link #REORDER_INTERVAL} evaluations.
+   */
+  public void recordEvaluation() {
+    if (evaluationCount.incrementAndGet() % REORDER_INTERVAL == 0) {
+      reorder();
+    }
+  }
+
+  /**
+   * Orders the inputs by their rank. Inputs without statistics keep their
+   * relative position behind the ranked inputs.
+   */
+  protected void reorder() {
+    final double[] ranks = new double[inputCount];
+    Integer[] inputs = new Integer[inputCount];
+    for (int inputIdx = 0; inputIdx < inputCount; inputIdx++) {
+      ranks[inputIdx] = getRank(inputIdx);
+      inputs[inputIdx] = inputIdx;
+    }
+
+    // the sort is stable, so inputs with the same rank keep their order
+    Arrays.sort(inputs, new Comparator<Integer>() {
+      public int compare(Integer input1, Integer input2) {
+        return Double.compare(ranks[input1], ranks[input2]);
+      }
+    });
+
+    int[] newOrder = new int[inputCount];
+    for (int i = 0; i < inputCount; i++) {
+      newOrder[i] = inputs[i];
+    }
+    order = newOrder;
+  }
+
+  /**
+   * @return the costs per eliminated rule of the input, lower is better
+   */
+  protected double getRank(int inputIdx) {
+    long candidateRuleCount = candidateRuleCounts.get(inputIdx);
+    if (candidateRuleCount == 0) {
+      return Double.POSITIVE_INFINITY;
+    }
+
+    double costPerRule = (double) filterNanos.get(inputIdx) / candidateRuleCount;
+    // avoid a division by zero for inputs which eliminate no rules
+    double eliminatedFraction = Math.max(1.0 - getSelectivity(inputIdx), 0.001);
+    return costPerRule / eliminatedFraction;
+  }
+
+  /**
+   * @return a copy of the current order of the inputs
+   */
+  public int[] getOrder() {
+    return order.clone();
+  }
+
+  public long getEvaluationCount() {
+    return evaluationCount.get();
+  }
+
+  /**
+   * @return the fraction of the rules which were not eliminated by the input,
+   *         1 if the input has filtered no rules yet
+   */
+  public double getSelectivity(int inputIdx) {
+    long candidateRuleCount = candidateRuleCounts.get(inputIdx);
+    if (candidateRuleCount == 0) {
+      return 1.0;
+    }
+    return (double) matchingRuleCounts.get(inputIdx) / candidateRuleCount;
+  }
+
+  /**
+   * @return the average time in nanoseconds to test a rule by the input, 0 if
+   *         the input has filtered no rules yet
+   */
+  public double getCostPerRule(int inputIdx) {
+    long candidateRuleCount = candidateRuleCounts.get(inputIdx);
+    if (candidateRuleCount == 0) {
+      return 0.0;
+    }
+    return (double) filterNanos.get(inputIdx) / candidateRuleCount;
+  }
+
+  public String toString() {
+    StringBuilder statistics = new StringBuilder();
+    for (int inputIdx = 0; inputIdx < inputCount; inputIdx++) {
+      if (inputIdx > 0) {
+        statistics.append(", ");
+      }
+      statistics.append(inputIdx)
+        .append("={selectivity=").append(getSelectivity(inputIdx))
+        .append(", costPerRule=").append(getCostPerRule(inputIdx))
+        .append('}');
+    }
+
+    return "AdaptiveInputOrder{" +
+      "order=" + Arrays.toString(order) +
+      ", evaluations=" + evaluationCount.get() +
+      ", inputs=[" + statistics +
+      "]}";
+  }
+
+}
@@ -0,0 +1,758 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.engine.impl.evaluation;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.camunda.bpm.dmn.engine.delegate.DmnEvaluatedDecisionRule;
+import org.camunda.bpm.dmn.engine.delegate.DmnEvaluatedOutput;
+import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableImpl;
+import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableInputImpl;
+import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableOutputImpl;
+import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableRuleImpl;
+import org.camunda.bpm.dmn.engine.impl.DmnExpressionImpl;
+import org.camunda.bpm.dmn.engine.impl.delegate.DmnDecisionTableEvaluationEventImpl;
+import org.camunda.bpm.dmn.engine.impl.delegate.DmnEvaluatedDecisionRuleImpl;
+import org.camunda.bpm.dmn.engine.impl.delegate.DmnEvaluatedInputImpl;
+import org.camunda.bpm.dmn.engine.impl.delegate.DmnEvaluatedOutputImpl;
+import org.camunda.bpm.dmn.engine.impl.spi.evaluation.DmnDecisionTableCompiler;
+import org.camunda.bpm.dmn.engine.impl.spi.hitpolicy.DmnHitPolicyHandler;
+import org.camunda.bpm.dmn.engine.impl.spi.hitpolicy.DmnShortCircuitHitPolicyHandler;
+import org.camunda.bpm.dmn.engine.impl.spi.type.DmnTypeDefinition;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.engine.variable.context.VariableContext;
+import org.camunda.bpm.engine.variable.impl.context.CompositeVariableContext;
+import org.camunda.bpm.engine.variable.impl.context.SingleVariableContext;
+import org.camunda.bpm.engine.variable.value.TypedValue;
+
+/**
+ * The evaluation plan of a decision table compiled by the
+ * {@link DefaultDmnDecisionTableCompiler}. The expression language, emptiness and
+ * evaluator of every expression as well as the type definitions of inputs
+ * and outputs are resolved once, so the evaluation only iterates over arrays
+ * and executes the evaluators.
+ *
+ * <p>The evaluation produces the same evaluation event as the interpreting
+ * evaluation of the {@link org.camunda.bpm.dmn.engine.impl.DefaultDmnDecisionContext}.</p>
+ */
+public class CompiledDecisionTable {
+
+  protected static final byte CONDITION_UNKNOWN = 0;
+  protected static final byte CONDITION_TRUE = 1;
+  protected static final byte CONDITION_FALSE = 2;
+
+  protected final DmnDecisionTableCompiler compiler;
+  protected final DmnDecisionTableImpl decisionTable;
+
+  protected final DmnDecisionTableInputImpl[] inputs;
+  protected final DmnExpressionEvaluator[] inputEvaluators;
+  protected final DmnTypeDefinition[] inputTypeDefinitions;
+  /** whether the value of an input is available as input variable for its input entries */
+  protected final boolean[] inputVariableBindings;
+
+  protected final DmnDecisionTableRuleImpl[] rules;
+  /** condition evaluators indexed by input and rule, identical input entries of an input share the evaluator */
+  protected final DmnExpressionEvaluator[][] conditionEvaluators;
+  /** the id of the distinct input entry indexed by input and rule */
+  protected final int[][] conditionIds;
+  /** the number of distinct input entries indexed by input */
+  protected final int[] conditionCounts;
+  /** condition indices indexed by input, null if the input has no index */
+  protected final ConditionIndex[] conditionIndices;
+  /** the index over consecutive range inputs or null */
+  protected final RangeTreeIndex rangeIndex;
+  /** the lookup table of the matching rules or null */
+  protected final EqualityLookupTable lookupTable;
+  /** the decision tree of the matching rules or null */
+  protected final DecisionTree decisionTree;
+  /** the adaptive order to filter the rules by the inputs or null for the declared order */
+  protected final AdaptiveInputOrder inputOrder;
+  /** the rules which test the input indexed by input or null if all inputs are evaluated */
+  protected final BitSet[] constrainedRules;
+
+  protected final DmnDecisionTableOutputImpl[] outputs;
+  protected final String[] outputNames;
+  protected final DmnTypeDefinition[] outputTypeDefinitions;
+  /** conclusion evaluators indexed by rule and output, null for empty output entries */
+  protected final DmnExpressionEvaluator[][] conclusionEvaluators;
+  /** the typed values of literal output entries indexed by rule and output, null if the output entry is evaluated */
+  protected final TypedValue[][] conclusionValues;
+
+  protected final long executedDecisionElements;
+
+  public CompiledDecisionTable(DmnDecisionTableCompiler compiler, DmnDecisionTableImpl decisionTable, DmnExpressionEvaluator[] inputEvaluators, DmnExpressionEvaluator[][] conditionEvaluators, int[][] conditionIds, int[] conditionCounts, ConditionIndex[] conditionIndices, RangeTreeIndex rangeIndex, EqualityLookupTable lookupTable, DecisionTree decisionTree, AdaptiveInputOrder inputOrder, BitSet[] constrainedRules, DmnExpressionEvaluator[][] conclusionEvaluators, TypedValue[][] conclusionValues) {
+    this.compiler = compiler;
+    this.decisionTable = decisionTable;
+
+    List<DmnDecisionTableInputImpl> inputList = decisionTable.getInputs();
+    this.inputs = inputList.toArray(new DmnDecisionTableInputImpl[inputList.size()]);
+    this.inputEvaluators = inputEvaluators;
+    this.inputTypeDefinitions = new DmnTypeDefinition[inputs.length];
+    this.inputVariableBindings = new boolean[inputs.length];
+    for (int i = 0; i < inputs.length; i++) {
+      DmnExpressionImpl expression = inputs[i].getExpression();
+      if (expression != null) {
+        inputTypeDefinitions[i] = expression.getTypeDefinition();
+        inputVariableBindings[i] = expression.getExpression() != null && !expression.getExpression().trim().isEmpty();
+      }
+    }
+
+    List<DmnDecisionTableRuleImpl> ruleList = decisionTable.getRules();
+    this.rules = ruleList.toArray(new DmnDecisionTableRuleImpl[ruleList.size()]);
+    this.conditionEvaluators = conditionEvaluators;
+    this.conditionIds = conditionIds;
+    this.conditionCounts = conditionCounts;
+    this.conditionIndices = conditionIndices;
+    this.rangeIndex = rangeIndex;
+    this.lookupTable = lookupTable;
+    this.decisionTree = decisionTree;
+    this.inputOrder = inputOrder;
+    this.constrainedRules = constrainedRules;
+
+    List<DmnDecisionTableOutputImpl> outputList = decisionTable.getOutputs();
+    this.outputs = outputList.toArray(new DmnDecisionTableOutputImpl[outputList.size()]);
+    this.outputNames = new String[outputs.length];
+    this.outputTypeDefinitions = new DmnTypeDefinition[outputs.length];
+    for (int i = 0; i < outputs.length; i++) {
+      outputNames[i] = outputs[i].getOutputName();
+      outputTypeDefinitions[i] = outputs[i].getTypeDefinition();
+    }
+    this.conclusionEvaluators = conclusionEvaluators;
+    this.conclusionValues = conclusionValues;
+
+    this.executedDecisionElements = (inputs.length + outputs.length) * rules.length;
+  }
+
+  /**
+   * Evaluate the compiled decision table. The hit policy is not applied to the
+   * returned evaluation event.
+   *
+   * @param variableContext the available variable context
+   * @return the evaluation event containing the evaluated inputs and all matching rules
+   */
+  public DmnDecisionTableEvaluationEventImpl evaluate(VariableContext variableContext) {
+    DmnDecisionTableEvaluationEventImpl evaluationResult = new DmnDecisionTableEvaluationEventImpl();
+    evaluationResult.setDecisionTable(decisionTable);
+    evaluationResult.setExecutedDecisionElements(executedDecisionElements);
+
+    // the hit policy handler can be replaced after the compilation
+    DmnHitPolicyHandler hitPolicyHandler = decisionTable.getHitPolicyHandler();
+    if (hitPolicyHandler instanceof DmnShortCircuitHitPolicyHandler) {
+      evaluateRulesInOrder((DmnShortCircuitHitPolicyHandler) hitPolicyHandler, variableContext, evaluationResult);
+    }
+    else if (lookupTable != null) {
+      lookupAllRules(variableContext, evaluationResult);
+    }
+    else if (decisionTree != null) {
+      traverseDecisionTree(variableContext, evaluationResult);
+    }
+    else if (inputOrder != null) {
+      evaluateAllRulesInAdaptiveOrder(variableContext, evaluationResult);
+    }
+    else {
+      evaluateAllRules(variableContext, evaluationResult);
+    }
+
+    return evaluationResult;
+  }
+
+  /**
+   * Evaluates the conditions input by input for all rules which matched the
+   * previous inputs and the output entries of all matching rules.
+   */
+  protected void evaluateAllRules(VariableContext variableContext, DmnDecisionTableEvaluationEventImpl evaluationResult) {
+    BitSet matchingRules = new BitSet(rules.length);
+    matchingRules.set(0, rules.length);
+
+    // the rules of the range index are set aside until the values of all its inputs are known
+    BitSet matchingIndexedRules = null;
+    double[] rangeIndexKeys = null;
+
+    for (int inputIdx = 0; inputIdx < inputs.length; inputIdx++) {
+      boolean rangeIndexInput = rangeIndex != null && rangeIndex.containsInput(inputIdx);
+      if (!rangeIndexInput && isInputSkipped(inputIdx, matchingRules)) {
+        evaluationResult.getInputs().add(createUnevaluatedInput(inputIdx));
+        continue;
+      }
+
+      DmnEvaluatedInputImpl evaluatedInput = evaluateInput(inputIdx, variableContext);
+      evaluationResult.getInputs().add(evaluatedInput);
+
+      int dimension = rangeIndexInput ? inputIdx - rangeIndex.getFirstInput() : -1;
+      if (dimension == 0) {
+        matchingIndexedRules = (BitSet) matchingRules.clone();
+        matchingIndexedRules.and(rangeIndex.getIndexedRules());
+        matchingRules.andNot(rangeIndex.getIndexedRules());
+        rangeIndexKeys = new double[rangeIndex.getDimensions()];
+      }
+      if (rangeIndexInput && matchingIndexedRules != null) {
+        Double key = rangeIndex.getKey(inputIdx, evaluatedInput.getValue().getValue());
+        if (key != null) {
+          rangeIndexKeys[dimension] = key;
+        }
+        else {
+          // the value cannot be looked up, filter the set aside rules by the previous inputs and this input as usual
+          rangeIndex.filterMatchingRules(rangeIndexKeys, dimension, matchingIndexedRules);
+          matchingRules.or(matchingIndexedRules);
+          matchingIndexedRules = null;
+        }
+      }
+
+      narrowMatchingRules(inputIdx, evaluatedInput, matchingRules, variableContext);
+
+      if (rangeIndexInput && matchingIndexedRules != null && dimension == rangeIndex.getDimensions() - 1) {
+        rangeIndex.filterMatchingRules(rangeIndexKeys, rangeIndexKeys.length, matchingIndexedRules);
+        matchingRules.or(matchingIndexedRules);
+        matchingIndexedRules = null;
+      }
+    }
+
+    evaluateMatchingRules(matchingRules, variableContext, evaluationResult);
+  }
+
+  /**
+   * Evaluates all inputs in declared order and filters the rules by the
+   * inputs in the adaptive order. The filtering stops as soon as no rule
+   * matches, so the input entries of rules which are eliminated by a later
+   * input in declared order are not evaluated. If the lazy evaluation of
+   * inputs is enabled, the inputs are evaluated in the adaptive order when
+   * they filter the rules.
+   */
+  protected void evaluateAllRulesInAdaptiveOrder(VariableContext variableContext, DmnDecisionTableEvaluationEventImpl evaluationResult) {
+    DmnEvaluatedInputImpl[] evaluatedInputs = new DmnEvaluatedInputImpl[inputs.length];
+    if (constrainedRules == null) {
+      for (int inputIdx = 0; inputIdx < inputs.length; inputIdx++) {
+        evaluatedInputs[inputIdx] = evaluateInput(inputIdx, variableContext);
+      }
+    }
+
+    BitSet matchingRules = new BitSet(rules.length);
+    matchingRules.set(0, rules.length);
+
+    int[] order = inputOrder.getCurrentOrder();
+    for (int i = 0; i < order.length && !matchingRules.isEmpty(); i++) {
+      int inputIdx = order[i];
+      if (evaluatedInputs[inputIdx] == null) {
+        if (isInputSkipped(inputIdx, matchingRules)) {
+          continue;
+        }
+        evaluatedInputs[inputIdx] = evaluateInput(inputIdx, variableContext);
+      }
+
+      int candidateRuleCount = matchingRules.cardinality();
+      long start = System.nanoTime();
+
+      narrowMatchingRules(inputIdx, evaluatedInputs[inputIdx], matchingRules, variableContext);
+
+      inputOrder.recordFiltering(inputIdx, candidateRuleCount, matchingRules.cardinality(), System.nanoTime() - start);
+    }
+    inputOrder.recordEvaluation();
+
+    addEvaluatedInputs(evaluatedInputs, evaluationResult);
+    evaluateMatchingRules(matchingRules, variableContext, evaluationResult);
+  }
+
+  /**
+   * Finds the matching rules by the lookup table. If the value of an input
+   * cannot be looked up, the rules are filtered input by input instead.
+   */
+  protected void lookupAllRules(VariableContext variableContext, DmnDecisionTableEvaluationEventImpl evaluationResult) {
+    DmnEvaluatedInputImpl[] evaluatedInputs = new DmnEvaluatedInputImpl[inputs.length];
+    Object[] keys = new Object[inputs.length];
+
+    for (int inputIdx = 0; inputIdx < inputs.length; inputIdx++) {
+      DmnEvaluatedInputImpl evaluatedInput = evaluateInput(inputIdx, variableContext);
+      evaluationResult.getInputs().add(evaluatedInput);
+      evaluatedInputs[inputIdx] = evaluatedInput;
+
+      keys[inputIdx] = lookupTable.getKey(inputIdx, evaluatedInput.getValue().getValue());
+      if (keys[inputIdx] == null) {
+        BitSet matchingRules = new BitSet(rules.length);
+        matchingRules.set(0, rules.length);
+        for (int previousInputIdx = 0; previousInputIdx < inputIdx; previousInputIdx++) {
+          narrowMatchingRules(previousInputIdx, evaluatedInputs[previousInputIdx], matchingRules, variableContext);
+        }
+        narrowMatchingRules(inputIdx, evaluatedInput, matchingRules, variableContext);
+        for (int nextInputIdx = inputIdx + 1; nextInputIdx < inputs.length; nextInputIdx++) {
+          evaluatedInput = evaluateInput(nextInputIdx, variableContext);
+          evaluationResult.getInputs().add(evaluatedInput);
+          narrowMatchingRules(nextInputIdx, evaluatedInput, matchingRules, variableContext);
+        }
+
+        evaluateMatchingRules(matchingRules, variableContext, evaluationResult);
+        return;
+      }
+    }
+
+    int[] lookedUpRules = lookupTable.findMatchingRules(keys);
+    List<DmnEvaluatedDecisionRule> evaluatedDecisionRules = new ArrayList<DmnEvaluatedDecisionRule>(lookedUpRules.length);
+    for (int i = 0; i < lookedUpRules.length; i++) {
+      evaluatedDecisionRules.add(evaluateMatchingRule(lookedUpRules[i], variableContext));
+    }
+    evaluationResult.setMatchingRules(evaluatedDecisionRules);
+  }
+
+  /**
+   * Finds the matching rules by following the path of the input values
+   * through the decision tree. If the value of an input cannot be tested by
+   * the tree, the rules of the reached node are filtered input by input
+   * instead.
+   */
+  protected void traverseDecisionTree(VariableContext variableContext, DmnDecisionTableEvaluationEventImpl evaluationResult) {
+    int node = decisionTree.getRoot();
+
+    for (int inputIdx = 0; inputIdx < inputs.length; inputIdx++) {
+      if (isInputSkipped(inputIdx, decisionTree.getNodeRules(node))) {
+        evaluationResult.getInputs().add(createUnevaluatedInput(inputIdx));
+        node = decisionTree.getAnyChild(node);
+        continue;
+      }
+
+      DmnEvaluatedInputImpl evaluatedInput = evaluateInput(inputIdx, variableContext);
+      evaluationResult.getInputs().add(evaluatedInput);
+
+      int child = decisionTree.getChild(node, inputIdx, evaluatedInput.getValue().getValue());
+      if (child < 0) {
+        BitSet matchingRules = (BitSet) decisionTree.getNodeRules(node).clone();
+        narrowMatchingRules(inputIdx, evaluatedInput, matchingRules, variableContext);
+        for (int nextInputIdx = inputIdx + 1; nextInputIdx < inputs.length; nextInputIdx++) {
+          if (isInputSkipped(nextInputIdx, matchingRules)) {
+            evaluationResult.getInputs().add(createUnevaluatedInput(nextInputIdx));
+            continue;
+          }
+          evaluatedInput = evaluateInput(nextInputIdx, variableContext);
+          evaluationResult.getInputs().add(evaluatedInput);
+          narrowMatchingRules(nextInputIdx, evaluatedInput, matchingRules, variableContext);
+        }
+
+        evaluateMatchingRules(matchingRules, variableContext, evaluationResult);
+        return;
+      }
+      node = child;
+    }
+
+    int[] leafRules = decisionTree.getLeafRules(node);
+    List<DmnEvaluatedDecisionRule> evaluatedDecisionRules = new ArrayList<DmnEvaluatedDecisionRule>(leafRules.length);
+    for (int i = 0; i < leafRules.length; i++) {
+      evaluatedDecisionRules.add(evaluateMatchingRule(leafRules[i], variableContext));
+    }
+    evaluationResult.setMatchingRules(evaluatedDecisionRules);
+  }
+
+  /**
+   * Narrows the matching rules in place by the input entries of the input.
+   */
+  protected void narrowMatchingRules(int inputIdx, DmnEvaluatedInputImpl evaluatedInput, BitSet matchingRules, VariableContext variableContext) {
+    VariableContext localVariableContext = getLocalVariableContext(inputIdx, evaluatedInput, variableContext);
+
+    if (!filterMatchingRules(inputIdx, evaluatedInput, matchingRules, localVariableContext)) {
+      byte[] conditionResults = createConditionResults(inputIdx);
+      for (int ruleIdx = matchingRules.nextSetBit(0); ruleIdx >= 0; ruleIdx = matchingRules.nextSetBit(ruleIdx + 1)) {
+        if (!isConditionTrue(inputIdx, ruleIdx, localVariableContext, conditionResults)) {
+          matchingRules.clear(ruleIdx);
+        }
+      }
+    }
+  }
+
+  /**
+   * @return the array to memoize the results of the distinct input entries
+   *         of the input during an evaluation or null if the input entries of
+   *         the input are all distinct
+   */
+  protected byte[] createConditionResults(int inputIdx) {
+    if (conditionCounts[inputIdx] < rules.length) {
+      return new byte[conditionCounts[inputIdx]];
+    }
+    else {
+      return null;
+    }
+  }
+
+  /**
+   * Evaluates the input entry of the rule unless an identical input entry of
+   * the input was already evaluated.
+   *
+   * @param conditionResults the memoized results of the input or null
+   */
+  protected boolean isConditionTrue(int inputIdx, int ruleIdx, VariableContext localVariableContext, byte[] conditionResults) {
+    if (conditionResults == null) {
+      return isTrue(conditionEvaluators[inputIdx][ruleIdx].evaluate(localVariableContext));
+    }
+
+    int conditionId = conditionIds[inputIdx][ruleIdx];
+    if (conditionResults[conditionId] == CONDITION_UNKNOWN) {
+      boolean result = isTrue(conditionEvaluators[inputIdx][ruleIdx].evaluate(localVariableContext));
+      conditionResults[conditionId] = result ? CONDITION_TRUE : CONDITION_FALSE;
+    }
+    return conditionResults[conditionId] == CONDITION_TRUE;
+  }
+
+  protected void evaluateMatchingRules(BitSet matchingRules, VariableContext variableContext, DmnDecisionTableEvaluationEventImpl evaluationResult) {
+    List<DmnEvaluatedDecisionRule> evaluatedDecisionRules = new ArrayList<DmnEvaluatedDecisionRule>(matchingRules.cardinality());
+    for (int ruleIdx = matchingRules.nextSetBit(0); ruleIdx >= 0; ruleIdx = matchingRules.nextSetBit(ruleIdx + 1)) {
+      evaluatedDecisionRules.add(evaluateMatchingRule(ruleIdx, variableContext));
+    }
+    evaluationResult.setMatchingRules(evaluatedDecisionRules);
+  }
+
+  /**
+   * Narrows the matching rules by the condition index of the input. The index
+   * is only used if the input entries test the value of the input variable.
+   *
+   * @return true if the matching rules were narrowed by the index
+   */
+  protected boolean filterMatchingRules(int inputIdx, DmnEvaluatedInputImpl evaluatedInput, BitSet matchingRules, VariableContext localVariableContext) {
+    ConditionIndex conditionIndex = conditionIndices[inputIdx];
+    if (conditionIndex != null && inputVariableBindings[inputIdx]) {
+      Object value = evaluatedInput.getValue().getValue();
+      return conditionIndex.filterMatchingRules(value, matchingRules, conditionEvaluators[inputIdx], localVariableContext);
+    }
+    else {
+      return false;
+    }
+  }
+
+  /**
+   * Evaluates the rules in rule order until the hit policy handler declares
+   * the evaluation as complete. The output entries of a rule are evaluated
+   * as soon as it matches. The matching rules are found by the lookup table
+   * if possible, otherwise the condition indices narrow the candidate rules
+   * and only the input entries which are not indexed are evaluated. If the
+   * lazy evaluation of inputs is enabled, an input is evaluated when the
+   * first input entry has to test it and the condition indices are not used.
+   */
+  protected void evaluateRulesInOrder(DmnShortCircuitHitPolicyHandler hitPolicyHandler, VariableContext variableContext, DmnDecisionTableEvaluationEventImpl evaluationResult) {
+    DmnEvaluatedInputImpl[] evaluatedInputs = new DmnEvaluatedInputImpl[inputs.length];
+    VariableContext[] localVariableContexts = new VariableContext[inputs.length];
+    int[] lookedUpRules = null;
+    if (constrainedRules == null) {
+      for (int inputIdx = 0; inputIdx < inputs.length; inputIdx++) {
+        evaluateInput(inputIdx, evaluatedInputs, localVariableContexts, variableContext);
+      }
+      lookedUpRules = lookupRules(evaluatedInputs);
+    }
+
+    List<DmnEvaluatedDecisionRule> evaluatedDecisionRules = new ArrayList<DmnEvaluatedDecisionRule>();
+    if (lookedUpRules != null) {
+      for (int i = 0; i < lookedUpRules.length; i++) {
+        evaluatedDecisionRules.add(evaluateMatchingRule(lookedUpRules[i], variableContext));
+        if (hitPolicyHandler.isEvaluationComplete(evaluatedDecisionRules)) {
+          break;
+        }
+      }
+    }
+    else {
+      byte[][] conditionResults = new byte[inputs.length][];
+      for (int inputIdx = 0; inputIdx < inputs.length; inputIdx++) {
+        conditionResults[inputIdx] = createConditionResults(inputIdx);
+      }
+
+      BitSet candidateRules = new BitSet(rules.length);
+      candidateRules.set(0, rules.length);
+      BitSet[] notMatchingRules = new BitSet[inputs.length];
+      if (constrainedRules == null) {
+        filterCandidateRules(evaluatedInputs, candidateRules, notMatchingRules);
+      }
+
+      for (int ruleIdx = candidateRules.nextSetBit(0); ruleIdx >= 0; ruleIdx = candidateRules.nextSetBit(ruleIdx + 1)) {
+        if (isRuleMatching(ruleIdx, evaluatedInputs, localVariableContexts, conditionResults, notMatchingRules, variableContext)) {
+          evaluatedDecisionRules.add(evaluateMatchingRule(ruleIdx, variableContext));
+          if (hitPolicyHandler.isEvaluationComplete(evaluatedDecisionRules)) {
+            break;
+          }
+        }
+      }
+    }
+
+    addEvaluatedInputs(evaluatedInputs, evaluationResult);
+    evaluationResult.setMatchingRules(evaluatedDecisionRules);
+  }
+
+  /**
+   * @return the matching rules of the evaluated inputs found by the lookup
+   *         table or the decision tree or null if the decision table has
+   *         neither or a value cannot be looked up
+   */
+  protected int[] lookupRules(DmnEvaluatedInputImpl[] evaluatedInputs) {
+    if (decisionTree != null) {
+      int node = decisionTree.getRoot();
+      for (int inputIdx = 0; inputIdx < inputs.length && node >= 0; inputIdx++) {
+        node = decisionTree.getChild(node, inputIdx, evaluatedInputs[inputIdx].getValue().getValue());
+      }
+      return node >= 0 ? decisionTree.getLeafRules(node) : null;
+    }
+    else if (lookupTable == null) {
+      return null;
+    }
+
+    Object[] keys = new Object[inputs.length];
+    for (int inputIdx = 0; inputIdx < inputs.length; inputIdx++) {
+      keys[inputIdx] = lookupTable.getKey(inputIdx, evaluatedInputs[inputIdx].getValue().getValue());
+      if (keys[inputIdx] == null) {
+        return null;
+      }
+    }
+    return lookupTable.findMatchingRules(keys);
+  }
+
+  /**
+   * Finds the rules which do not match by the condition indices of the
+   * evaluated inputs without evaluating any input entry. A rule is only
+   * removed from the candidate rules if none of its input entries of the
+   * previous inputs has to be evaluated, so the input entries are evaluated
+   * in the same order as by the interpreting evaluation. The rules of the
+   * range index are filtered by a single query of all its inputs.
+   *
+   * @param notMatchingRules is filled with the indexed rules which do not
+   *        match indexed by input, null if the input has no usable index
+   */
+  protected void filterCandidateRules(DmnEvaluatedInputImpl[] evaluatedInputs, BitSet candidateRules, BitSet[] notMatchingRules) {
+    BitSet rangeNotMatchingRules = findRangeNotMatchingRules(evaluatedInputs);
+    BitSet evaluatedRules = new BitSet(rules.length);
+    for (int inputIdx = 0; inputIdx < inputs.length; inputIdx++) {
+      ConditionIndex conditionIndex = conditionIndices[inputIdx];
+      Object value = evaluatedInputs[inputIdx].getValue().getValue();
+      if (rangeNotMatchingRules != null && rangeIndex.containsInput(inputIdx)) {
+        notMatchingRules[inputIdx] = findRangeInputNotMatchingRules(inputIdx, value, rangeNotMatchingRules);
+      }
+      else if (conditionIndex != null && inputVariableBindings[inputIdx]) {
+        notMatchingRules[inputIdx] = conditionIndex.findNotMatchingRules(value);
+      }
+
+      if (notMatchingRules[inputIdx] != null) {
+        BitSet skippedRules = (BitSet) notMatchingRules[inputIdx].clone();
+        skippedRules.andNot(evaluatedRules);
+        candidateRules.andNot(skippedRules);
+        evaluatedRules.or(conditionIndex.getUnindexedRules());
+      }
+      else {
+        evaluatedRules.set(0, rules.length);
+      }
+    }
+  }
+
+  /**
+   * @return the indexed rules of the range index which do not match the values
+   *         of its inputs or null if the decision table has no range index or
+   *         a value cannot be looked up
+   */
+  protected BitSet findRangeNotMatchingRules(DmnEvaluatedInputImpl[] evaluatedInputs) {
+    if (rangeIndex == null) {
+      return null;
+    }
+
+    double[] keys = new double[rangeIndex.getDimensions()];
+    for (int dimension = 0; dimension < keys.length; dimension++) {
+      int inputIdx = rangeIndex.getFirstInput() + dimension;
+      if (!inputVariableBindings[inputIdx]) {
+        return null;
+      }
+      Double key = rangeIndex.getKey(inputIdx, evaluatedInputs[inputIdx].getValue().getValue());
+      if (key == null) {
+        return null;
+      }
+      keys[dimension] = key;
+    }
+    return rangeIndex.findNotMatchingRules(keys);
+  }
+
+  /**
+   * Finds the indexed rules of an input of the range index which do not
+   * match. The rules of the range index do not match at its first input, the
+   * other rules are filtered by the interval index of the input.
+   */
+  protected BitSet findRangeInputNotMatchingRules(int inputIdx, Object value, BitSet rangeNotMatchingRules) {
+    BitSet notMatchingRules;
+    if (rangeIndex.isInputCovered(inputIdx)) {
+      notMatchingRules = new BitSet(rules.length);
+    }
+    else {
+      notMatchingRules = conditionIndices[inputIdx].findNotMatchingRules(value);
+      notMatchingRules.andNot(rangeIndex.getIndexedRules());
+    }
+
+    if (inputIdx == rangeIndex.getFirstInput()) {
+      notMatchingRules.or(rangeNotMatchingRules);
+    }
+    return notMatchingRules;
+  }
+
+  /**
+   * @param notMatchingRules the indexed rules which do not match indexed by input,
+   *        null if all input entries of the input have to be evaluated
+   */
+  protected boolean isRuleMatching(int ruleIdx, DmnEvaluatedInputImpl[] evaluatedInputs, VariableContext[] localVariableContexts, byte[][] conditionResults, BitSet[] notMatchingRules, VariableContext variableContext) {
+    for (int inputIdx = 0; inputIdx < inputs.length; inputIdx++) {
+      if (evaluatedInputs[inputIdx] == null) {
+        if (!constrainedRules[inputIdx].get(ruleIdx)) {
+          continue;
+        }
+        evaluateInput(inputIdx, evaluatedInputs, localVariableContexts, variableContext);
+      }
+      if (notMatchingRules[inputIdx] != null) {
+        if (notMatchingRules[inputIdx].get(ruleIdx)) {
+          return false;
+        }
+        else if (!conditionIndices[inputIdx].getUnindexedRules().get(ruleIdx)) {
+          // the indexed input entry is satisfied or matches every value
+          continue;
+        }
+      }
+      if (!isConditionTrue(inputIdx, ruleIdx, localVariableContexts[inputIdx], conditionResults[inputIdx])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  protected VariableContext getLocalVariableContext(int inputIdx, DmnEvaluatedInputImpl evaluatedInput, VariableContext variableContext) {
+    if (inputVariableBindings[inputIdx]) {
+      return CompositeVariableContext.compose(
+        SingleVariableContext.singleVariable(evaluatedInput.getInputVariable(), evaluatedInput.getValue()),
+        variableContext
+      );
+    }
+    else {
+      return variableContext;
+    }
+  }
+
+  protected boolean isTrue(Object result) {
+    return result != null && result.equals(true);
+  }
+
+  protected void evaluateInput(int inputIdx, DmnEvaluatedInputImpl[] evaluatedInputs, VariableContext[] localVariableContexts, VariableContext variableContext) {
+    evaluatedInputs[inputIdx] = evaluateInput(inputIdx, variableContext);
+    localVariableContexts[inputIdx] = getLocalVariableContext(inputIdx, evaluatedInputs[inputIdx], variableContext);
+  }
+
+  /**
+   * @return true if the lazy evaluation of inputs is enabled and none of the
+   *         rules tests the input
+   */
+  protected boolean isInputSkipped(int inputIdx, BitSet matchingRules) {
+    return constrainedRules != null && !matchingRules.intersects(constrainedRules[inputIdx]);
+  }
+
+  /**
+   * Adds the inputs in declared order to the evaluation event, the inputs
+   * which were not evaluated are marked as unevaluated.
+   */
+  protected void addEvaluatedInputs(DmnEvaluatedInputImpl[] evaluatedInputs, DmnDecisionTableEvaluationEventImpl evaluationResult) {
+    for (int inputIdx = 0; inputIdx < inputs.length; inputIdx++) {
+      if (evaluatedInputs[inputIdx] != null) {
+        evaluationResult.getInputs().add(evaluatedInputs[inputIdx]);
+      }
+      else {
+        evaluationResult.getInputs().add(createUnevaluatedInput(inputIdx));
+      }
+    }
+  }
+
+  protected DmnEvaluatedInputImpl createUnevaluatedInput(int inputIdx) {
+    DmnEvaluatedInputImpl evaluatedInput = new DmnEvaluatedInputImpl(inputs[inputIdx]);
+    evaluatedInput.setEvaluated(false);
+    evaluatedInput.setValue(Variables.untypedNullValue());
+    return evaluatedInput;
+  }
+
+  protected DmnEvaluatedInputImpl evaluateInput(int inputIdx, VariableContext variableContext) {
+    DmnEvaluatedInputImpl evaluatedInput = new DmnEvaluatedInputImpl(inputs[inputIdx]);
+
+    DmnExpressionEvaluator inputEvaluator = inputEvaluators[inputIdx];
+    if (inputEvaluator != null) {
+      Object value = inputEvaluator.evaluate(variableContext);
+      evaluatedInput.setValue(inputTypeDefinitions[inputIdx].transform(value));
+    }
+    else {
+      evaluatedInput.setValue(Variables.untypedNullValue());
+    }
+
+    return evaluatedInput;
+  }
+
+  protected DmnEvaluatedDecisionRule evaluateMatchingRule(int ruleIdx, VariableContext variableContext) {
+    DmnEvaluatedDecisionRuleImpl evaluatedDecisionRule = new DmnEvaluatedDecisionRuleImpl(rules[ruleIdx]);
+
+    Map<String, DmnEvaluatedOutput> outputEntries = new LinkedHashMap<String, DmnEvaluatedOutput>();
+    DmnExpressionEvaluator[] conclusions = conclusionEvaluators[ruleIdx];
+    for (int outputIdx = 0; outputIdx < outputs.length; outputIdx++) {
+      if (conclusions[outputIdx] != null) {
+        TypedValue typedValue = conclusionValues[ruleIdx][outputIdx];
+        if (typedValue == null) {
+          Object value = conclusions[outputIdx].evaluate(variableContext);
+          typedValue = outputTypeDefinitions[outputIdx].transform(value);
+        }
+        outputEntries.put(outputNames[outputIdx], new DmnEvaluatedOutputImpl(outputs[outputIdx], typedValue));
+      }
+    }
+    evaluatedDecisionRule.setOutputEntries(outputEntries);
+
+    return evaluatedDecisionRule;
+  }
+
+  /**
+   * @return the compiler which created this compiled decision table
+   */
+  public DmnDecisionTableCompiler getCompiler() {
+    return compiler;
+  }
+
+  /**
+   * @return the index over consecutive range inputs or null if the decision table has none
+   */
+  public RangeTreeIndex getRangeIndex() {
+    return rangeIndex;
+  }
+
+  /**
+   * @return the lookup table of the matching rules or null if the decision table has none
+   */
+  public EqualityLookupTable getLookupTable() {
+    return lookupTable;
+  }
+
+  /**
+   * @return the decision tree of the matching rules or null if the decision table has none
+   */
+  public DecisionTree getDecisionTree() {
+    return decisionTree;
+  }
+
+  /**
+   * @return the adaptive order and statistics of the inputs or null if the inputs filter the rules in declared order
+   */
+  public AdaptiveInputOrder getInputOrder() {
+    return inputOrder;
+  }
+
+  public DmnDecisionTableImpl getDecisionTable() {
+    return decisionTable;
+  }
+
+  public String toString() {
+    return "CompiledDecisionTable{" +
+      "decisionTable=" + decisionTable.getKey() +
+      ", inputs=" + inputs.length +
+      ", rules=" + rules.length +
+      ", outputs=" + outputs.length +
+      '}';
+  }
+
+}
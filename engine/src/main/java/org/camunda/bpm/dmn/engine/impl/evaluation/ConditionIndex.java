@@ -0,0 +1,61 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.engine.impl.evaluation;
+
+import java.util.BitSet;
+
+import org.camunda.bpm.engine.variable.context.VariableContext;
+
+/**
+ * Index over the input entries of a single input of a compiled decision
+ * table. It finds the rules which match an input value without evaluating
+ * every input entry.
+ */
+public interface ConditionIndex {
+
+  /**
+   * Removes all rules from the matching rules whose input entry is not
+   * satisfied by the input value. Input entries which are not indexed are
+   * evaluated in rule order.
+   *
+   * @param value the value of the input
+   * @param matchingRules the rules which matched the previous inputs
+   * @param conditions the evaluators of the input entries indexed by rule
+   * @param variableContext the variable context to evaluate input entries which are not indexed
+   * @return true if the matching rules were narrowed, false if the index cannot be used
+   *         for the input value and the matching rules are unchanged
+   */
+  boolean filterMatchingRules(Object value, BitSet matchingRules, DmnExpressionEvaluator[] conditions, VariableContext variableContext);
+
+  /**
+   * Finds the indexed rules whose input entry is not satisfied by the input
+   * value without evaluating any input entry.
+   *
+   * @param value the value of the input
+   * @return the indexed rules which do not match or null if the index cannot
+   *         be used for the input value
+   */
+  BitSet findNotMatchingRules(Object value);
+
+  /**
+   * @return the rules whose input entries are not indexed and have to be evaluated
+   */
+  BitSet getUnindexedRules();
+
+  /**
+   * @return the number of rules whose input entries are indexed
+   */
+  int getIndexedRuleCount();
+
+}
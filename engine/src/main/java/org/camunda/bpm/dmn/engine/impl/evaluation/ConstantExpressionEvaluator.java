@@ -0,0 +1,39 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.engine.impl.evaluation;
+
+import org.camunda.bpm.engine.variable.context.VariableContext;
+
+public class ConstantExpressionEvaluator implements DmnExpressionEvaluator {
+
+  public static final ConstantExpressionEvaluator TRUE = new ConstantExpressionEvaluator(true);
+  public static final ConstantExpressionEvaluator NULL = new ConstantExpressionEvaluator(null);
+
+  protected final Object value;
+
+  public ConstantExpressionEvaluator(Object value) {
+    this.value = value;
+  }
+
+  public Object evaluate(VariableContext variableContext) {
+    return value;
+  }
+
+  public String toString() {
+    return "ConstantExpressionEvaluator{" +
+      "value=" + value +
+      '}';
+  }
+
+}
@@ -0,0 +1,34 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.engine.impl.evaluation;
+
+/**
+ * Defines how the engine evaluates decision tables.
+ */
+public enum DecisionTableEvaluationMode {
+
+  /**
+   * Every evaluation walks the decision table model and resolves the
+   * evaluation of each expression on the fly.
+   */
+  INTERPRETED,
+
+  /**
+   * Decision tables are compiled once during the transformation into a
+   * {@link CompiledDecisionTable} evaluation plan which only executes
+   * pre-resolved evaluators. This is the default mode.
+   */
+  COMPILED
+
+}
@@ -0,0 +1,293 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.dmn.engine.impl.evaluation;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decision diagram of a decision table whose input entries are all indexed
+ * by {@link EqualityConditionIndex}es or {@link IntervalConditionIndex}es or
+ * match every value. Every node of depth <code>i</code> tests the value of
+ * the input <code>i</code> once and has a branch for every literal or region
+ * of the index of the input. The leaves contain the matching rules, so the
+ * evaluation follows a single path instead of evaluating the input entries.
+ *
+ * <p>Nodes with the same depth and the same candidate rules are shared. Every
+ * node stores the rules which matched the previous inputs, so the evaluation
+ * can continue input by input if a value cannot be tested by the index.</p>
+ */
+public class DecisionTree {
+
+  protected final AbstractConditionIndex[] inputIndices;
+  /** the branch of each literal of an input with an equality index, null for other inputs */
+  protected final List<Map<Object, Integer>> literalBranches;
+
+  /** the children of the nodes indexed by node and branch, null for leaves */
+  protected final int[][] nodeChildren;
+  /** the rules which matched the previous inputs indexed by node */
+  protected final BitSet[] nodeRules;
+  /** the matching rules in rule order of the leaves indexed by node, null for inner nodes */
+  protected final int[][] leafRules;
+  protected final int size;
+
+  protected DecisionTree(AbstractConditionIndex[] inputIndices, List<Map<Object, Integer>> literalBranches, List<int[]> nodeChildren, List<BitSet> nodeRules, int size) {
+    this.inputIndices = inputIndices;
+    this.literalBranches = literalBranches;
+    this.nodeChildren = nodeChildren.toArray(new int[nodeChildren.size()][]);
+    this.nodeRules = nodeRules.toArray(new BitSet[nodeRules.size()]);
+    this.size = size;
+
+    this.leafRules = new int[this.nodeChildren.length][];
+    for (int node = 0; node < leafRules.length; node++) {
+      if (this.nodeChildren[node] == null) {
+        leafRules[node] = toArray(this.nodeRules[node]);
+      }
+    }
+  }
+
+  /**
+   * Creates the decision tree of a decision table.
+   *
+   * @param inputIndices the indices of all inputs, which must not have
+   *                     unindexed rules, or null if all input entries of the
+   *                     input match every value
+   * @param ruleCount the number of rules of the decision table
+   * @param maxSize the maximal number of branches and leaves of the tree
+   * @return the decision tree or null if the tree would exceed the maximal size
+   */
+  public static DecisionTree create(AbstractConditionIndex[] inputIndices, int ruleCount, int maxSize) {
+    Builder builder = new Builder(inputIndices, ruleCount, maxSize);
+    BitSet allRules = new BitSet(ruleCount);
+    allRules.set(0, ruleCount);
+
+    if (builder.addNode(0, allRules) >= 0) {
+      return new DecisionTree(inputIndices, builder.literalBranches, builder.nodeChildren, builder.nodeRules, builder.size);
+    }
+    else {
+      return null;
+    }
+  }
+
+  protected static int[] toArray(BitSet rules) {
+    int[] array = new int[rules.cardinality()];
+    int i = 0;
+    for (int ruleIdx = rules.nextSetBit(0); ruleIdx >= 0; ruleIdx = rules.nextSetBit(ruleIdx + 1)) {
+      array[i++] = ruleIdx;
+    }
+    return array;
+  }
+
+  /**
+   * @return the root node of the tree
+   */
+  public int getRoot() {
+    return 0;
+  }
+
+  /**
+   * @param node the node which tests the input
+   * @param inputIdx the index of the input
+   * @param value the value of the input
+   * @return the child of the node for the value or -1 if the value cannot be
+   *         tested by the index of the input
+   */
+  public int getChild(int node, int inputIdx, Object value) {
+    AbstractConditionIndex inputIndex = inputIndices[inputIdx];
+    int[] children = nodeChildren[node];
+
+    if (inputIndex == null) {
+      return children[0];
+    }
+    else if (inputIndex instanceof EqualityConditionIndex) {
+      Object key = ((EqualityConditionIndex) inputIndex).getKey(value);
+      if (key == null) {
+        return -1;
+      }
+      Integer branch = literalBranches.get(inputIdx).get(key);
+      return children[branch != null ? branch : children.length - 1];
+    }
+    else {
+      IntervalConditionIndex intervalIndex = (IntervalConditionIndex) inputIndex;
+      Double key = intervalIndex.getKey(value);
+      if (key == null) {
+        return -1;
+      }
+      return children[intervalIndex.getRegion(key)];
+    }
+  }
+
+  /**
+   * @return a child of the node, all children of a node are the same node if
+   *         none of its rules tests the input
+   */
+  public int getAnyChild(int node) {
+    return nodeChildren[node][0];
+  }
+
+  /**
+   * @return the rules which matched the inputs before the node
+   */
+  public BitSet getNodeRules(int node) {
+    return nodeRules[node];
+  }
+
+  /**
+   * @return the matching rules in rule order of a leaf
+   */
+  public int[] getLeafRules(int node) {
+    return leafRules[node];
+  }
+
+  /**
+   * @return the number of nodes of the tree
+   */
+  public int getNodeCount() {
+    return nodeChildren.length;
+  }
+
+  /**
+   * @return the number of branches and leaves of the tree
+   */
+  public int getSize() {
+    return size;
+  }
+
+  public String toString() {
+    return "DecisionTree{" +
+      "inputs=" + inputIndices.length +
+      ", nodes=" + nodeChildren.length +
+      ", size=" + size +
+      '}';
+  }
+
+  /**
+   * Creates the nodes of the tree depth first.
+   */
+  protected static class Builder {
+
+    protected final AbstractConditionIndex[] inputIndices;
+    protected final int maxSize;
+
+    /** the rules of each branch indexed by input and branch */
+    protected final BitSet[][] branchRules;
+    protected final List<Map<Object, Integer>> literalBranches = new ArrayList<Map<Object, Integer>>();
+
+    protected final List<int[]> nodeChildren = new ArrayList<int[]>();
+    protected final List<BitSet> nodeRules = new ArrayList<BitSet>();
+    /** the nodes by their rules indexed by depth */
+    protected final List<Map<BitSet, Integer>> nodesByRules = new ArrayList<Map<BitSet, Integer>>();
+    protected int size;
+
+    public Builder(AbstractConditionIndex[] inputIndices, int ruleCount, int maxSize) {
+      this.inputIndices = inputIndices;
+      this.maxSize = maxSize;
+
+      branchRules = new BitSet[inputIndices.length][];
+      for (int inputIdx = 0; inputIdx < inputIndices.length; inputIdx++) {
+        AbstractConditionIndex inputIndex = inputIndices[inputIdx];
+
+        // rules which are not indexed match every value
+        BitSet wildcardRules = new BitSet(ruleCount);
+        wildcardRules.set(0, ruleCount);
+        if (inputIndex != null) {
+          wildcardRules.andNot(inputIndex.indexedRules);
+        }
+
+        if (inputIndex == null) {
+          branchRules[inputIdx] = new BitSet[] { wildcardRules };
+          literalBranches.add(null);
+        }
+        else if (inputIndex instanceof EqualityConditionIndex) {
+          Map<Object, int[]> rulesByLiteral = ((EqualityConditionIndex) inputIndex).rulesByLiteral;
+          Map<Object, Integer> branches = new HashMap<Object, Integer>();
+
+          // a branch per literal and a branch for all other values
+          branchRules[inputIdx] = new BitSet[rulesByLiteral.size() + 1];
+          for (Map.Entry<Object, int[]> literalRules : rulesByLiteral.entrySet()) {
+            int branch = branches.size();
+            branches.put(literalRules.getKey(), branch);
+            branchRules[inputIdx][branch] = union(wildcardRules, literalRules.getValue());
+          }
+          branchRules[inputIdx][branches.size()] = wildcardRules;
+          literalBranches.add(branches);
+        }
+        else {
+          int[][] regionRules = ((IntervalConditionIndex) inputIndex).regionRules;
+          branchRules[inputIdx] = new BitSet[regionRules.length];
+          for (int region = 0; region < regionRules.length; region++) {
+            branchRules[inputIdx][region] = union(wildcardRules, regionRules[region]);
+          }
+          literalBranches.add(null);
+        }
+
+        nodesByRules.add(new HashMap<BitSet, Integer>());
+      }
+      nodesByRules.add(new HashMap<BitSet, Integer>());
+    }
+
+    protected static BitSet union(BitSet rules, int[] otherRules) {
+      BitSet union = (BitSet) rules.clone();
+      for (int ruleIdx : otherRules) {
+        union.set(ruleIdx);
+      }
+      return union;
+    }
+
+    /**
+     * @return the node of the depth with the rules or -1 if the tree exceeds
+     *         the maximal size
+     */
+    public int addNode(int depth, BitSet rules) {
+      Map<BitSet, Integer> nodes = nodesByRules.get(depth);
+      Integer existingNode = nodes.get(rules);
+      if (existingNode != null) {
+        return existingNode;
+      }
+
+      int node = nodeChildren.size();
+      nodes.put(rules, node);
+      nodeRules.add(rules);
+      nodeChildren.add(null);
+
+      if (depth == inputIndices.length) {
+        size++;
+      }
+      else {
+        BitSet[] branches = branchRules[depth];
+        size += branches.length;
+        if (size > maxSize) {
+          return -1;
+        }
+
+        int[] children = new int[branches.length];
+        for (int branch = 0; branch < branches.length; branch++) {
+          BitSet childRules = (BitSet) rules.clone();
+          childRules.and(branches[branch]);
+          children[branch] = addNode(depth + 1, childRules);
+          if (children[branch] < 0) {
+            return -1;
+          }
+        }
+        nodeChildren.set(node, children);
+      }
+
+      return size <= maxSize ? node : -1;
+    }
+
+  }
+
+}
@@ -0,0 +1,517 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.engine.impl.evaluation;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.camunda.bpm.dmn.engine.impl.DefaultDmnDecisionContext;
+import org.camunda.bpm.dmn.engine.impl.DefaultDmnEngineConfiguration;
+import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableImpl;
+import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableInputImpl;
+import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableOutputImpl;
+import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableRuleImpl;
+import org.camunda.bpm.dmn.engine.impl.DmnExpressionImpl;
+import org.camunda.bpm.dmn.engine.impl.evaluation.IntervalConditionIndex.Interval;
+import org.camunda.bpm.dmn.engine.impl.spi.el.ElProvider;
+import org.camunda.bpm.dmn.engine.impl.spi.evaluation.DmnDecisionTableCompiler;
+import org.camunda.bpm.dmn.engine.impl.transform.DmnExpressionTransformHelper;
+import org.camunda.bpm.dmn.feel.impl.FeelEngine;
+import org.camunda.bpm.dmn.feel.impl.juel.FeelEngineImpl;
+import org.camunda.bpm.dmn.feel.impl.juel.NativeFeelEngineImpl;
+import org.camunda.bpm.engine.variable.value.TypedValue;
+import org.camunda.commons.utils.StringUtil;
+
+/**
+ * Compiles decision tables into {@link CompiledDecisionTable}s. The expression
+ * language of every expression is resolved once. FEEL and JUEL expressions are
+ * evaluated directly by the compiled decision table, all other expressions
+ * (e.g. scripts) fall back to the {@link DefaultDmnDecisionContext}.
+ */
+public class DefaultDmnDecisionTableCompiler implements DmnDecisionTableCompiler {
+
+  protected final FeelEngine feelEngine;
+  protected final ElProvider elProvider;
+  protected final DefaultDmnDecisionContext decisionContext;
+
+  protected final String inputExpressionExpressionLanguage;
+  protected final String inputEntryExpressionLanguage;
+  protected final String outputEntryExpressionLanguage;
+
+  protected final boolean conditionIndexEnabled;
+  protected final boolean rangeIndexEnabled;
+  protected final int decisionTreeMaxSize;
+  protected final boolean adaptiveInputOrderEnabled;
+  protected final boolean lazyInputEvaluationEnabled;
+
+  public DefaultDmnDecisionTableCompiler(DefaultDmnEngineConfiguration configuration) {
+    feelEngine = configuration.getFeelEngine();
+    elProvider = configuration.getElProvider();
+    decisionContext = new DefaultDmnDecisionContext(configuration);
+
+    inputExpressionExpressionLanguage = configuration.getDefaultInputExpressionExpressionLanguage();
+    inputEntryExpressionLanguage = configuration.getDefaultInputEntryExpressionLanguage();
+    outputEntryExpressionLanguage = configuration.getDefaultOutputEntryExpressionLanguage();
+
+    conditionIndexEnabled = isBuiltInFeelEngine(feelEngine);
+    rangeIndexEnabled = configuration.isRangeIndexEnabled();
+    decisionTreeMaxSize = configuration.getDecisionTreeMaxSize();
+    adaptiveInputOrderEnabled = configuration.isAdaptiveInputOrderEnabled();
+    lazyInputEvaluationEnabled = configuration.isLazyInputEvaluationEnabled();
+  }
+
+  public CompiledDecisionTable compile(DmnDecisionTableImpl decisionTable) {
+    List<DmnDecisionTableInputImpl> inputs = decisionTable.getInputs();
+    List<DmnDecisionTableRuleImpl> rules = decisionTable.getRules();
+    int outputCount = decisionTable.getOutputs().size();
+
+    DmnExpressionEvaluator[] inputEvaluators = new DmnExpressionEvaluator[inputs.size()];
+    DmnExpressionEvaluator[][] conditionEvaluators = new DmnExpressionEvaluator[inputs.size()][rules.size()];
+    int[][] conditionIds = new int[inputs.size()][rules.size()];
+    int[] conditionCounts = new int[inputs.size()];
+    ConditionIndex[] conditionIndices = new ConditionIndex[inputs.size()];
+    for (int inputIdx = 0; inputIdx < inputs.size(); inputIdx++) {
+      DmnDecisionTableInputImpl input = inputs.get(inputIdx);
+      inputEvaluators[inputIdx] = compileInputExpression(input.getExpression());
+
+      // identical input entries of the input share the evaluator and the id
+      Map<String, Integer> conditionIdsByKey = new HashMap<String, Integer>();
+      List<DmnExpressionEvaluator> distinctConditionEvaluators = new ArrayList<DmnExpressionEvaluator>();
+      for (int ruleIdx = 0; ruleIdx < rules.size(); ruleIdx++) {
+        DmnExpressionImpl condition = rules.get(ruleIdx).getConditions().get(inputIdx);
+        String conditionKey = getConditionKey(condition);
+        Integer conditionId = conditionKey != null ? conditionIdsByKey.get(conditionKey) : null;
+        if (conditionId == null) {
+          conditionId = distinctConditionEvaluators.size();
+          distinctConditionEvaluators.add(compileInputEntry(input, condition));
+          if (conditionKey != null) {
+            conditionIdsByKey.put(conditionKey, conditionId);
+          }
+        }
+        conditionIds[inputIdx][ruleIdx] = conditionId;
+        conditionEvaluators[inputIdx][ruleIdx] = distinctConditionEvaluators.get(conditionId);
+      }
+      conditionCounts[inputIdx] = distinctConditionEvaluators.size();
+
+      conditionIndices[inputIdx] = compileConditionIndex(inputIdx, rules);
+    }
+
+    // the matching rules are found by the lookup table, the decision tree or input by input,
+    // the lookup table requires the values of all inputs
+    EqualityLookupTable lookupTable = null;
+    BitSet[] constrainedRules = null;
+    if (lazyInputEvaluationEnabled) {
+      constrainedRules = compileConstrainedRules(inputs, rules);
+    }
+    else {
+      lookupTable = compileLookupTable(inputs, conditionIndices, rules.size());
+    }
+    DecisionTree decisionTree = null;
+    if (lookupTable == null) {
+      decisionTree = compileDecisionTree(inputs, rules, conditionIndices);
+    }
+    // the range index requires the declared order of its inputs
+    AdaptiveInputOrder inputOrder = null;
+    RangeTreeIndex rangeIndex = null;
+    if (lookupTable == null && decisionTree == null) {
+      if (adaptiveInputOrderEnabled && inputs.size() > 1) {
+        inputOrder = new AdaptiveInputOrder(inputs.size());
+      }
+      else {
+        rangeIndex = compileRangeIndex(inputs, conditionIndices, rules.size());
+      }
+    }
+
+    List<DmnDecisionTableOutputImpl> outputs = decisionTable.getOutputs();
+    DmnExpressionEvaluator[][] conclusionEvaluators = new DmnExpressionEvaluator[rules.size()][outputCount];
+    TypedValue[][] conclusionValues = new TypedValue[rules.size()][outputCount];
+    for (int ruleIdx = 0; ruleIdx < rules.size(); ruleIdx++) {
+      List<DmnExpressionImpl> conclusions = rules.get(ruleIdx).getConclusions();
+      for (int outputIdx = 0; outputIdx < outputCount; outputIdx++) {
+        conclusionEvaluators[ruleIdx][outputIdx] = compileOutputEntry(conclusions.get(outputIdx));
+        conclusionValues[ruleIdx][outputIdx] = getConstantValue(conclusions.get(outputIdx), outputs.get(outputIdx));
+      }
+    }
+
+    return new CompiledDecisionTable(this, decisionTable, inputEvaluators, conditionEvaluators, conditionIds, conditionCounts, conditionIndices, rangeIndex, lookupTable, decisionTree, inputOrder, constrainedRules, conclusionEvaluators, conclusionValues);
+  }
+
+  /**
+   * @return the evaluator or null if the input has no expression
+   */
+  protected DmnExpressionEvaluator compileInputExpression(DmnExpressionImpl expression) {
+    if (expression != null) {
+      return compileExpression(expression, inputExpressionExpressionLanguage);
+    }
+    else {
+      return null;
+    }
+  }
+
+  protected DmnExpressionEvaluator compileInputEntry(DmnDecisionTableInputImpl input, DmnExpressionImpl condition) {
+    if (isNonEmptyExpression(condition)) {
+      String expressionLanguage = getExpressionLanguage(condition, inputEntryExpressionLanguage);
+      if (DmnExpressionTransformHelper.isFeelExpressionLanguage(expressionLanguage)) {
+        return new FeelSimpleUnaryTestsEvaluator(feelEngine, condition, input.getInputVariable());
+      }
+      else {
+        return compileNonFeelExpression(expressionLanguage, condition);
+      }
+    }
+    else {
+      // input entries without expressions are true
+      return ConstantExpressionEvaluator.TRUE;
+    }
+  }
+
+  /**
+   * Identical input entries of an input have the same result for the same
+   * input value, as long as they are side effect free. This only holds for
+   * FEEL input entries and empty input entries.
+   *
+   * @return the key to identify identical input entries of an input or null
+   *         if the input entry must be evaluated for every rule
+   */
+  protected String getConditionKey(DmnExpressionImpl condition) {
+    if (!isNonEmptyExpression(condition)) {
+      return "";
+    }
+    else if (isFeelExpression(condition)) {
+      return condition.getExpression();
+    }
+    else {
+      return null;
+    }
+  }
+
+  /**
+   * Indexes the FEEL input entries of an input which test the input for
+   * equality with a literal or which are comparisons or intervals with
+   * literals. If an input has both, the index of more input entries is used.
+   * Empty input entries and <code>-</code> match every value and are neither
+   * indexed nor evaluated by the index.
+   *
+   * @return the index or null if no input entry of the input can be indexed
+   *         or the FEEL engine is not a built-in FEEL engine
+   */
+  protected ConditionIndex compileConditionIndex(int inputIdx, List<DmnDecisionTableRuleImpl> rules) {
+    if (!conditionIndexEnabled) {
+      return null;
+    }
+
+    // the trimmed FEEL input entries, null for all other input entries
+    String[] feelExpressions = new String[rules.size()];
+    boolean[] wildcards = new boolean[rules.size()];
+
+    for (int ruleIdx = 0; ruleIdx < rules.size(); ruleIdx++) {
+      DmnExpressionImpl condition = rules.get(ruleIdx).getConditions().get(inputIdx);
+      if (isWildcard(condition)) {
+        wildcards[ruleIdx] = true;
+      }
+      else if (isFeelExpression(condition)) {
+        feelExpressions[ruleIdx] = condition.getExpression().trim();
+      }
+    }
+
+    ConditionIndex equalityIndex = compileEqualityConditionIndex(feelExpressions, wildcards);
+    ConditionIndex intervalIndex = compileIntervalConditionIndex(feelExpressions, wildcards);
+    if (intervalIndex != null && (equalityIndex == null || intervalIndex.getIndexedRuleCount() > equalityIndex.getIndexedRuleCount())) {
+      return intervalIndex;
+    }
+    else {
+      return equalityIndex;
+    }
+  }
+
+  /**
+   * The condition indices interpret the input entries by the semantics of the
+   * built-in FEEL engines, the input entries of other FEEL engines are only
+   * evaluated by their engine.
+   */
+  protected boolean isBuiltInFeelEngine(FeelEngine feelEngine) {
+    return feelEngine != null && (feelEngine.getClass() == FeelEngineImpl.class || feelEngine.getClass() == NativeFeelEngineImpl.class);
+  }
+
+  /**
+   * @return the rules which test the input indexed by input
+   */
+  protected BitSet[] compileConstrainedRules(List<DmnDecisionTableInputImpl> inputs, List<DmnDecisionTableRuleImpl> rules) {
+    BitSet[] constrainedRules = new BitSet[inputs.size()];
+    for (int inputIdx = 0; inputIdx < inputs.size(); inputIdx++) {
+      constrainedRules[inputIdx] = new BitSet(rules.size());
+      for (int ruleIdx = 0; ruleIdx < rules.size(); ruleIdx++) {
+        if (!isWildcard(rules.get(ruleIdx).getConditions().get(inputIdx))) {
+          constrainedRules[inputIdx].set(ruleIdx);
+        }
+      }
+    }
+    return constrainedRules;
+  }
+
+  /**
+   * @return true if the input entry is empty or the FEEL expression <code>-</code>
+   */
+  protected boolean isWildcard(DmnExpressionImpl condition) {
+    return !isNonEmptyExpression(condition) || (isFeelExpression(condition) && "-".equals(condition.getExpression().trim()));
+  }
+
+  protected boolean isFeelExpression(DmnExpressionImpl condition) {
+    return DmnExpressionTransformHelper.isFeelExpressionLanguage(getExpressionLanguage(condition, inputEntryExpressionLanguage));
+  }
+
+  protected ConditionIndex compileEqualityConditionIndex(String[] feelExpressions, boolean[] wildcards) {
+    Object[] literals = new Object[feelExpressions.length];
+    List<Integer> unindexedRules = new ArrayList<Integer>();
+    Class<?> literalType = null;
+
+    for (int ruleIdx = 0; ruleIdx < feelExpressions.length; ruleIdx++) {
+      if (wildcards[ruleIdx]) {
+        continue;
+      }
+
+      Object literal = null;
+      if (feelExpressions[ruleIdx] != null) {
+        literal = EqualityConditionIndex.parseLiteral(feelExpressions[ruleIdx]);
+      }
+      if (literal != null && (literalType == null || literalType == literal.getClass())) {
+        literalType = literal.getClass();
+        literals[ruleIdx] = literal;
+      }
+      else {
+        unindexedRules.add(ruleIdx);
+      }
+    }
+
+    if (literalType != null) {
+      return new EqualityConditionIndex(literals, unindexedRules);
+    }
+    else {
+      return null;
+    }
+  }
+
+  protected ConditionIndex compileIntervalConditionIndex(String[] feelExpressions, boolean[] wildcards) {
+    Interval[] intervals = new Interval[feelExpressions.length];
+    List<Integer> unindexedRules = new ArrayList<Integer>();
+    Class<?> endpointType = null;
+
+    for (int ruleIdx = 0; ruleIdx < feelExpressions.length; ruleIdx++) {
+      if (wildcards[ruleIdx]) {
+        continue;
+      }
+
+      Interval interval = null;
+      if (feelExpressions[ruleIdx] != null) {
+        interval = IntervalConditionIndex.parseInterval(feelExpressions[ruleIdx], feelEngine);
+      }
+      if (interval != null && (endpointType == null || endpointType == interval.getEndpointType())) {
+        endpointType = interval.getEndpointType();
+        intervals[ruleIdx] = interval;
+      }
+      else {
+        unindexedRules.add(ruleIdx);
+      }
+    }
+
+    return IntervalConditionIndex.create(intervals, unindexedRules);
+  }
+
+  /**
+   * Creates a range index over the longest run of consecutive inputs with
+   * interval indices if it has at least {@link RangeTreeIndex#MIN_INPUTS}
+   * inputs.
+   *
+   * @return the range index or null if the decision table has no such inputs
+   *         or the range index is disabled
+   */
+  protected RangeTreeIndex compileRangeIndex(List<DmnDecisionTableInputImpl> inputs, ConditionIndex[] conditionIndices, int ruleCount) {
+    if (!rangeIndexEnabled) {
+      return null;
+    }
+
+    int bestStart = 0;
+    int bestLength = 0;
+    int start = 0;
+    for (int inputIdx = 0; inputIdx <= inputs.size(); inputIdx++) {
+      if (inputIdx < inputs.size() && isRangeIndexInput(inputs.get(inputIdx), conditionIndices[inputIdx])) {
+        continue;
+      }
+      if (inputIdx - start > bestLength) {
+        bestStart = start;
+        bestLength = inputIdx - start;
+      }
+      start = inputIdx + 1;
+    }
+
+    if (bestLength >= RangeTreeIndex.MIN_INPUTS) {
+      IntervalConditionIndex[] inputIndices = new IntervalConditionIndex[bestLength];
+      for (int i = 0; i < bestLength; i++) {
+        inputIndices[i] = (IntervalConditionIndex) conditionIndices[bestStart + i];
+      }
+      return new RangeTreeIndex(bestStart, inputIndices, ruleCount);
+    }
+    else {
+      return null;
+    }
+  }
+
+  protected boolean isRangeIndexInput(DmnDecisionTableInputImpl input, ConditionIndex conditionIndex) {
+    // the input entries have to test the value of the input variable
+    return conditionIndex instanceof IntervalConditionIndex && isNonEmptyExpression(input.getExpression());
+  }
+
+  /**
+   * Creates a lookup table if every input entry of the decision table tests
+   * the input for equality with a literal or matches every value.
+   *
+   * @return the lookup table or null if the decision table has other input
+   *         entries or the lookup table would be too large
+   */
+  protected EqualityLookupTable compileLookupTable(List<DmnDecisionTableInputImpl> inputs, ConditionIndex[] conditionIndices, int ruleCount) {
+    if (inputs.isEmpty()) {
+      return null;
+    }
+
+    EqualityConditionIndex[] inputIndices = new EqualityConditionIndex[inputs.size()];
+    for (int inputIdx = 0; inputIdx < inputs.size(); inputIdx++) {
+      ConditionIndex conditionIndex = conditionIndices[inputIdx];
+      if (conditionIndex instanceof EqualityConditionIndex
+        && ((EqualityConditionIndex) conditionIndex).unindexedRules.length == 0
+        && isNonEmptyExpression(inputs.get(inputIdx).getExpression())) {
+        inputIndices[inputIdx] = (EqualityConditionIndex) conditionIndex;
+      }
+      else {
+        return null;
+      }
+    }
+
+    return EqualityLookupTable.create(inputIndices, ruleCount);
+  }
+
+  /**
+   * Creates a decision tree if every input entry of the decision table is
+   * indexed by the condition index of its input or matches every value.
+   *
+   * @return the decision tree or null if the decision table has other input
+   *         entries, the tree would exceed the maximal size or the decision
+   *         tree is disabled
+   */
+  protected DecisionTree compileDecisionTree(List<DmnDecisionTableInputImpl> inputs, List<DmnDecisionTableRuleImpl> rules, ConditionIndex[] conditionIndices) {
+    if (decisionTreeMaxSize <= 0 || inputs.isEmpty()) {
+      return null;
+    }
+
+    AbstractConditionIndex[] inputIndices = new AbstractConditionIndex[inputs.size()];
+    for (int inputIdx = 0; inputIdx < inputs.size(); inputIdx++) {
+      ConditionIndex conditionIndex = conditionIndices[inputIdx];
+      if (conditionIndex instanceof AbstractConditionIndex
+        && ((AbstractConditionIndex) conditionIndex).unindexedRules.length == 0
+        && isNonEmptyExpression(inputs.get(inputIdx).getExpression())) {
+        inputIndices[inputIdx] = (AbstractConditionIndex) conditionIndex;
+      }
+      else if (conditionIndex != null || !isWildcardInput(inputIdx, rules)) {
+        return null;
+      }
+    }
+
+    return DecisionTree.create(inputIndices, rules.size(), decisionTreeMaxSize);
+  }
+
+  protected boolean isWildcardInput(int inputIdx, List<DmnDecisionTableRuleImpl> rules) {
+    for (DmnDecisionTableRuleImpl rule : rules) {
+      if (!isWildcard(rule.getConditions().get(inputIdx))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return the evaluator or null if the output entry is empty
+   */
+  protected DmnExpressionEvaluator compileOutputEntry(DmnExpressionImpl conclusion) {
+    if (isNonEmptyExpression(conclusion)) {
+      return compileExpression(conclusion, outputEntryExpressionLanguage);
+    }
+    else {
+      return null;
+    }
+  }
+
+  /**
+   * @return the value of the literal output entry transformed during the
+   *         transformation or null if it has to be evaluated
+   */
+  protected TypedValue getConstantValue(DmnExpressionImpl conclusion, DmnDecisionTableOutputImpl output) {
+    if (isNonEmptyExpression(conclusion) && conclusion.getConstantValue() != null && conclusion.getTypeDefinition() == output.getTypeDefinition()
+      && DefaultDmnEngineConfiguration.JUEL_EXPRESSION_LANGUAGE.equals(getExpressionLanguage(conclusion, outputEntryExpressionLanguage))) {
+      return conclusion.getConstantValue();
+    }
+    else {
+      return null;
+    }
+  }
+
+  protected DmnExpressionEvaluator compileExpression(DmnExpressionImpl expression, String defaultExpressionLanguage) {
+    String expressionLanguage = getExpressionLanguage(expression, defaultExpressionLanguage);
+    if (DmnExpressionTransformHelper.isFeelExpressionLanguage(expressionLanguage)) {
+      if (expression.getExpression() != null) {
+        return new FeelSimpleExpressionEvaluator(feelEngine, expression);
+      }
+      else {
+        return ConstantExpressionEvaluator.NULL;
+      }
+    }
+    else {
+      return compileNonFeelExpression(expressionLanguage, expression);
+    }
+  }
+
+  protected DmnExpressionEvaluator compileNonFeelExpression(String expressionLanguage, DmnExpressionImpl expression) {
+    String expressionText = expression.getExpression();
+    if (DefaultDmnEngineConfiguration.JUEL_EXPRESSION_LANGUAGE.equals(expressionLanguage)) {
+      if (expressionText != null) {
+        if (!StringUtil.isExpression(expressionText)) {
+          expressionText = "${" + expressionText + "}";
+        }
+        return new ElExpressionEvaluator(elProvider, expressionLanguage, expressionText);
+      }
+      else {
+        return ConstantExpressionEvaluator.NULL;
+      }
+    }
+    else {
+      // scripts and unknown expression languages are evaluated by the interpreter
+      return new InterpretedExpressionEvaluator(decisionContext, expressionLanguage, expression);
+    }
+  }
+
+  protected String getExpressionLanguage(DmnExpressionImpl expression, String defaultExpressionLanguage) {
+    String expressionLanguage = expression.getExpressionLanguage();
+    if (expressionLanguage != null) {
+      return expressionLanguage;
+    }
+    else {
+      return defaultExpressionLanguage;
+    }
+  }
+
+  protected boolean isNonEmptyExpression(DmnExpressionImpl expression) {
+    return expression != null && expression.getExpression() != null && !expression.getExpression().trim().isEmpty();
+  }
+
+}
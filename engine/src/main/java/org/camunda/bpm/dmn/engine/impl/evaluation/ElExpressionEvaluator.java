@@ -0,0 +1,63 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.engine.impl.evaluation;
+
+import org.camunda.bpm.dmn.engine.impl.DmnEngineLogger;
+import org.camunda.bpm.dmn.engine.impl.spi.el.ElExpression;
+import org.camunda.bpm.dmn.engine.impl.spi.el.ElProvider;
+import org.camunda.bpm.engine.variable.context.VariableContext;
+
+/**
+ * Evaluates an EL expression. The expression is created by the
+ * {@link ElProvider} on the first evaluation and reused afterwards.
+ */
+public class ElExpressionEvaluator implements DmnExpressionEvaluator {
+
+  protected static final DmnEngineLogger LOG = DmnEngineLogger.ENGINE_LOGGER;
+
+  protected final ElProvider elProvider;
+  protected final String expressionLanguage;
+  protected final String expression;
+
+  protected ElExpression elExpression;
+
+  public ElExpressionEvaluator(ElProvider elProvider, String expressionLanguage, String expression) {
+    this.elProvider = elProvider;
+    this.expressionLanguage = expressionLanguage;
+    this.expression = expression;
+  }
+
+  public Object evaluate(VariableContext variableContext) {
+    ElExpression compiledExpression = elExpression;
+    if (compiledExpression == null) {
+      compiledExpression = elProvider.createExpression(expression);
+      elExpression = compiledExpression;
+    }
+    try {
+      return compiledExpression.getValue(variableContext);
+    }
+    // yes, we catch all exceptions
+    catch(Exception e) {
+      throw LOG.unableToEvaluateExpression(expression, expressionLanguage, e);
+    }
+  }
+
+  public String toString() {
+    return "ElExpressionEvaluator{" +
+      "expressionLanguage='" + expressionLanguage + '\'' +
+      ", expression='" + expression + '\'' +
+      '}';
+  }
+
+}
@@ -0,0 +1,140 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.engine.impl.evaluation;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Indexes the input entries of an input which test the input for equality
+ * with a string or integer literal (e.g. <code>"GOLD"</code> or <code>42</code>).
+ * The rules matching an input value are found by a single lookup. All
+ * literals of the index have the same type, input entries with literals of
+ * another type are not indexed.
+ */
+public class EqualityConditionIndex extends AbstractConditionIndex {
+
+  public static final Pattern STRING_LITERAL_PATTERN = Pattern.compile("^\"([^\"\\\\]*)\"$");
+  public static final Pattern INTEGER_LITERAL_PATTERN = Pattern.compile("^(0|[1-9][0-9]{0,17})$");
+
+  protected final Class<?> literalType;
+  protected final Map<Object, int[]> rulesByLiteral;
+
+  /**
+   * @param literals the literals of the input entries indexed by rule, null if the input entry is not indexed
+   * @param unindexedRules the rules in rule order whose input entries have to be evaluated
+   */
+  public EqualityConditionIndex(Object[] literals, List<Integer> unindexedRules) {
+    super(new BitSet(literals.length), unindexedRules);
+
+    Map<Object, List<Integer>> ruleLists = new HashMap<Object, List<Integer>>();
+    Class<?> type = null;
+    for (int ruleIdx = 0; ruleIdx < literals.length; ruleIdx++) {
+      Object literal = literals[ruleIdx];
+      if (literal != null) {
+        type = literal.getClass();
+        indexedRules.set(ruleIdx);
+
+        List<Integer> rules = ruleLists.get(literal);
+        if (rules == null) {
+          rules = new ArrayList<Integer>();
+          ruleLists.put(literal, rules);
+        }
+        rules.add(ruleIdx);
+      }
+    }
+
+    rulesByLiteral = new HashMap<Object, int[]>();
+    for (Map.Entry<Object, List<Integer>> entry : ruleLists.entrySet()) {
+      rulesByLiteral.put(entry.getKey(), toArray(entry.getValue()));
+    }
+
+    this.literalType = type;
+  }
+
+  /**
+   * Parses the literal of a FEEL input entry which tests the input for
+   * equality.
+   *
+   * @param simpleUnaryTests the FEEL simple unary tests of the input entry
+   * @return the string or long value of the literal or null if the input entry
+   *         is not a single string or integer literal
+   */
+  public static Object parseLiteral(String simpleUnaryTests) {
+    String expression = simpleUnaryTests.trim();
+
+    Matcher matcher = STRING_LITERAL_PATTERN.matcher(expression);
+    if (matcher.matches()) {
+      return matcher.group(1);
+    }
+    else if (INTEGER_LITERAL_PATTERN.matcher(expression).matches()) {
+      return Long.valueOf(expression);
+    }
+    else {
+      return null;
+    }
+  }
+
+  protected int[] findMatchingRules(Object value) {
+    Object key = getKey(value);
+    if (key == null) {
+      return null;
+    }
+
+    int[] rules = rulesByLiteral.get(key);
+    if (rules != null) {
+      return rules;
+    }
+    else {
+      return NO_RULES;
+    }
+  }
+
+  /**
+   * @return the key to look up the value or null if the value cannot be
+   *         compared with the literals without evaluating the input entries
+   */
+  protected Object getKey(Object value) {
+    if (value == null) {
+      return null;
+    }
+
+    Class<?> valueType = value.getClass();
+    if (literalType == String.class) {
+      if (valueType == String.class) {
+        return value;
+      }
+    }
+    else if (literalType == Long.class) {
+      if (valueType == Long.class || valueType == Integer.class || valueType == Short.class || valueType == Byte.class) {
+        return ((Number) value).longValue();
+      }
+    }
+    return null;
+  }
+
+  public String toString() {
+    return "EqualityConditionIndex{" +
+      "literalType=" + literalType +
+      ", literals=" + rulesByLiteral.size() +
+      ", unindexedRules=" + unindexedRules.length +
+      '}';
+  }
+
+}
@@ -0,0 +1,170 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.dmn.engine.impl.evaluation;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lookup table of a decision table whose input entries all test the input
+ * for equality with a literal or match every value. The matching rules of
+ * every combination of input values are computed during the compilation,
+ * so the evaluation finds the matching rules by a single lookup of the keys
+ * of the input values.
+ *
+ * <p>Input entries which match every value are expanded to all literals of
+ * the input and to the values which are no literal of the input.</p>
+ */
+public class EqualityLookupTable {
+
+  /** the maximal number of entries per rule of the decision table */
+  public static final int MAX_ENTRIES_PER_RULE = 8;
+
+  /** the key of the values which are no literal of an input */
+  protected static final Object OTHER_VALUE = new Object() {
+    public String toString() {
+      return "OTHER_VALUE";
+    }
+  };
+
+  protected final EqualityConditionIndex[] inputIndices;
+  /** the matching rules in rule order by the keys of the inputs, without entries for no matching rules */
+  protected final Map<List<Object>, int[]> rulesByKeys;
+
+  protected EqualityLookupTable(EqualityConditionIndex[] inputIndices, Map<List<Object>, int[]> rulesByKeys) {
+    this.inputIndices = inputIndices;
+    this.rulesByKeys = rulesByKeys;
+  }
+
+  /**
+   * Creates the lookup table of a decision table.
+   *
+   * @param inputIndices the equality indices of all inputs, which must not have unindexed rules
+   * @param ruleCount the number of rules of the decision table
+   * @return the lookup table or null if it would have more than
+   *         {@link #MAX_ENTRIES_PER_RULE} entries per rule
+   */
+  public static EqualityLookupTable create(EqualityConditionIndex[] inputIndices, int ruleCount) {
+    BitSet allRules = new BitSet(ruleCount);
+    allRules.set(0, ruleCount);
+
+    Map<List<Object>, int[]> rulesByKeys = new HashMap<List<Object>, int[]>();
+    int maxEntries = Math.max(ruleCount, 1) * MAX_ENTRIES_PER_RULE;
+    if (addEntries(inputIndices, 0, new Object[inputIndices.length], allRules, rulesByKeys, maxEntries)) {
+      return new EqualityLookupTable(inputIndices, rulesByKeys);
+    }
+    else {
+      return null;
+    }
+  }
+
+  /**
+   * Adds the entries of all keys of the input and the following inputs
+   * which match any of the candidate rules.
+   *
+   * @return false if the lookup table exceeds the maximal number of entries
+   */
+  protected static boolean addEntries(EqualityConditionIndex[] inputIndices, int inputIdx, Object[] keys, BitSet candidateRules, Map<List<Object>, int[]> rulesByKeys, int maxEntries) {
+    if (inputIdx == inputIndices.length) {
+      rulesByKeys.put(Arrays.asList(keys.clone()), toArray(candidateRules));
+      return rulesByKeys.size() <= maxEntries;
+    }
+
+    EqualityConditionIndex inputIndex = inputIndices[inputIdx];
+    BitSet wildcardRules = (BitSet) candidateRules.clone();
+    wildcardRules.andNot(inputIndex.indexedRules);
+
+    for (Map.Entry<Object, int[]> literalRules : inputIndex.rulesByLiteral.entrySet()) {
+      BitSet matchingRules = (BitSet) wildcardRules.clone();
+      for (int ruleIdx : literalRules.getValue()) {
+        if (candidateRules.get(ruleIdx)) {
+          matchingRules.set(ruleIdx);
+        }
+      }
+      if (!matchingRules.isEmpty()) {
+        keys[inputIdx] = literalRules.getKey();
+        if (!addEntries(inputIndices, inputIdx + 1, keys, matchingRules, rulesByKeys, maxEntries)) {
+          return false;
+        }
+      }
+    }
+
+    if (!wildcardRules.isEmpty()) {
+      keys[inputIdx] = OTHER_VALUE;
+      return addEntries(inputIndices, inputIdx + 1, keys, wildcardRules, rulesByKeys, maxEntries);
+    }
+    else {
+      return true;
+    }
+  }
+
+  protected static int[] toArray(BitSet rules) {
+    int[] array = new int[rules.cardinality()];
+    int i = 0;
+    for (int ruleIdx = rules.nextSetBit(0); ruleIdx >= 0; ruleIdx = rules.nextSetBit(ruleIdx + 1)) {
+      array[i++] = ruleIdx;
+    }
+    return array;
+  }
+
+  /**
+   * @param inputIdx the index of the input
+   * @param value the value of the input
+   * @return the key of the value or null if the value cannot be looked up
+   */
+  public Object getKey(int inputIdx, Object value) {
+    EqualityConditionIndex inputIndex = inputIndices[inputIdx];
+    Object key = inputIndex.getKey(value);
+    if (key == null) {
+      return null;
+    }
+    else if (inputIndex.rulesByLiteral.containsKey(key)) {
+      return key;
+    }
+    else {
+      return OTHER_VALUE;
+    }
+  }
+
+  /**
+   * @param keys the keys of the values of all inputs
+   * @return the matching rules in rule order
+   */
+  public int[] findMatchingRules(Object[] keys) {
+    int[] rules = rulesByKeys.get(Arrays.asList(keys));
+    if (rules != null) {
+      return rules;
+    }
+    else {
+      return AbstractConditionIndex.NO_RULES;
+    }
+  }
+
+  /**
+   * @return the number of entries of the lookup table
+   */
+  public int size() {
+    return rulesByKeys.size();
+  }
+
+  public String toString() {
+    return "EqualityLookupTable{" +
+      "inputs=" + inputIndices.length +
+      ", entries=" + rulesByKeys.size() +
+      '}';
+  }
+
+}
@@ -0,0 +1,53 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.engine.impl.evaluation;
+
+import org.camunda.bpm.dmn.engine.impl.DmnExpressionImpl;
+import org.camunda.bpm.dmn.feel.impl.FeelEngine;
+import org.camunda.bpm.dmn.feel.impl.FeelSimpleExpression;
+import org.camunda.bpm.engine.variable.context.VariableContext;
+
+/**
+ * Evaluates an input expression or output entry as FEEL simple expression.
+ * The expression is compiled on the first evaluation.
+ */
+public class FeelSimpleExpressionEvaluator implements DmnExpressionEvaluator {
+
+  protected final FeelEngine feelEngine;
+  protected final String expression;
+
+  protected FeelSimpleExpression simpleExpression;
+
+  public FeelSimpleExpressionEvaluator(FeelEngine feelEngine, DmnExpressionImpl expression) {
+    this.feelEngine = feelEngine;
+    this.expression = expression.getExpression();
+    this.simpleExpression = expression.getSimpleExpression(feelEngine);
+  }
+
+  public Object evaluate(VariableContext variableContext) {
+    FeelSimpleExpression compiledSimpleExpression = simpleExpression;
+    if (compiledSimpleExpression == null) {
+      compiledSimpleExpression = feelEngine.compileSimpleExpression(expression);
+      simpleExpression = compiledSimpleExpression;
+    }
+    return compiledSimpleExpression.evaluate(variableContext);
+  }
+
+  public String toString() {
+    return "FeelSimpleExpressionEvaluator{" +
+      "expression='" + expression + '\'' +
+      '}';
+  }
+
+}
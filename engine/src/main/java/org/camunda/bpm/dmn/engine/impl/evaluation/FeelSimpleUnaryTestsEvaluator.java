@@ -0,0 +1,71 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.engine.impl.evaluation;
+
+import org.camunda.bpm.dmn.engine.impl.DmnExpressionImpl;
+import org.camunda.bpm.dmn.feel.impl.FeelEngine;
+import org.camunda.bpm.dmn.feel.impl.FeelSimpleUnaryTests;
+import org.camunda.bpm.engine.variable.context.VariableContext;
+
+/**
+ * Evaluates an input entry as FEEL simple unary tests. Input entries which
+ * were not compiled during the transformation are compiled on the first
+ * evaluation.
+ */
+public class FeelSimpleUnaryTestsEvaluator implements DmnExpressionEvaluator {
+
+  protected final FeelEngine feelEngine;
+  protected final String expression;
+  protected final String inputName;
+
+  protected FeelSimpleUnaryTests simpleUnaryTests;
+
+  public FeelSimpleUnaryTestsEvaluator(FeelEngine feelEngine, DmnExpressionImpl condition, String inputName) {
+    this.feelEngine = feelEngine;
+    this.expression = condition.getExpression();
+    this.inputName = inputName;
+    this.simpleUnaryTests = getCompiledSimpleUnaryTests(feelEngine, condition, inputName);
+  }
+
+  public Object evaluate(VariableContext variableContext) {
+    FeelSimpleUnaryTests compiledSimpleUnaryTests = simpleUnaryTests;
+    if (compiledSimpleUnaryTests == null) {
+      compiledSimpleUnaryTests = feelEngine.compileSimpleUnaryTests(expression, inputName);
+      simpleUnaryTests = compiledSimpleUnaryTests;
+    }
+    return compiledSimpleUnaryTests.evaluate(variableContext);
+  }
+
+  /**
+   * @return the simple unary tests compiled during the transformation or null
+   *         if they were compiled by another engine or for another input
+   */
+  public static FeelSimpleUnaryTests getCompiledSimpleUnaryTests(FeelEngine feelEngine, DmnExpressionImpl condition, String inputName) {
+    FeelSimpleUnaryTests simpleUnaryTests = condition.getSimpleUnaryTests(feelEngine);
+    if (simpleUnaryTests != null && simpleUnaryTests.getInputName().equals(inputName)) {
+      return simpleUnaryTests;
+    }
+    else {
+      return null;
+    }
+  }
+
+  public String toString() {
+    return "FeelSimpleUnaryTestsEvaluator{" +
+      "expression='" + expression + '\'' +
+      ", inputName='" + inputName + '\'' +
+      '}';
+  }
+
+}
@@ -0,0 +1,47 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.engine.impl.evaluation;
+
+import org.camunda.bpm.dmn.engine.impl.DefaultDmnDecisionContext;
+import org.camunda.bpm.dmn.engine.impl.DmnExpressionImpl;
+import org.camunda.bpm.engine.variable.context.VariableContext;
+
+/**
+ * Delegates the evaluation of an expression which cannot be compiled,
+ * e.g. a script, to the {@link DefaultDmnDecisionContext}.
+ */
+public class InterpretedExpressionEvaluator implements DmnExpressionEvaluator {
+
+  protected final DefaultDmnDecisionContext decisionContext;
+  protected final String expressionLanguage;
+  protected final DmnExpressionImpl expression;
+
+  public InterpretedExpressionEvaluator(DefaultDmnDecisionContext decisionContext, String expressionLanguage, DmnExpressionImpl expression) {
+    this.decisionContext = decisionContext;
+    this.expressionLanguage = expressionLanguage;
+    this.expression = expression;
+  }
+
+  public Object evaluate(VariableContext variableContext) {
+    return decisionContext.evaluateExpression(expressionLanguage, expression, variableContext);
+  }
+
+  public String toString() {
+    return "InterpretedExpressionEvaluator{" +
+      "expressionLanguage='" + expressionLanguage + '\'' +
+      ", expression=" + expression +
+      '}';
+  }
+
+}
@@ -0,0 +1,417 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.engine.impl.evaluation;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.camunda.bpm.dmn.feel.impl.FeelEngine;
+import org.camunda.bpm.dmn.feel.impl.FeelException;
+import org.camunda.bpm.engine.variable.Variables;
+
+/**
+ * Indexes the input entries of an input which are comparisons or intervals
+ * with number or date and time literals (e.g. <code>[18..25]</code>,
+ * <code>&gt;= 1000</code> or <code>&lt; date and time("2016-01-01T00:00:00")</code>).
+ *
+ * <p>The sorted endpoints of all intervals split the values into regions:
+ * every endpoint and every gap between two endpoints. The index stores the
+ * rules which contain each region, so the rules matching a value are found by
+ * a binary search over the endpoints. As overlapping intervals are stored in
+ * every region they contain, no index is created if the intervals overlap too
+ * much.</p>
+ */
+public class IntervalConditionIndex extends AbstractConditionIndex {
+
+  public static final Pattern COMPARISON_PATTERN = Pattern.compile("^(<=|>=|<|>)([^=].*)$");
+  public static final Pattern INTERVAL_PATTERN = Pattern.compile("^(\\(|\\[|\\])(.*[^\\.])\\.\\.(.+)(\\)|\\]|\\[)$");
+  public static final Pattern NUMBER_LITERAL_PATTERN = Pattern.compile("^-?(0|[1-9][0-9]{0,17})(\\.[0-9]+)?$");
+  public static final Pattern DATE_AND_TIME_LITERAL_PATTERN = Pattern.compile("^date and time\\(\"[^\"\\\\]*\"\\)$");
+
+  /** the maximal number of rules stored per region on average per indexed rule */
+  public static final int MAX_REGIONS_PER_RULE = 8;
+
+  /** all integers up to this magnitude can be represented exactly as double */
+  public static final long MAX_EXACT_INTEGER = 1L << 53;
+
+  protected final Class<?> endpointType;
+  protected final Interval[] intervals;
+  protected final double[] endpoints;
+  /** the rules of each region indexed by region */
+  protected final int[][] regionRules;
+
+  protected IntervalConditionIndex(Class<?> endpointType, Interval[] intervals, double[] endpoints, List<Integer> unindexedRules) {
+    super(new BitSet(intervals.length), unindexedRules);
+    this.endpointType = endpointType;
+    this.intervals = intervals;
+    this.endpoints = endpoints;
+
+    int regionCount = 2 * endpoints.length + 1;
+    int[] ruleCounts = new int[regionCount];
+    for (int ruleIdx = 0; ruleIdx < intervals.length; ruleIdx++) {
+      Interval interval = intervals[ruleIdx];
+      if (interval != null) {
+        indexedRules.set(ruleIdx);
+        for (int region = getFirstRegion(interval); region <= getLastRegion(interval); region++) {
+          ruleCounts[region]++;
+        }
+      }
+    }
+
+    regionRules = new int[regionCount][];
+    for (int region = 0; region < regionCount; region++) {
+      regionRules[region] = ruleCounts[region] > 0 ? new int[ruleCounts[region]] : NO_RULES;
+      ruleCounts[region] = 0;
+    }
+    for (int ruleIdx = 0; ruleIdx < intervals.length; ruleIdx++) {
+      Interval interval = intervals[ruleIdx];
+      if (interval != null) {
+        for (int region = getFirstRegion(interval); region <= getLastRegion(interval); region++) {
+          regionRules[region][ruleCounts[region]++] = ruleIdx;
+        }
+      }
+    }
+  }
+
+  /**
+   * Creates an index for the intervals of the input entries.
+   *
+   * @param intervals the intervals of the input entries indexed by rule, null if the input entry is not indexed,
+   *                  all intervals have the same endpoint type
+   * @param unindexedRules the rules in rule order whose input entries have to be evaluated
+   * @return the index or null if no interval is indexed or the intervals overlap too much
+   */
+  public static IntervalConditionIndex create(Interval[] intervals, List<Integer> unindexedRules) {
+    Class<?> endpointType = null;
+    double[] endpoints = new double[2 * intervals.length];
+    int endpointCount = 0;
+    int intervalCount = 0;
+    for (Interval interval : intervals) {
+      if (interval != null) {
+        endpointType = interval.getEndpointType();
+        intervalCount++;
+        if (interval.getLower() != null) {
+          endpoints[endpointCount++] = interval.getLower();
+        }
+        if (interval.getUpper() != null) {
+          endpoints[endpointCount++] = interval.getUpper();
+        }
+      }
+    }
+    if (endpointType == null) {
+      return null;
+    }
+
+    Arrays.sort(endpoints, 0, endpointCount);
+    int distinctEndpointCount = 0;
+    for (int i = 0; i < endpointCount; i++) {
+      if (distinctEndpointCount == 0 || endpoints[distinctEndpointCount - 1] != endpoints[i]) {
+        endpoints[distinctEndpointCount++] = endpoints[i];
+      }
+    }
+    endpoints = Arrays.copyOf(endpoints, distinctEndpointCount);
+
+    long regionEntryCount = 0;
+    for (Interval interval : intervals) {
+      if (interval != null) {
+        regionEntryCount += Math.max(0, getLastRegion(endpoints, interval) - getFirstRegion(endpoints, interval) + 1);
+      }
+    }
+    if (regionEntryCount > (long) MAX_REGIONS_PER_RULE * intervalCount) {
+      return null;
+    }
+
+    return new IntervalConditionIndex(endpointType, intervals, endpoints, unindexedRules);
+  }
+
+  /**
+   * Parses a FEEL input entry which is a single comparison or interval with
+   * number or date and time literals.
+   *
+   * @param simpleUnaryTests the FEEL simple unary tests of the input entry
+   * @param feelEngine the FEEL engine to evaluate date and time literals
+   * @return the interval or null if the input entry cannot be indexed
+   */
+  public static Interval parseInterval(String simpleUnaryTests, FeelEngine feelEngine) {
+    String expression = simpleUnaryTests.trim();
+
+    Matcher matcher = COMPARISON_PATTERN.matcher(expression);
+    if (matcher.matches()) {
+      Endpoint endpoint = parseEndpoint(matcher.group(2), feelEngine);
+      if (endpoint == null) {
+        return null;
+      }
+
+      String operator = matcher.group(1);
+      if (operator.startsWith("<")) {
+        return new Interval(endpoint.type, null, false, endpoint.value, operator.equals("<="));
+      }
+      else {
+        return new Interval(endpoint.type, endpoint.value, operator.equals(">="), null, false);
+      }
+    }
+
+    matcher = INTERVAL_PATTERN.matcher(expression);
+    if (matcher.matches()) {
+      Endpoint lower = parseEndpoint(matcher.group(2), feelEngine);
+      Endpoint upper = parseEndpoint(matcher.group(3), feelEngine);
+      if (lower == null || upper == null || lower.type != upper.type) {
+        return null;
+      }
+
+      boolean lowerInclusive = matcher.group(1).equals("[");
+      boolean upperInclusive = matcher.group(4).equals("]");
+      return new Interval(lower.type, lower.value, lowerInclusive, upper.value, upperInclusive);
+    }
+
+    return null;
+  }
+
+  protected static Endpoint parseEndpoint(String endpoint, FeelEngine feelEngine) {
+    endpoint = endpoint.trim();
+
+    Matcher matcher = NUMBER_LITERAL_PATTERN.matcher(endpoint);
+    if (matcher.matches()) {
+      if (matcher.group(2) != null) {
+        return new Endpoint(Number.class, Double.parseDouble(endpoint));
+      }
+      else {
+        long value = Long.parseLong(endpoint);
+        if (Math.abs(value) <= MAX_EXACT_INTEGER) {
+          return new Endpoint(Number.class, value);
+        }
+        else {
+          return null;
+        }
+      }
+    }
+    else if (DATE_AND_TIME_LITERAL_PATTERN.matcher(endpoint).matches()) {
+      try {
+        Object value = feelEngine.evaluateSimpleExpression(endpoint, Variables.emptyVariableContext());
+        if (value instanceof Date) {
+          return new Endpoint(Date.class, ((Date) value).getTime());
+        }
+        else {
+          return null;
+        }
+      }
+      catch (FeelException e) {
+        // the input entry is evaluated and reports the error
+        return null;
+      }
+    }
+    else {
+      return null;
+    }
+  }
+
+  protected int[] findMatchingRules(Object value) {
+    Double key = getKey(value);
+    if (key == null) {
+      return null;
+    }
+    return findMatchingRules(key.doubleValue());
+  }
+
+  /**
+   * @param key the key of the input value
+   * @return the indexed rules whose intervals contain the key
+   */
+  protected int[] findMatchingRules(double key) {
+    return regionRules[getRegion(key)];
+  }
+
+  /**
+   * @return the value as double or null if the value cannot be compared with
+   *         the endpoints without evaluating the input entries
+   */
+  protected Double getKey(Object value) {
+    if (value == null) {
+      return null;
+    }
+
+    Class<?> valueType = value.getClass();
+    if (endpointType == Number.class) {
+      if (valueType == Integer.class || valueType == Short.class || valueType == Byte.class) {
+        return ((Number) value).doubleValue();
+      }
+      else if (valueType == Long.class) {
+        long longValue = (Long) value;
+        if (Math.abs(longValue) <= MAX_EXACT_INTEGER) {
+          return (double) longValue;
+        }
+      }
+      else if (valueType == Double.class || valueType == Float.class) {
+        double doubleValue = ((Number) value).doubleValue();
+        if (!Double.isNaN(doubleValue)) {
+          // treat -0.0 like 0.0 as the comparisons do
+          return doubleValue + 0.0;
+        }
+      }
+    }
+    else if (endpointType == Date.class) {
+      if (valueType == Date.class) {
+        return (double) ((Date) value).getTime();
+      }
+    }
+    return null;
+  }
+
+  protected int getRegion(double value) {
+    int idx = Arrays.binarySearch(endpoints, value);
+    if (idx >= 0) {
+      // the region of the endpoint itself
+      return 2 * idx + 1;
+    }
+    else {
+      // the region of the gap before the next endpoint
+      return 2 * (-idx - 1);
+    }
+  }
+
+  protected int getFirstRegion(Interval interval) {
+    return getFirstRegion(endpoints, interval);
+  }
+
+  protected int getLastRegion(Interval interval) {
+    return getLastRegion(endpoints, interval);
+  }
+
+  protected static int getFirstRegion(double[] endpoints, Interval interval) {
+    if (interval.getLower() == null) {
+      return 0;
+    }
+    int idx = Arrays.binarySearch(endpoints, interval.getLower());
+    return interval.isLowerInclusive() ? 2 * idx + 1 : 2 * idx + 2;
+  }
+
+  protected static int getLastRegion(double[] endpoints, Interval interval) {
+    if (interval.getUpper() == null) {
+      return 2 * endpoints.length;
+    }
+    int idx = Arrays.binarySearch(endpoints, interval.getUpper());
+    return interval.isUpperInclusive() ? 2 * idx + 1 : 2 * idx;
+  }
+
+  /**
+   * @return the interval of the input entry of the rule or null if it is not indexed
+   */
+  public Interval getInterval(int ruleIdx) {
+    return intervals[ruleIdx];
+  }
+
+  public Class<?> getEndpointType() {
+    return endpointType;
+  }
+
+  public String toString() {
+    return "IntervalConditionIndex{" +
+      "endpointType=" + endpointType.getSimpleName() +
+      ", endpoints=" + endpoints.length +
+      ", unindexedRules=" + unindexedRules.length +
+      '}';
+  }
+
+  protected static class Endpoint {
+
+    protected final Class<?> type;
+    protected final double value;
+
+    public Endpoint(Class<?> type, double value) {
+      this.type = type;
+      // treat -0.0 like 0.0 as the comparisons do
+      this.value = value + 0.0;
+    }
+
+  }
+
+  /**
+   * An interval of an input entry, the bounds are null if the interval is
+   * unbounded.
+   */
+  public static class Interval {
+
+    protected final Class<?> endpointType;
+    protected final Double lower;
+    protected final boolean lowerInclusive;
+    protected final Double upper;
+    protected final boolean upperInclusive;
+
+    public Interval(Class<?> endpointType, Double lower, boolean lowerInclusive, Double upper, boolean upperInclusive) {
+      this.endpointType = endpointType;
+      this.lower = lower;
+      this.lowerInclusive = lowerInclusive;
+      this.upper = upper;
+      this.upperInclusive = upperInclusive;
+    }
+
+    public Class<?> getEndpointType() {
+      return endpointType;
+    }
+
+    public Double getLower() {
+      return lower;
+    }
+
+    public boolean isLowerInclusive() {
+      return lowerInclusive;
+    }
+
+    public Double getUpper() {
+      return upper;
+    }
+
+    public boolean isUpperInclusive() {
+      return upperInclusive;
+    }
+
+    /**
+     * @return true if no value is within the bounds of the interval
+     */
+    public boolean isEmpty() {
+      if (lower == null || upper == null) {
+        return false;
+      }
+      else if (lower.doubleValue() == upper.doubleValue()) {
+        return !lowerInclusive || !upperInclusive;
+      }
+      else {
+        return lower > upper;
+      }
+    }
+
+    /**
+     * @return true if the value is within the bounds of the interval
+     */
+    public boolean contains(double value) {
+      if (lower != null && (lowerInclusive ? value < lower : value <= lower)) {
+        return false;
+      }
+      if (upper != null && (upperInclusive ? value > upper : value >= upper)) {
+        return false;
+      }
+      return true;
+    }
+
+    public String toString() {
+      return (lowerInclusive ? "[" : "]") + lower + ".." + upper + (upperInclusive ? "]" : "[");
+    }
+
+  }
+
+}
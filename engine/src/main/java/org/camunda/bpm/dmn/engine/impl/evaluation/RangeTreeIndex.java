@@ -0,0 +1,457 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.engine.impl.evaluation;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.camunda.bpm.dmn.engine.impl.evaluation.IntervalConditionIndex.Interval;
+
+/**
+ * Spatial index over consecutive inputs of a compiled decision table whose
+ * input entries are indexed by {@link IntervalConditionIndex}es. A rule
+ * whose input entries of these inputs are all intervals or match every value
+ * is a box. The boxes are stored in a tree of bounding boxes, so a query with
+ * the values of the inputs only visits the boxes near the values.
+ *
+ * <p>Rules with other input entries for these inputs are filtered input by
+ * input as before.</p>
+ */
+public class RangeTreeIndex {
+
+  /** the minimal number of consecutive interval indexed inputs to create the index */
+  public static final int MIN_INPUTS = 2;
+  /** the maximal number of boxes in a leaf of the tree */
+  public static final int LEAF_SIZE = 8;
+
+  protected final int firstInput;
+  protected final IntervalConditionIndex[] inputIndices;
+  protected final int dimensions;
+  /** the rules which are filtered by the index */
+  protected final BitSet indexedRules;
+  /** whether all interval indexed rules of an input are filtered by the index indexed by dimension */
+  protected final boolean[] coveredInputs;
+
+  /** the rules of the boxes in tree order */
+  protected final int[] boxRules;
+  /** the intervals of the boxes indexed by box and dimension, null if unbounded */
+  protected final Interval[][] boxIntervals;
+
+  /** the bounds of the nodes indexed by node * dimensions + dimension */
+  protected final double[] nodeLower;
+  protected final double[] nodeUpper;
+  /** the first box and the box after the last box of a leaf */
+  protected final int[] nodeStart;
+  protected final int[] nodeEnd;
+  /** the children of a node, -1 for leaves */
+  protected final int[] nodeLeft;
+  protected final int[] nodeRight;
+  protected int nodeCount;
+  protected int depth;
+
+  /** the statistics are shared by all threads, so they are only collected on demand */
+  protected volatile boolean statisticsEnabled;
+  protected final AtomicLong queryCount = new AtomicLong();
+  protected final AtomicLong visitedNodeCount = new AtomicLong();
+  protected final AtomicLong candidateCount = new AtomicLong();
+
+  /**
+   * @param firstInput the index of the first input of the index
+   * @param inputIndices the interval indices of the consecutive inputs
+   * @param ruleCount the number of rules of the decision table
+   */
+  public RangeTreeIndex(int firstInput, IntervalConditionIndex[] inputIndices, int ruleCount) {
+    this.firstInput = firstInput;
+    this.inputIndices = inputIndices;
+    this.dimensions = inputIndices.length;
+
+    indexedRules = new BitSet(ruleCount);
+    indexedRules.set(0, ruleCount);
+    for (IntervalConditionIndex inputIndex : inputIndices) {
+      for (int ruleIdx : inputIndex.unindexedRules) {
+        indexedRules.clear(ruleIdx);
+      }
+    }
+
+    coveredInputs = new boolean[dimensions];
+    for (int dimension = 0; dimension < dimensions; dimension++) {
+      BitSet uncoveredRules = (BitSet) inputIndices[dimension].indexedRules.clone();
+      uncoveredRules.andNot(indexedRules);
+      coveredInputs[dimension] = uncoveredRules.isEmpty();
+    }
+
+    // rules with an empty interval never match and have no box
+    int boxCount = 0;
+    int[] rules = new int[indexedRules.cardinality()];
+    for (int ruleIdx = indexedRules.nextSetBit(0); ruleIdx >= 0; ruleIdx = indexedRules.nextSetBit(ruleIdx + 1)) {
+      if (!hasEmptyInterval(ruleIdx)) {
+        rules[boxCount++] = ruleIdx;
+      }
+    }
+    boxRules = Arrays.copyOf(rules, boxCount);
+    boxIntervals = new Interval[boxCount][];
+
+    int maxNodeCount = Math.max(1, 2 * boxCount);
+    nodeLower = new double[maxNodeCount * dimensions];
+    nodeUpper = new double[maxNodeCount * dimensions];
+    nodeStart = new int[maxNodeCount];
+    nodeEnd = new int[maxNodeCount];
+    nodeLeft = new int[maxNodeCount];
+    nodeRight = new int[maxNodeCount];
+
+    Integer[] boxes = new Integer[boxCount];
+    for (int i = 0; i < boxCount; i++) {
+      boxes[i] = boxRules[i];
+    }
+    build(boxes, 0, boxCount, 1);
+    for (int i = 0; i < boxCount; i++) {
+      boxRules[i] = boxes[i];
+      boxIntervals[i] = getIntervals(boxes[i]);
+    }
+  }
+
+  protected boolean hasEmptyInterval(int ruleIdx) {
+    for (IntervalConditionIndex inputIndex : inputIndices) {
+      Interval interval = inputIndex.getInterval(ruleIdx);
+      if (interval != null && interval.isEmpty()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  protected Interval[] getIntervals(int ruleIdx) {
+    Interval[] intervals = new Interval[dimensions];
+    for (int dimension = 0; dimension < dimensions; dimension++) {
+      intervals[dimension] = inputIndices[dimension].getInterval(ruleIdx);
+    }
+    return intervals;
+  }
+
+  /**
+   * Builds the node of the boxes from start to end by splitting them at the
+   * median center of the dimension with the largest spread.
+   *
+   * @return the index of the node
+   */
+  protected int build(Integer[] boxes, int start, int end, int level) {
+    int node = nodeCount++;
+    depth = Math.max(depth, level);
+
+    for (int dimension = 0; dimension < dimensions; dimension++) {
+      double lower = Double.POSITIVE_INFINITY;
+      double upper = Double.NEGATIVE_INFINITY;
+      for (int i = start; i < end; i++) {
+        Interval interval = inputIndices[dimension].getInterval(boxes[i]);
+        lower = Math.min(lower, getLower(interval));
+        upper = Math.max(upper, getUpper(interval));
+      }
+      nodeLower[node * dimensions + dimension] = lower;
+      nodeUpper[node * dimensions + dimension] = upper;
+    }
+
+    nodeStart[node] = start;
+    nodeEnd[node] = end;
+    if (end - start <= LEAF_SIZE) {
+      nodeLeft[node] = -1;
+      nodeRight[node] = -1;
+    }
+    else {
+      Arrays.sort(boxes, start, end, new CenterComparator(inputIndices[getSplitDimension(boxes, start, end)]));
+      int middle = (start + end) >>> 1;
+      nodeLeft[node] = build(boxes, start, middle, level + 1);
+      nodeRight[node] = build(boxes, middle, end, level + 1);
+    }
+    return node;
+  }
+
+  protected int getSplitDimension(Integer[] boxes, int start, int end) {
+    int splitDimension = 0;
+    double maxSpread = -1;
+    for (int dimension = 0; dimension < dimensions; dimension++) {
+      double min = Double.POSITIVE_INFINITY;
+      double max = Double.NEGATIVE_INFINITY;
+      for (int i = start; i < end; i++) {
+        double center = getCenter(inputIndices[dimension].getInterval(boxes[i]));
+        min = Math.min(min, center);
+        max = Math.max(max, center);
+      }
+      if (max - min > maxSpread) {
+        maxSpread = max - min;
+        splitDimension = dimension;
+      }
+    }
+    return splitDimension;
+  }
+
+  protected static double getLower(Interval interval) {
+    if (interval == null || interval.getLower() == null) {
+      return Double.NEGATIVE_INFINITY;
+    }
+    else {
+      return interval.getLower();
+    }
+  }
+
+  protected static double getUpper(Interval interval) {
+    if (interval == null || interval.getUpper() == null) {
+      return Double.POSITIVE_INFINITY;
+    }
+    else {
+      return interval.getUpper();
+    }
+  }
+
+  protected static double getCenter(Interval interval) {
+    double lower = getLower(interval);
+    double upper = getUpper(interval);
+    if (lower == Double.NEGATIVE_INFINITY) {
+      return upper == Double.POSITIVE_INFINITY ? 0 : upper;
+    }
+    else if (upper == Double.POSITIVE_INFINITY) {
+      return lower;
+    }
+    else {
+      return lower + (upper - lower) / 2;
+    }
+  }
+
+  /**
+   * @return true if the input is one of the inputs of the index
+   */
+  public boolean containsInput(int inputIdx) {
+    return inputIdx >= firstInput && inputIdx < firstInput + dimensions;
+  }
+
+  /**
+   * @return true if all interval indexed rules of the input are filtered by the index
+   */
+  public boolean isInputCovered(int inputIdx) {
+    return coveredInputs[inputIdx - firstInput];
+  }
+
+  /**
+   * @return the key of the input value or null if the value cannot be looked up
+   */
+  public Double getKey(int inputIdx, Object value) {
+    return inputIndices[inputIdx - firstInput].getKey(value);
+  }
+
+  /**
+   * Removes all rules from the given indexed rules which do not match the
+   * keys of the inputs. If the keys of all inputs are given the tree is
+   * queried, otherwise the rules are filtered by the interval indices of the
+   * given inputs.
+   *
+   * @param keys the keys of the inputs of the index in input order
+   * @param keyCount the number of given keys
+   * @param matchingIndexedRules the indexed rules which matched the previous inputs
+   */
+  public void filterMatchingRules(double[] keys, int keyCount, BitSet matchingIndexedRules) {
+    if (keyCount == dimensions) {
+      matchingIndexedRules.and(query(keys));
+    }
+    else {
+      for (int dimension = 0; dimension < keyCount; dimension++) {
+        IntervalConditionIndex inputIndex = inputIndices[dimension];
+        BitSet notMatchingRules = (BitSet) inputIndex.indexedRules.clone();
+        for (int ruleIdx : inputIndex.findMatchingRules(keys[dimension])) {
+          notMatchingRules.clear(ruleIdx);
+        }
+        matchingIndexedRules.andNot(notMatchingRules);
+      }
+    }
+  }
+
+  /**
+   * @param keys the keys of all inputs of the index in input order
+   * @return the indexed rules whose boxes do not contain the point of the keys
+   */
+  public BitSet findNotMatchingRules(double[] keys) {
+    BitSet notMatchingRules = (BitSet) indexedRules.clone();
+    notMatchingRules.andNot(query(keys));
+    return notMatchingRules;
+  }
+
+  /**
+   * @return the rules whose boxes contain the point of the keys
+   */
+  protected BitSet query(double[] keys) {
+    BitSet rules = new BitSet();
+    int visitedNodes = 0;
+    int candidates = 0;
+
+    int[] stack = new int[depth + 1];
+    int stackSize = 0;
+    if (boxRules.length > 0) {
+      stack[stackSize++] = 0;
+    }
+    while (stackSize > 0) {
+      int node = stack[--stackSize];
+      visitedNodes++;
+      if (!containsPoint(node, keys)) {
+        continue;
+      }
+
+      if (nodeLeft[node] >= 0) {
+        stack[stackSize++] = nodeLeft[node];
+        stack[stackSize++] = nodeRight[node];
+      }
+      else {
+        for (int box = nodeStart[node]; box < nodeEnd[node]; box++) {
+          candidates++;
+          if (containsPoint(boxIntervals[box], keys)) {
+            rules.set(boxRules[box]);
+          }
+        }
+      }
+    }
+
+    if (statisticsEnabled) {
+      queryCount.incrementAndGet();
+      visitedNodeCount.addAndGet(visitedNodes);
+      candidateCount.addAndGet(candidates);
+    }
+    return rules;
+  }
+
+  protected boolean containsPoint(int node, double[] keys) {
+    int offset = node * dimensions;
+    for (int dimension = 0; dimension < dimensions; dimension++) {
+      double key = keys[dimension];
+      if (key < nodeLower[offset + dimension] || key > nodeUpper[offset + dimension]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  protected boolean containsPoint(Interval[] intervals, double[] keys) {
+    for (int dimension = 0; dimension < dimensions; dimension++) {
+      Interval interval = intervals[dimension];
+      if (interval != null && !interval.contains(keys[dimension])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // statistics ///////////////////////////////////////////////////////////////
+
+  /**
+   * @return true if the queries of the tree are counted
+   */
+  public boolean isStatisticsEnabled() {
+    return statisticsEnabled;
+  }
+
+  /**
+   * Enables or disables the counting of the queries of the tree. The counting
+   * is disabled by default because the counters are shared by all threads.
+   */
+  public void setStatisticsEnabled(boolean statisticsEnabled) {
+    this.statisticsEnabled = statisticsEnabled;
+  }
+
+  /**
+   * @return the index of the first input of the index
+   */
+  public int getFirstInput() {
+    return firstInput;
+  }
+
+  /**
+   * @return the number of inputs of the index
+   */
+  public int getDimensions() {
+    return dimensions;
+  }
+
+  /**
+   * @return the number of rules which are filtered by the index
+   */
+  public int getIndexedRuleCount() {
+    return indexedRules.cardinality();
+  }
+
+  /**
+   * @return the rules which are filtered by the index
+   */
+  public BitSet getIndexedRules() {
+    return indexedRules;
+  }
+
+  /**
+   * @return the number of nodes of the tree
+   */
+  public int getNodeCount() {
+    return nodeCount;
+  }
+
+  /**
+   * @return the number of levels of the tree
+   */
+  public int getDepth() {
+    return depth;
+  }
+
+  /**
+   * @return the number of queries of the tree since the statistics were enabled
+   */
+  public long getQueryCount() {
+    return queryCount.get();
+  }
+
+  /**
+   * @return the number of nodes visited by all queries
+   */
+  public long getVisitedNodeCount() {
+    return visitedNodeCount.get();
+  }
+
+  /**
+   * @return the number of boxes tested by all queries
+   */
+  public long getCandidateCount() {
+    return candidateCount.get();
+  }
+
+  public String toString() {
+    return "RangeTreeIndex{" +
+      "firstInput=" + firstInput +
+      ", dimensions=" + dimensions +
+      ", indexedRules=" + getIndexedRuleCount() +
+      ", nodes=" + nodeCount +
+      ", depth=" + depth +
+      ", queries=" + getQueryCount() +
+      '}';
+  }
+
+  protected static class CenterComparator implements Comparator<Integer> {
+
+    protected final IntervalConditionIndex inputIndex;
+
+    public CenterComparator(IntervalConditionIndex inputIndex) {
+      this.inputIndex = inputIndex;
+    }
+
+    public int compare(Integer rule1, Integer rule2) {
+      return Double.compare(getCenter(inputIndex.getInterval(rule1)), getCenter(inputIndex.getInterval(rule2)));
+    }
+
+  }
+
+}
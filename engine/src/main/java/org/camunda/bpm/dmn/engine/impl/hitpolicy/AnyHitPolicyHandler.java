@@ -22,9 +22,9 @@ import org.camunda.bpm.dmn.engine.delegate.DmnEvaluatedDecisionRule;
 import org.camunda.bpm.dmn.engine.delegate.DmnEvaluatedOutput;
 import org.camunda.bpm.dmn.engine.impl.DmnLogger;
 import org.camunda.bpm.dmn.engine.impl.delegate.DmnDecisionTableEvaluationEventImpl;
-import org.camunda.bpm.dmn.engine.impl.spi.hitpolicy.DmnHitPolicyHandler;
+import org.camunda.bpm.dmn.engine.impl.spi.hitpolicy.DmnShortCircuitHitPolicyHandler;
 
-public class AnyHitPolicyHandler implements DmnHitPolicyHandler {
+public class AnyHitPolicyHandler implements DmnShortCircuitHitPolicyHandler {
 
   public static final DmnHitPolicyLogger LOG = DmnLogger.HIT_POLICY_LOGGER;
 
@@ -43,6 +43,11 @@ public class AnyHitPolicyHandler implements DmnHitPolicyHandler {
     return decisionTableEvaluationEvent;
   }
 
+  public boolean isEvaluationComplete(List<DmnEvaluatedDecisionRule> matchingRules) {
+    // a matching rule with different outputs violates the hit policy
+    return !allOutputsAreEqual(matchingRules);
+  }
+
   protected boolean allOutputsAreEqual(List<DmnEvaluatedDecisionRule> matchingRules) {
     Map<String, DmnEvaluatedOutput> firstOutputEntries = matchingRules.get(0).getOutputEntries();
     if (firstOutputEntries == null) {
@@ -14,14 +14,14 @@
 package org.camunda.bpm.dmn.engine.impl.hitpolicy;
 
 import java.util.Collections;
+import java.util.List;
 
 import org.camunda.bpm.dmn.engine.delegate.DmnDecisionTableEvaluationEvent;
 import org.camunda.bpm.dmn.engine.delegate.DmnEvaluatedDecisionRule;
 import org.camunda.bpm.dmn.engine.impl.delegate.DmnDecisionTableEvaluationEventImpl;
-import org.camunda.bpm.dmn.engine.impl.spi.hitpolicy.DmnHitPolicyHandler;
+import org.camunda.bpm.dmn.engine.impl.spi.hitpolicy.DmnShortCircuitHitPolicyHandler;
 
-
-public class FirstHitPolicyHandler implements DmnHitPolicyHandler {
+public class FirstHitPolicyHandler implements DmnShortCircuitHitPolicyHandler {
 
   public DmnDecisionTableEvaluationEvent apply(DmnDecisionTableEvaluationEvent decisionTableEvaluationEvent) {
     if (!decisionTableEvaluationEvent.getMatchingRules().isEmpty()) {
@@ -31,6 +31,11 @@ public class FirstHitPolicyHandler implements DmnHitPolicyHandler {
     return decisionTableEvaluationEvent;
   }
 
+  public boolean isEvaluationComplete(List<DmnEvaluatedDecisionRule> matchingRules) {
+    // the first matching rule is the result
+    return true;
+  }
+
   @Override
   public String toString() {
     return "FirstHitPolicyHandler{}";
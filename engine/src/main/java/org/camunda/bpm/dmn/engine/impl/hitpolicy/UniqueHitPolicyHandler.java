@@ -18,9 +18,9 @@ import java.util.List;
 import org.camunda.bpm.dmn.engine.delegate.DmnDecisionTableEvaluationEvent;
 import org.camunda.bpm.dmn.engine.delegate.DmnEvaluatedDecisionRule;
 import org.camunda.bpm.dmn.engine.impl.DmnLogger;
-import org.camunda.bpm.dmn.engine.impl.spi.hitpolicy.DmnHitPolicyHandler;
+import org.camunda.bpm.dmn.engine.impl.spi.hitpolicy.DmnShortCircuitHitPolicyHandler;
 
-public class UniqueHitPolicyHandler implements DmnHitPolicyHandler {
+public class UniqueHitPolicyHandler implements DmnShortCircuitHitPolicyHandler {
 
   public static final DmnHitPolicyLogger LOG = DmnLogger.HIT_POLICY_LOGGER;
 
@@ -35,6 +35,11 @@ public class UniqueHitPolicyHandler implements DmnHitPolicyHandler {
     }
   }
 
+  public boolean isEvaluationComplete(List<DmnEvaluatedDecisionRule> matchingRules) {
+    // a second matching rule violates the hit policy
+    return matchingRules.size() > 1;
+  }
+
   @Override
   public String toString() {
     return "UniqueHitPolicyHandler{}";
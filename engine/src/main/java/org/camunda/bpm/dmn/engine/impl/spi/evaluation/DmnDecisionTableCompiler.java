@@ -0,0 +1,32 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.engine.impl.spi.evaluation;
+
+import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableImpl;
+import org.camunda.bpm.dmn.engine.impl.evaluation.CompiledDecisionTable;
+
+/**
+ * Compiler which prepares decision tables for their evaluation.
+ */
+public interface DmnDecisionTableCompiler {
+
+  /**
+   * Compile a decision table.
+   *
+   * @param decisionTable the decision table to compile
+   * @return the compiled decision table
+   */
+  CompiledDecisionTable compile(DmnDecisionTableImpl decisionTable);
+
+}
@@ -0,0 +1,42 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.engine.impl.spi.hitpolicy;
+
+import java.util.List;
+
+import org.camunda.bpm.dmn.engine.delegate.DmnEvaluatedDecisionRule;
+
+/**
+ * Handler for a DMN decision table hit policy which does not need all
+ * matching rules to apply the hit policy, e.g. the first matching rule or
+ * a second matching rule which violates the hit policy.
+ *
+ * <p>The rules of a decision table with such a hit policy are evaluated in
+ * rule order and the output entries of each matching rule are evaluated
+ * directly after the rule matched. The evaluation stops as soon as the
+ * handler declares it as complete. Afterwards the hit policy is applied
+ * to the rules which matched so far.</p>
+ */
+public interface DmnShortCircuitHitPolicyHandler extends DmnHitPolicyHandler {
+
+  /**
+   * Decides if further rules have to be evaluated.
+   *
+   * @param matchingRules the rules which matched so far in rule order, including
+   *                      the evaluated output entries, contains at least one rule
+   * @return true if the remaining rules of the decision table can be skipped, false otherwise
+   */
+  boolean isEvaluationComplete(List<DmnEvaluatedDecisionRule> matchingRules);
+
+}
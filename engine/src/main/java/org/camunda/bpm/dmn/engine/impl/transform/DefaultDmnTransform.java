@@ -30,6 +30,7 @@ import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableOutputImpl;
 import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableRuleImpl;
 import org.camunda.bpm.dmn.engine.impl.DmnExpressionImpl;
 import org.camunda.bpm.dmn.engine.impl.DmnLogger;
+import org.camunda.bpm.dmn.engine.impl.spi.evaluation.DmnDecisionTableCompiler;
 import org.camunda.bpm.dmn.engine.impl.spi.hitpolicy.DmnHitPolicyHandlerRegistry;
 import org.camunda.bpm.dmn.engine.impl.spi.transform.DmnElementTransformContext;
 import org.camunda.bpm.dmn.engine.impl.spi.transform.DmnElementTransformHandler;
@@ -38,6 +39,7 @@ import org.camunda.bpm.dmn.engine.impl.spi.transform.DmnTransform;
 import org.camunda.bpm.dmn.engine.impl.spi.transform.DmnTransformListener;
 import org.camunda.bpm.dmn.engine.impl.spi.transform.DmnTransformer;
 import org.camunda.bpm.dmn.engine.impl.spi.type.DmnDataTypeTransformerRegistry;
+import org.camunda.bpm.dmn.feel.impl.FeelEngine;
 import org.camunda.bpm.model.dmn.Dmn;
 import org.camunda.bpm.model.dmn.DmnModelException;
 import org.camunda.bpm.model.dmn.DmnModelInstance;
@@ -65,8 +67,14 @@ public class DefaultDmnTransform implements DmnTransform, DmnElementTransformCon
   protected DmnModelInstance modelInstance;
   protected Object parent;
   protected DmnDecision decision;
+  protected DmnDecisionTableInputImpl input;
+  protected DmnDecisionTableOutputImpl output;
   protected DmnDataTypeTransformerRegistry dataTypeTransformerRegistry;
   protected DmnHitPolicyHandlerRegistry hitPolicyHandlerRegistry;
+  protected FeelEngine feelEngine;
+  protected String defaultInputEntryExpressionLanguage;
+  protected String defaultOutputEntryExpressionLanguage;
+  protected DmnDecisionTableCompiler decisionTableCompiler;
 
   public DefaultDmnTransform(DmnTransformer transformer) {
     this.transformer = transformer;
@@ -129,6 +137,7 @@ public class DefaultDmnTransform implements DmnTransform, DmnElementTransformCon
         if (dmnDecision != null) {
           dmnDecisions.add(dmnDecision);
           notifyTransformListeners(decision, dmnDecision);
+          compileDecision(dmnDecision);
         }
       }
       return (List<T>) dmnDecisions;
@@ -258,12 +267,14 @@ public class DefaultDmnTransform implements DmnTransform, DmnElementTransformCon
       throw LOG.differentNumberOfInputsAndInputEntries(inputs.size(), inputEntries.size(), dmnRule);
     }
 
-    for (InputEntry inputEntry : inputEntries) {
+    for (int inputIdx = 0; inputIdx < inputEntries.size(); inputIdx++) {
       parent = dmnRule;
+      input = inputs.get(inputIdx);
 
-      DmnExpressionImpl condition = transformInputEntry(inputEntry);
+      DmnExpressionImpl condition = transformInputEntry(inputEntries.get(inputIdx));
       dmnRule.getConditions().add(condition);
     }
+    input = null;
 
     List<DmnDecisionTableOutputImpl> outputs = dmnDecisionTable.getOutputs();
     List<OutputEntry> outputEntries = new ArrayList<OutputEntry>(rule.getOutputEntries());
@@ -271,11 +282,13 @@ public class DefaultDmnTransform implements DmnTransform, DmnElementTransformCon
       throw LOG.differentNumberOfOutputsAndOutputEntries(outputs.size(), outputEntries.size(), dmnRule);
     }
 
-    for (OutputEntry outputEntry : outputEntries) {
+    for (int outputIdx = 0; outputIdx < outputEntries.size(); outputIdx++) {
       parent = dmnRule;
-      DmnExpressionImpl conclusion = transformOutputEntry(outputEntry);
+      output = outputs.get(outputIdx);
+      DmnExpressionImpl conclusion = transformOutputEntry(outputEntries.get(outputIdx));
       dmnRule.getConclusions().add(conclusion);
     }
+    output = null;
 
     return dmnRule;
   }
@@ -295,6 +308,17 @@ public class DefaultDmnTransform implements DmnTransform, DmnElementTransformCon
     return handler.handleElement(this, outputEntry);
   }
 
+  /**
+   * Compiles the evaluation plan of a decision table after the transform
+   * listeners were notified, so the plan contains their modifications.
+   */
+  protected void compileDecision(DmnDecision decision) {
+    if (decisionTableCompiler != null && decision instanceof DmnDecisionTableImpl) {
+      DmnDecisionTableImpl decisionTable = (DmnDecisionTableImpl) decision;
+      decisionTable.addCompiledDecisionTable(decisionTableCompiler.compile(decisionTable));
+    }
+  }
+
   // listeners ////////////////////////////////////////////////////////////////
 
   protected void notifyTransformListeners(Decision decision, DmnDecision dmnDecision) {
@@ -335,6 +359,22 @@ public class DefaultDmnTransform implements DmnTransform, DmnElementTransformCon
     return decision;
   }
 
+  /**
+   * @return the already transformed decision table input of the current
+   *         transformed input entry or null if no input entry is transformed
+   */
+  public DmnDecisionTableInputImpl getInput() {
+    return input;
+  }
+
+  /**
+   * @return the already transformed decision table output of the current
+   *         transformed output entry or null if no output entry is transformed
+   */
+  public DmnDecisionTableOutputImpl getOutput() {
+    return output;
+  }
+
   public DmnDataTypeTransformerRegistry getDataTypeTransformerRegistry() {
     return dataTypeTransformerRegistry;
   }
@@ -343,4 +383,48 @@ public class DefaultDmnTransform implements DmnTransform, DmnElementTransformCon
     return hitPolicyHandlerRegistry;
   }
 
+  /**
+   * @return the {@link FeelEngine} used to compile FEEL input entries or null if they are not compiled
+   */
+  public FeelEngine getFeelEngine() {
+    return feelEngine;
+  }
+
+  public void setFeelEngine(FeelEngine feelEngine) {
+    this.feelEngine = feelEngine;
+  }
+
+  /**
+   * @return the expression language of input entries which do not have a expression language set
+   */
+  public String getDefaultInputEntryExpressionLanguage() {
+    return defaultInputEntryExpressionLanguage;
+  }
+
+  public void setDefaultInputEntryExpressionLanguage(String expressionLanguage) {
+    this.defaultInputEntryExpressionLanguage = expressionLanguage;
+  }
+
+  /**
+   * @return the expression language of output entries which do not have a expression language set
+   */
+  public String getDefaultOutputEntryExpressionLanguage() {
+    return defaultOutputEntryExpressionLanguage;
+  }
+
+  public void setDefaultOutputEntryExpressionLanguage(String expressionLanguage) {
+    this.defaultOutputEntryExpressionLanguage = expressionLanguage;
+  }
+
+  /**
+   * @return the {@link DmnDecisionTableCompiler} used to compile decision tables or null if they are not compiled
+   */
+  public DmnDecisionTableCompiler getDecisionTableCompiler() {
+    return decisionTableCompiler;
+  }
+
+  public void setDecisionTableCompiler(DmnDecisionTableCompiler decisionTableCompiler) {
+    this.decisionTableCompiler = decisionTableCompiler;
+  }
+
 }
@@ -16,13 +16,24 @@ package org.camunda.bpm.dmn.engine.impl.transform;
 import static org.camunda.bpm.dmn.engine.impl.transform.DmnExpressionTransformHelper.getExpression;
 import static org.camunda.bpm.dmn.engine.impl.transform.DmnExpressionTransformHelper.getExpressionLanguage;
 
+import java.util.regex.Pattern;
+
+import org.camunda.bpm.dmn.engine.impl.DefaultDmnEngineConfiguration;
+import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableOutputImpl;
 import org.camunda.bpm.dmn.engine.impl.DmnExpressionImpl;
 import org.camunda.bpm.dmn.engine.impl.spi.transform.DmnElementTransformContext;
 import org.camunda.bpm.dmn.engine.impl.spi.transform.DmnElementTransformHandler;
+import org.camunda.bpm.dmn.engine.impl.spi.type.DmnTypeDefinition;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.engine.variable.value.TypedValue;
 import org.camunda.bpm.model.dmn.instance.OutputEntry;
+import org.camunda.commons.utils.StringUtil;
 
 public class DmnDecisionTableConclusionTransformHandler implements DmnElementTransformHandler<OutputEntry, DmnExpressionImpl> {
 
+  protected static final Pattern JUEL_INTEGER_PATTERN = Pattern.compile("-?\\s*[0-9]+");
+  protected static final Pattern JUEL_FLOAT_PATTERN = Pattern.compile("-?\\s*([0-9]+\\.[0-9]*|\\.[0-9]+|[0-9]+(?=[eE]))([eE][+-]?[0-9]+)?");
+
   public DmnExpressionImpl handleElement(DmnElementTransformContext context, OutputEntry outputEntry) {
     return createFromOutputEntry(context, outputEntry);
   }
@@ -35,9 +46,128 @@ public class DmnDecisionTableConclusionTransformHandler implements DmnElementTra
     conclusion.setExpressionLanguage(getExpressionLanguage(context, outputEntry));
     conclusion.setExpression(getExpression(outputEntry));
 
+    if (context instanceof DefaultDmnTransform) {
+      foldConstantValue((DefaultDmnTransform) context, conclusion);
+    }
+
     return conclusion;
   }
 
+  /**
+   * Transforms the value of a literal JUEL output entry to the type of the
+   * output, so it is not evaluated and transformed on every evaluation and
+   * type errors are detected during the transformation.
+   */
+  protected void foldConstantValue(DefaultDmnTransform context, DmnExpressionImpl conclusion) {
+    String expressionLanguage = conclusion.getExpressionLanguage();
+    if (expressionLanguage == null) {
+      expressionLanguage = context.getDefaultOutputEntryExpressionLanguage();
+    }
+
+    DmnDecisionTableOutputImpl output = context.getOutput();
+    if (output != null && DefaultDmnEngineConfiguration.JUEL_EXPRESSION_LANGUAGE.equals(expressionLanguage)) {
+      TypedValue literalValue = parseJuelLiteral(conclusion.getExpression());
+      if (literalValue != null) {
+        DmnTypeDefinition typeDefinition = output.getTypeDefinition();
+        TypedValue typedValue = typeDefinition.transform(literalValue.getValue());
+        if (isImmutable(typedValue.getValue())) {
+          // the constant value is only used as long as the output has this type definition
+          conclusion.setTypeDefinition(typeDefinition);
+          conclusion.setConstantValue(typedValue);
+        }
+      }
+    }
+  }
+
+  /**
+   * @return the untyped value of the expression if it is a single JUEL string,
+   *         number, boolean or null literal, otherwise null
+   */
+  protected TypedValue parseJuelLiteral(String expression) {
+    if (expression == null) {
+      return null;
+    }
+    if (StringUtil.isExpression(expression)) {
+      // the text around a composite expression is part of the value
+      if (!expression.startsWith("${") || !expression.endsWith("}")) {
+        return null;
+      }
+      expression = expression.substring(2, expression.length() - 1);
+    }
+    expression = expression.trim();
+
+    if (expression.isEmpty()) {
+      return null;
+    }
+    else if ("true".equals(expression) || "false".equals(expression)) {
+      return Variables.untypedValue(Boolean.valueOf(expression));
+    }
+    else if ("null".equals(expression)) {
+      return Variables.untypedNullValue();
+    }
+    else if (expression.charAt(0) == '"' || expression.charAt(0) == '\'') {
+      String value = parseJuelString(expression);
+      return value != null ? Variables.untypedValue(value) : null;
+    }
+    else if (JUEL_INTEGER_PATTERN.matcher(expression).matches()) {
+      boolean negative = expression.charAt(0) == '-';
+      try {
+        long value = Long.parseLong(expression.substring(negative ? 1 : 0).trim());
+        return Variables.untypedValue(negative ? -value : value);
+      }
+      catch (NumberFormatException e) {
+        // integer literals which do not fit into a long are not valid
+        return null;
+      }
+    }
+    else if (JUEL_FLOAT_PATTERN.matcher(expression).matches()) {
+      boolean negative = expression.charAt(0) == '-';
+      double value = Double.parseDouble(expression.substring(negative ? 1 : 0).trim());
+      return Variables.untypedValue(negative ? -value : value);
+    }
+    else {
+      return null;
+    }
+  }
+
+  /**
+   * @return the value of the string literal or null if the expression is not
+   *         a single valid string literal
+   */
+  protected String parseJuelString(String expression) {
+    char quote = expression.charAt(0);
+    StringBuilder builder = new StringBuilder(expression.length());
+    for (int i = 1; i < expression.length(); i++) {
+      char c = expression.charAt(i);
+      if (c == '\\') {
+        if (++i == expression.length()) {
+          return null;
+        }
+        c = expression.charAt(i);
+        if (c != '\\' && c != quote) {
+          return null;
+        }
+        builder.append(c);
+      }
+      else if (c == quote) {
+        return i == expression.length() - 1 ? builder.toString() : null;
+      }
+      else {
+        builder.append(c);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return true if the value can be shared by all evaluations
+   */
+  protected boolean isImmutable(Object value) {
+    return value == null || value instanceof String || value instanceof Boolean
+      || value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte
+      || value instanceof Double || value instanceof Float;
+  }
+
   protected DmnExpressionImpl createDmnElement(DmnElementTransformContext context, OutputEntry outputEntry) {
     return new DmnExpressionImpl();
   }
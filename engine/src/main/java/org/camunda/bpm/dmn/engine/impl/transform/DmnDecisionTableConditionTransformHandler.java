@@ -15,10 +15,13 @@ package org.camunda.bpm.dmn.engine.impl.transform;
 
 import static org.camunda.bpm.dmn.engine.impl.transform.DmnExpressionTransformHelper.getExpression;
 import static org.camunda.bpm.dmn.engine.impl.transform.DmnExpressionTransformHelper.getExpressionLanguage;
+import static org.camunda.bpm.dmn.engine.impl.transform.DmnExpressionTransformHelper.isFeelExpressionLanguage;
 
+import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableInputImpl;
 import org.camunda.bpm.dmn.engine.impl.DmnExpressionImpl;
 import org.camunda.bpm.dmn.engine.impl.spi.transform.DmnElementTransformContext;
 import org.camunda.bpm.dmn.engine.impl.spi.transform.DmnElementTransformHandler;
+import org.camunda.bpm.dmn.feel.impl.FeelEngine;
 import org.camunda.bpm.model.dmn.instance.InputEntry;
 
 public class DmnDecisionTableConditionTransformHandler implements DmnElementTransformHandler<InputEntry, DmnExpressionImpl> {
@@ -35,9 +38,36 @@ public class DmnDecisionTableConditionTransformHandler implements DmnElementTran
     condition.setExpressionLanguage(getExpressionLanguage(context, inputEntry));
     condition.setExpression(getExpression(inputEntry));
 
+    if (context instanceof DefaultDmnTransform) {
+      compileSimpleUnaryTests((DefaultDmnTransform) context, condition);
+    }
+
     return condition;
   }
 
+  /**
+   * Compiles FEEL input entries so they are parsed only once and syntax
+   * errors are detected during the transformation.
+   */
+  protected void compileSimpleUnaryTests(DefaultDmnTransform context, DmnExpressionImpl condition) {
+    FeelEngine feelEngine = context.getFeelEngine();
+    String expression = condition.getExpression();
+
+    if (feelEngine != null && expression != null && !expression.trim().isEmpty()) {
+      String expressionLanguage = condition.getExpressionLanguage();
+      if (expressionLanguage == null) {
+        expressionLanguage = context.getDefaultInputEntryExpressionLanguage();
+      }
+
+      if (isFeelExpressionLanguage(expressionLanguage)) {
+        DmnDecisionTableInputImpl input = context.getInput();
+        if (input != null) {
+          condition.setSimpleUnaryTests(feelEngine, feelEngine.compileSimpleUnaryTests(expression, input.getInputVariable()));
+        }
+      }
+    }
+  }
+
   protected DmnExpressionImpl createDmnElement(DmnElementTransformContext context, InputEntry inputEntry) {
     return new DmnExpressionImpl();
   }
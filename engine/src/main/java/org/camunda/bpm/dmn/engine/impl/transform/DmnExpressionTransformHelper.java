@@ -64,6 +64,11 @@ public class DmnExpressionTransformHelper {
     }
   }
 
+  public static boolean isFeelExpressionLanguage(String expressionLanguage) {
+    return DefaultDmnEngineConfiguration.FEEL_EXPRESSION_LANGUAGE.equals(expressionLanguage) ||
+      DefaultDmnEngineConfiguration.FEEL_EXPRESSION_LANGUAGE_ALTERNATIVE.equalsIgnoreCase(expressionLanguage);
+  }
+
   public static String getExpression(LiteralExpression expression) {
     return getExpression(expression.getText());
   }
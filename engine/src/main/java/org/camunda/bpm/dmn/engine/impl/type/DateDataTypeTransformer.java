@@ -13,10 +13,11 @@
 package org.camunda.bpm.dmn.engine.impl.type;
 
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.Date;
 
 import org.camunda.bpm.dmn.engine.impl.spi.type.DmnDataTypeTransformer;
+import org.camunda.bpm.dmn.feel.impl.juel.el.DateAndTimeParser;
+import org.camunda.bpm.dmn.feel.impl.juel.el.FeelFunctionMapper;
 import org.camunda.bpm.engine.variable.Variables;
 import org.camunda.bpm.engine.variable.value.DateValue;
 import org.camunda.bpm.engine.variable.value.TypedValue;
@@ -30,7 +31,8 @@ import org.camunda.bpm.engine.variable.value.TypedValue;
  */
 public class DateDataTypeTransformer implements DmnDataTypeTransformer {
 
-  protected SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss");
+  // share the parser with the FEEL date and time function, so both parse dates identically
+  protected DateAndTimeParser parser = FeelFunctionMapper.FEEL_DATE_AND_TIME_PARSER;
 
   @Override
   public TypedValue transform(Object value) throws IllegalArgumentException {
@@ -48,7 +50,7 @@ public class DateDataTypeTransformer implements DmnDataTypeTransformer {
 
   protected Date transformString(String value) {
     try {
-      return format.parse(value);
+      return parser.parse(value);
     } catch (ParseException e) {
       throw new IllegalArgumentException(e);
     }
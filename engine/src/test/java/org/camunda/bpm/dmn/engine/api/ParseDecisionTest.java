@@ -22,6 +22,7 @@ import org.assertj.core.api.Assertions;
 import org.camunda.bpm.dmn.engine.DmnDecision;
 import org.camunda.bpm.dmn.engine.impl.transform.DmnTransformException;
 import org.camunda.bpm.dmn.engine.test.DmnEngineTest;
+import org.camunda.bpm.dmn.feel.impl.FeelException;
 import org.camunda.bpm.model.dmn.Dmn;
 import org.camunda.bpm.model.dmn.DmnModelInstance;
 import org.camunda.commons.utils.IoUtil;
@@ -38,6 +39,7 @@ public class ParseDecisionTest extends DmnEngineTest {
   public static final String MISSING_RULE_ID_DMN = "org/camunda/bpm/dmn/engine/api/MissingIds.missingRuleId.dmn";
   public static final String MISSING_COMPOUND_OUTPUT_NAME_DMN = "org/camunda/bpm/dmn/engine/api/CompoundOutputs.noName.dmn";
   public static final String DUPLICATE_COMPOUND_OUTPUT_NAME_DMN = "org/camunda/bpm/dmn/engine/api/CompoundOutputs.duplicateName.dmn";
+  public static final String INVALID_INPUT_ENTRY_DMN = "org/camunda/bpm/dmn/engine/api/InvalidInputEntry.dmn";
 
   @Test
   public void shouldParseDecisionFromInputStream() {
@@ -114,6 +116,21 @@ public class ParseDecisionTest extends DmnEngineTest {
     }
   }
 
+  @Test
+  public void shouldFailIfFeelInputEntryIsInvalid() {
+    try {
+      parseDecisionsFromFile(INVALID_INPUT_ENTRY_DMN);
+      failBecauseExceptionWasNotThrown(DmnTransformException.class);
+    }
+    catch (DmnTransformException e) {
+      assertThat(e)
+        .hasCauseInstanceOf(FeelException.class)
+        .hasMessageStartingWith("DMN-02004")
+        .hasMessageContaining("FEEL-01002")
+        .hasMessageContaining("[1..3");
+    }
+  }
+
   @Test
   public void shouldFailIfRuleIdIsMissing() {
     try {
@@ -0,0 +1,117 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.dmn.engine.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.camunda.bpm.dmn.engine.DmnDecision;
+import org.camunda.bpm.dmn.engine.DmnEngine;
+import org.camunda.bpm.dmn.engine.impl.DefaultDmnEngineConfiguration;
+import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableImpl;
+import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableInputImpl;
+import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableRuleImpl;
+import org.camunda.bpm.dmn.engine.impl.DmnExpressionImpl;
+import org.camunda.bpm.dmn.engine.impl.el.JuelElProvider;
+import org.camunda.bpm.dmn.engine.impl.evaluation.DecisionTableEvaluationMode;
+import org.camunda.bpm.dmn.engine.impl.spi.el.ElProvider;
+import org.camunda.bpm.engine.variable.VariableMap;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.commons.utils.IoUtil;
+
+/**
+ * Measures the bytes allocated and the time spent per evaluation of a
+ * decision table with JUEL input expressions and output entries. The
+ * expressions are either created for every evaluation, taken from the cache
+ * of the {@link JuelElProvider} or reused from the evaluated expression.
+ * Requires a JVM which supports thread allocation accounting, e.g. HotSpot.
+ * Run the main method, it is not part of the test suite.
+ */
+public class JuelExpressionBenchmark {
+
+  public static final String BENCHMARK_DMN = "org/camunda/bpm/dmn/engine/benchmark/JuelExpressionBenchmark.dmn";
+
+  public static final int WARMUP_ITERATIONS = 50000;
+  public static final int ITERATIONS = 200000;
+
+  public static void main(String[] args) {
+    System.out.println(String.format("%-30s %12s %12s", "expressions", "bytes/eval", "ns/eval"));
+    benchmark("created per evaluation", new JuelElProvider(0), DecisionTableEvaluationMode.INTERPRETED, true);
+    benchmark("cached by the provider", new JuelElProvider(), DecisionTableEvaluationMode.INTERPRETED, true);
+    benchmark("reused per expression", new JuelElProvider(), DecisionTableEvaluationMode.INTERPRETED, false);
+    benchmark("compiled decision table", new JuelElProvider(), DecisionTableEvaluationMode.COMPILED, false);
+  }
+
+  protected static void benchmark(String name, JuelElProvider elProvider, DecisionTableEvaluationMode evaluationMode, boolean createExpressions) {
+    DmnEngine engine = new DefaultDmnEngineConfiguration()
+      .elProvider(elProvider)
+      .decisionTableEvaluationMode(evaluationMode)
+      .buildEngine();
+    DmnDecision decision = engine.parseDecisions(IoUtil.fileAsStream(BENCHMARK_DMN)).get(0);
+    VariableMap variables = createVariables();
+
+    evaluate(engine, decision, variables, WARMUP_ITERATIONS, createExpressions);
+
+    long allocatedBytes = getAllocatedBytes();
+    long startTime = System.nanoTime();
+    evaluate(engine, decision, variables, ITERATIONS, createExpressions);
+    long duration = System.nanoTime() - startTime;
+    allocatedBytes = getAllocatedBytes() - allocatedBytes;
+
+    System.out.println(String.format("%-30s %12d %12d", name, allocatedBytes / ITERATIONS, duration / ITERATIONS));
+  }
+
+  protected static int evaluate(DmnEngine engine, DmnDecision decision, VariableMap variables, int iterations, boolean createExpressions) {
+    int results = 0;
+    for (int i = 0; i < iterations; i++) {
+      if (createExpressions) {
+        removeElExpressions((DmnDecisionTableImpl) decision, ((DefaultDmnEngineConfiguration) engine.getConfiguration()).getElProvider());
+      }
+      results += engine.evaluateDecisionTable(decision, variables).size();
+    }
+    return results;
+  }
+
+  /**
+   * Removes the EL expressions from the decision table, so they are created
+   * again by the next evaluation.
+   */
+  protected static void removeElExpressions(DmnDecisionTableImpl decisionTable, ElProvider elProvider) {
+    for (DmnDecisionTableInputImpl input : decisionTable.getInputs()) {
+      input.getExpression().setElExpression(elProvider, null);
+    }
+    for (DmnDecisionTableRuleImpl rule : decisionTable.getRules()) {
+      for (DmnExpressionImpl conclusion : rule.getConclusions()) {
+        conclusion.setElExpression(elProvider, null);
+      }
+    }
+  }
+
+  protected static VariableMap createVariables() {
+    Map<String, Object> customer = new HashMap<String, Object>();
+    customer.put("status", "gold");
+    customer.put("age", 42);
+    customer.put("country", "DE");
+
+    return Variables.createVariables()
+      .putValue("amount", 2500)
+      .putValue("customer", customer);
+  }
+
+  protected static long getAllocatedBytes() {
+    com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+}
@@ -19,9 +19,14 @@ import static org.camunda.bpm.dmn.engine.util.DmnExampleVerifier.assertExample;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
+import javax.el.ELContext;
+
+import org.camunda.bpm.dmn.engine.DmnDecision;
+import org.camunda.bpm.dmn.engine.DmnDecisionTableResult;
 import org.camunda.bpm.dmn.engine.DmnEngine;
 import org.camunda.bpm.dmn.engine.DmnEngineConfiguration;
 import org.camunda.bpm.dmn.engine.impl.DefaultDmnEngineConfiguration;
@@ -30,18 +35,24 @@ import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableInputImpl;
 import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableRuleImpl;
 import org.camunda.bpm.dmn.engine.impl.DmnExpressionImpl;
 import org.camunda.bpm.dmn.engine.impl.el.DefaultScriptEngineResolver;
+import org.camunda.bpm.dmn.engine.impl.el.JuelElContext;
 import org.camunda.bpm.dmn.engine.impl.el.JuelElProvider;
+import org.camunda.bpm.dmn.engine.impl.evaluation.DecisionTableEvaluationMode;
 import org.camunda.bpm.dmn.engine.impl.spi.el.DmnScriptEngineResolver;
 import org.camunda.bpm.dmn.engine.impl.spi.el.ElProvider;
 import org.camunda.bpm.dmn.engine.test.DecisionResource;
 import org.camunda.bpm.dmn.engine.test.DmnEngineTest;
 import org.camunda.bpm.dmn.feel.impl.FeelException;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.engine.variable.context.VariableContext;
+import org.camunda.commons.utils.IoUtil;
 import org.junit.Test;
 
 public class ExpressionLanguageTest extends DmnEngineTest {
 
   public static final String GROOVY_DMN = "org/camunda/bpm/dmn/engine/el/ExpressionLanguageTest.groovy.dmn";
   public static final String SCRIPT_DMN = "org/camunda/bpm/dmn/engine/el/ExpressionLanguageTest.script.dmn";
+  public static final String JUEL_DMN = "org/camunda/bpm/dmn/engine/el/ExpressionLanguageTest.juel.dmn";
   public static final String EMPTY_EXPRESSIONS_DMN = "org/camunda/bpm/dmn/engine/el/ExpressionLanguageTest.emptyExpressions.dmn";
 
   protected DefaultScriptEngineResolver scriptEngineResolver;
@@ -133,7 +144,8 @@ public class ExpressionLanguageTest extends DmnEngineTest {
       .hasSingleResult()
       .hasSingleEntry(true);
 
-    verify(elProvider).createExpression(anyString());
+    // the literal output entry is transformed during the transformation
+    verify(elProvider, never()).createExpression(anyString());
   }
 
   @Test
@@ -144,7 +156,8 @@ public class ExpressionLanguageTest extends DmnEngineTest {
       .hasSingleResult()
       .hasSingleEntry(true);
 
-    verify(elProvider).createExpression(anyString());
+    // the literal output entry is transformed during the transformation
+    verify(elProvider, never()).createExpression(anyString());
   }
 
   @Test
@@ -169,6 +182,67 @@ public class ExpressionLanguageTest extends DmnEngineTest {
     verify(scriptEngineResolver).getScriptEngineForLanguage("javascript");
   }
 
+  @Test
+  public void testTransformWithExpressionLanguageOfEngineBuiltLast() {
+    DefaultDmnEngineConfiguration configuration = (DefaultDmnEngineConfiguration) getDmnEngineConfiguration();
+    configuration.buildEngine();
+
+    configuration.setDefaultInputEntryExpressionLanguage("juel");
+    DmnEngine juelEngine = configuration.buildEngine();
+
+    DmnDecision decision = juelEngine.parseDecision("decision", IoUtil.fileAsStream(JUEL_DMN));
+    DmnDecisionTableResult result = juelEngine.evaluateDecisionTable(decision, Variables.createVariables().putValue("x", 6));
+    assertThat((String) result.getSingleResult().getSingleEntry()).isEqualTo("big");
+  }
+
+  @Test
+  @DecisionResource(resource = SCRIPT_DMN)
+  public void testReuseJuelExpressions() {
+    DmnEngine juelEngine = createEngineWithDefaultExpressionLanguage("juel");
+    assertExample(juelEngine, decision);
+
+    reset(elProvider);
+    assertExample(juelEngine, decision);
+
+    verify(elProvider, never()).createExpression(anyString());
+  }
+
+  @Test
+  @DecisionResource(resource = SCRIPT_DMN)
+  public void testDoNotReuseJuelExpressionsOfAnotherElProvider() {
+    DmnEngine otherEngine = createInterpretedEngineWithDefaultExpressionLanguage("juel");
+    assertExample(otherEngine, decision);
+
+    DmnEngine juelEngine = createInterpretedEngineWithDefaultExpressionLanguage("juel");
+    assertExample(juelEngine, decision);
+
+    verify(elProvider, atLeastOnce()).createExpression(anyString());
+  }
+
+  @Test
+  public void testCacheJuelExpressions() {
+    JuelElProvider juelElProvider = new JuelElProvider();
+    assertThat(juelElProvider.createExpression("${a}")).isSameAs(juelElProvider.createExpression("${a}"));
+    assertThat(juelElProvider.createExpression("${b}")).isNotSameAs(juelElProvider.createExpression("${a}"));
+    assertThat(juelElProvider.getExpressionCache().size()).isEqualTo(2);
+
+    juelElProvider = new JuelElProvider(0);
+    assertThat(juelElProvider.createExpression("${a}")).isNotSameAs(juelElProvider.createExpression("${a}"));
+    assertThat(juelElProvider.getExpressionCache().size()).isEqualTo(0);
+  }
+
+  @Test
+  public void testEvaluateJuelExpressionsWithJuelElContext() {
+    JuelElProvider juelElProvider = new JuelElProvider();
+    VariableContext variableContext = Variables.createVariables().putValue("a", 21).asVariableContext();
+
+    ELContext elContext = juelElProvider.getElContextFactory().createElContext(variableContext);
+    assertThat(elContext).isInstanceOf(JuelElContext.class);
+    assertThat(elContext.getContext(VariableContext.class)).isSameAs(variableContext);
+
+    assertThat(juelElProvider.createExpression("${a * 2}").getValue(variableContext)).isEqualTo(42L);
+  }
+
   @Test
   @DecisionResource(resource = EMPTY_EXPRESSIONS_DMN, decisionKey = "decision2")
   public void testFailFeelUseOfEmptyInputExpression() {
@@ -183,6 +257,17 @@ public class ExpressionLanguageTest extends DmnEngineTest {
     }
   }
 
+  protected DmnEngine createInterpretedEngineWithDefaultExpressionLanguage(String expressionLanguage) {
+    DefaultDmnEngineConfiguration configuration = (DefaultDmnEngineConfiguration) getDmnEngineConfiguration();
+
+    configuration.setDefaultInputExpressionExpressionLanguage(expressionLanguage);
+    configuration.setDefaultInputEntryExpressionLanguage(expressionLanguage);
+    configuration.setDefaultOutputEntryExpressionLanguage(expressionLanguage);
+    configuration.setDecisionTableEvaluationMode(DecisionTableEvaluationMode.INTERPRETED);
+
+    return configuration.buildEngine();
+  }
+
   protected DmnEngine createEngineWithDefaultExpressionLanguage(String expressionLanguage) {
     DefaultDmnEngineConfiguration configuration = (DefaultDmnEngineConfiguration) getDmnEngineConfiguration();
 
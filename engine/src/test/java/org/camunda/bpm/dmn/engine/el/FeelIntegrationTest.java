@@ -20,26 +20,35 @@ import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
 
+import org.camunda.bpm.dmn.engine.DmnDecision;
 import org.camunda.bpm.dmn.engine.DmnEngine;
 import org.camunda.bpm.dmn.engine.DmnEngineConfiguration;
 import org.camunda.bpm.dmn.engine.impl.DefaultDmnEngineConfiguration;
+import org.camunda.bpm.dmn.engine.impl.evaluation.DecisionTableEvaluationMode;
 import org.camunda.bpm.dmn.engine.test.DecisionResource;
 import org.camunda.bpm.dmn.engine.test.DmnEngineTest;
+import org.camunda.bpm.dmn.engine.util.DmnExampleVerifier;
 import org.camunda.bpm.dmn.feel.impl.FeelEngine;
 import org.camunda.bpm.dmn.feel.impl.FeelEngineFactory;
 import org.camunda.bpm.dmn.feel.impl.FeelException;
 import org.camunda.bpm.dmn.feel.impl.juel.FeelEngineFactoryImpl;
+import org.camunda.bpm.dmn.feel.impl.juel.NativeFeelEngineFactoryImpl;
+import org.camunda.bpm.engine.variable.VariableMap;
 import org.camunda.bpm.engine.variable.Variables;
 import org.camunda.bpm.engine.variable.context.VariableContext;
+import org.camunda.commons.utils.IoUtil;
 import org.junit.Test;
 
 public class FeelIntegrationTest extends DmnEngineTest {
 
+  public static final String FEEL_TEST_DMN = "org/camunda/bpm/dmn/engine/el/FeelTest.dmn";
+
   protected FeelEngine feelEngine;
 
   @Override
@@ -54,7 +63,7 @@ public class FeelIntegrationTest extends DmnEngineTest {
     assertExample(dmnEngine);
 
     verify(feelEngine, atLeastOnce())
-      .evaluateSimpleUnaryTests(anyString(), anyString(), any(VariableContext.class));
+      .compileSimpleUnaryTests(anyString(), anyString());
   }
 
   @Test
@@ -65,7 +74,7 @@ public class FeelIntegrationTest extends DmnEngineTest {
 
     assertExample(dmnEngine);
 
-    verify(feelEngine, atLeastOnce()).evaluateSimpleUnaryTests(anyString(), anyString(), any(VariableContext.class));
+    verify(feelEngine, atLeastOnce()).compileSimpleUnaryTests(anyString(), anyString());
   }
 
   @Test
@@ -74,14 +83,9 @@ public class FeelIntegrationTest extends DmnEngineTest {
     configuration.setDefaultInputExpressionExpressionLanguage(DefaultDmnEngineConfiguration.FEEL_EXPRESSION_LANGUAGE);
     DmnEngine engine = configuration.buildEngine();
 
-    try {
-      assertExample(engine);
-      failBecauseExceptionWasNotThrown(UnsupportedOperationException.class);
-    }
-    catch (UnsupportedOperationException e) {
-      assertThat(e).hasMessageStartingWith("FEEL-01016");
-      verify(feelEngine).evaluateSimpleExpression(anyString(), any(VariableContext.class));
-    }
+    assertExample(engine);
+
+    verify(feelEngine, atLeastOnce()).compileSimpleExpression(anyString());
   }
 
   @Test
@@ -90,14 +94,64 @@ public class FeelIntegrationTest extends DmnEngineTest {
     configuration.setDefaultOutputEntryExpressionLanguage(DefaultDmnEngineConfiguration.FEEL_EXPRESSION_LANGUAGE);
     DmnEngine engine = configuration.buildEngine();
 
-    try {
-      assertExample(engine);
-      failBecauseExceptionWasNotThrown(UnsupportedOperationException.class);
-    }
-    catch (UnsupportedOperationException e) {
-      assertThat(e).hasMessageStartingWith("FEEL-01016");
-      verify(feelEngine).evaluateSimpleExpression(anyString(), any(VariableContext.class));
-    }
+    assertExample(engine);
+
+    verify(feelEngine, atLeastOnce()).compileSimpleExpression(anyString());
+  }
+
+  @Test
+  public void testFeelInputExpressionsAreCompiledOnce() {
+    DefaultDmnEngineConfiguration configuration = (DefaultDmnEngineConfiguration) getDmnEngineConfiguration();
+    configuration.setDefaultInputExpressionExpressionLanguage(DefaultDmnEngineConfiguration.FEEL_EXPRESSION_LANGUAGE);
+    DmnEngine engine = configuration.buildEngine();
+    DmnDecision decision = engine.parseDecision("decision", IoUtil.fileAsStream(DmnExampleVerifier.EXAMPLE_DMN));
+
+    assertExample(engine, decision);
+    assertExample(engine, decision);
+
+    // the example decision has two input expressions
+    verify(feelEngine, times(2)).compileSimpleExpression(anyString());
+  }
+
+  @Test
+  public void testFeelInputExpressionsCompiledByAnotherEngineAreNotUsed() {
+    DefaultDmnEngineConfiguration configuration = (DefaultDmnEngineConfiguration) getDmnEngineConfiguration();
+    configuration.setDefaultInputExpressionExpressionLanguage(DefaultDmnEngineConfiguration.FEEL_EXPRESSION_LANGUAGE);
+    configuration.setDecisionTableEvaluationMode(DecisionTableEvaluationMode.INTERPRETED);
+    DmnEngine engine = configuration.buildEngine();
+    DmnEngine otherEngine = new DefaultDmnEngineConfiguration()
+      .defaultInputExpressionExpressionLanguage(DefaultDmnEngineConfiguration.FEEL_EXPRESSION_LANGUAGE)
+      .decisionTableEvaluationMode(DecisionTableEvaluationMode.INTERPRETED)
+      .buildEngine();
+    DmnDecision decision = otherEngine.parseDecision("decision", IoUtil.fileAsStream(DmnExampleVerifier.EXAMPLE_DMN));
+    assertExample(otherEngine, decision);
+
+    assertExample(engine, decision);
+
+    verify(feelEngine, times(2)).compileSimpleExpression(anyString());
+  }
+
+  @Test
+  public void testFeelInputEntriesCompiledByAnotherEngineAreNotUsed() {
+    DmnEngine otherEngine = new DefaultDmnEngineConfiguration().buildEngine();
+    DmnDecision decision = otherEngine.parseDecision("decision", IoUtil.fileAsStream(FEEL_TEST_DMN));
+
+    assertThat(evaluateFeelTest(dmnEngine, decision)).isTrue();
+
+    verify(feelEngine, atLeastOnce()).compileSimpleUnaryTests(anyString(), anyString());
+  }
+
+  @Test
+  public void testFeelInputEntriesCompiledByAnotherEngineAreNotInterpreted() {
+    DefaultDmnEngineConfiguration configuration = (DefaultDmnEngineConfiguration) getDmnEngineConfiguration();
+    configuration.setDecisionTableEvaluationMode(DecisionTableEvaluationMode.INTERPRETED);
+    DmnEngine engine = configuration.buildEngine();
+    DmnEngine otherEngine = new DefaultDmnEngineConfiguration().buildEngine();
+    DmnDecision decision = otherEngine.parseDecision("decision", IoUtil.fileAsStream(FEEL_TEST_DMN));
+
+    assertThat(evaluateFeelTest(engine, decision)).isTrue();
+
+    verify(feelEngine, atLeastOnce()).evaluateSimpleUnaryTests(anyString(), anyString(), any(VariableContext.class));
   }
 
   @Test
@@ -127,6 +181,23 @@ public class FeelIntegrationTest extends DmnEngineTest {
 
   }
 
+  @Test
+  public void testNativeFeelEngine() {
+    DefaultDmnEngineConfiguration configuration = new DefaultDmnEngineConfiguration();
+    configuration.setFeelEngineFactory(new NativeFeelEngineFactoryImpl());
+    DmnEngine engine = configuration.buildEngine();
+
+    assertExample(engine);
+  }
+
+  protected Boolean evaluateFeelTest(DmnEngine engine, DmnDecision decision) {
+    VariableMap variables = Variables.createVariables()
+      .putValue("stringInput", "camunda")
+      .putValue("numberInput", 13)
+      .putValue("booleanInput", true);
+    return engine.evaluateDecisionTable(decision, variables).getSingleResult().getSingleEntry();
+  }
+
   public class TestFeelEngineFactory implements FeelEngineFactory {
 
     public TestFeelEngineFactory() {
@@ -0,0 +1,959 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.engine.evaluation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.camunda.bpm.dmn.engine.DmnDecision;
+import org.camunda.bpm.dmn.engine.DmnDecisionTableResult;
+import org.camunda.bpm.dmn.engine.DmnEngine;
+import org.camunda.bpm.dmn.engine.delegate.DmnDecisionTableEvaluationEvent;
+import org.camunda.bpm.dmn.engine.delegate.DmnDecisionTableEvaluationListener;
+import org.camunda.bpm.dmn.engine.delegate.DmnEvaluatedDecisionRule;
+import org.camunda.bpm.dmn.engine.delegate.DmnEvaluatedInput;
+import org.camunda.bpm.dmn.engine.delegate.DmnLazyEvaluatedInput;
+import org.camunda.bpm.dmn.engine.impl.DefaultDmnEngineConfiguration;
+import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableImpl;
+import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableRuleImpl;
+import org.camunda.bpm.dmn.engine.impl.DmnExpressionImpl;
+import org.camunda.bpm.dmn.engine.impl.evaluation.AdaptiveInputOrder;
+import org.camunda.bpm.dmn.engine.impl.evaluation.CompiledDecisionTable;
+import org.camunda.bpm.dmn.engine.impl.evaluation.DecisionTableEvaluationMode;
+import org.camunda.bpm.dmn.engine.impl.evaluation.DecisionTree;
+import org.camunda.bpm.dmn.engine.impl.evaluation.EqualityConditionIndex;
+import org.camunda.bpm.dmn.engine.impl.evaluation.EqualityLookupTable;
+import org.camunda.bpm.dmn.engine.impl.evaluation.IntervalConditionIndex;
+import org.camunda.bpm.dmn.engine.impl.evaluation.IntervalConditionIndex.Interval;
+import org.camunda.bpm.dmn.engine.impl.evaluation.RangeTreeIndex;
+import org.camunda.bpm.dmn.engine.impl.hitpolicy.DefaultHitPolicyHandlerRegistry;
+import org.camunda.bpm.dmn.engine.impl.spi.evaluation.DmnDecisionTableCompiler;
+import org.camunda.bpm.dmn.engine.impl.spi.hitpolicy.DmnHitPolicyHandler;
+import org.camunda.bpm.dmn.feel.impl.FeelEngine;
+import org.camunda.bpm.dmn.feel.impl.FeelEngineFactory;
+import org.camunda.bpm.dmn.feel.impl.FeelSimpleUnaryTests;
+import org.camunda.bpm.dmn.feel.impl.juel.FeelEngineFactoryImpl;
+import org.camunda.bpm.engine.variable.VariableMap;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.engine.variable.context.VariableContext;
+import org.camunda.bpm.engine.variable.value.TypedValue;
+import org.camunda.bpm.model.dmn.BuiltinAggregator;
+import org.camunda.bpm.model.dmn.HitPolicy;
+import org.camunda.commons.utils.IoUtil;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Compares the results and evaluation events of compiled decision tables
+ * with the interpreting evaluation.
+ */
+public class CompiledDecisionTableTest {
+
+  public static final String EXAMPLE_DMN = "org/camunda/bpm/dmn/engine/api/Example.dmn";
+  public static final String SCRIPT_DMN = "org/camunda/bpm/dmn/engine/el/ExpressionLanguageTest.script.dmn";
+  public static final String DATE_DMN = "org/camunda/bpm/dmn/engine/el/FeelIntegrationTest.testDateAndTimeIntegration.dmn";
+  public static final String EQUALITY_DMN = "org/camunda/bpm/dmn/engine/evaluation/CompiledDecisionTableTest.equality.dmn";
+  public static final String INTERVAL_DMN = "org/camunda/bpm/dmn/engine/evaluation/CompiledDecisionTableTest.interval.dmn";
+  public static final String RANGE_DMN = "org/camunda/bpm/dmn/engine/evaluation/CompiledDecisionTableTest.range.dmn";
+  public static final String LOOKUP_DMN = "org/camunda/bpm/dmn/engine/evaluation/CompiledDecisionTableTest.lookup.dmn";
+  public static final String TREE_DMN = "org/camunda/bpm/dmn/engine/evaluation/CompiledDecisionTableTest.tree.dmn";
+  public static final String ADAPTIVE_DMN = "org/camunda/bpm/dmn/engine/evaluation/CompiledDecisionTableTest.adaptive.dmn";
+  public static final String IDENTICAL_DMN = "org/camunda/bpm/dmn/engine/evaluation/CompiledDecisionTableTest.identical.dmn";
+  public static final String LAZY_DMN = "org/camunda/bpm/dmn/engine/evaluation/CompiledDecisionTableTest.lazy.dmn";
+  public static final String SHORT_CIRCUIT_DMN = "org/camunda/bpm/dmn/engine/evaluation/CompiledDecisionTableTest.shortCircuit.dmn";
+
+  public static final HitPolicy[] SHORT_CIRCUIT_HIT_POLICIES = { HitPolicy.UNIQUE, HitPolicy.ANY, HitPolicy.FIRST };
+
+  public static final String[] HIT_POLICY_DMNS = {
+    "org/camunda/bpm/dmn/engine/hitpolicy/HitPolicyTest.unique.compound.dmn",
+    "org/camunda/bpm/dmn/engine/hitpolicy/HitPolicyTest.any.single.dmn",
+    "org/camunda/bpm/dmn/engine/hitpolicy/HitPolicyTest.first.compound.dmn",
+    "org/camunda/bpm/dmn/engine/hitpolicy/HitPolicyTest.ruleOrder.single.dmn",
+    "org/camunda/bpm/dmn/engine/hitpolicy/HitPolicyTest.collect.compound.dmn",
+    "org/camunda/bpm/dmn/engine/hitpolicy/HitPolicyTest.collect.sum.single.dmn",
+    "org/camunda/bpm/dmn/engine/hitpolicy/HitPolicyTest.collect.count.single.dmn"
+  };
+
+  protected RecordingEvaluationListener interpretedListener;
+  protected RecordingEvaluationListener compiledListener;
+  protected DmnEngine interpretedEngine;
+  protected DmnEngine compiledEngine;
+
+  @Before
+  public void buildEngines() {
+    interpretedListener = new RecordingEvaluationListener();
+    interpretedEngine = createConfiguration(interpretedListener)
+      .decisionTableEvaluationMode(DecisionTableEvaluationMode.INTERPRETED)
+      .buildEngine();
+
+    compiledListener = new RecordingEvaluationListener();
+    compiledEngine = createConfiguration(compiledListener)
+      .decisionTableEvaluationMode(DecisionTableEvaluationMode.COMPILED)
+      .buildEngine();
+  }
+
+  @Test
+  public void shouldCompileDecisionTablesDuringParsing() {
+    DmnDecisionTableImpl decisionTable = (DmnDecisionTableImpl) parseDecision(compiledEngine, EXAMPLE_DMN);
+
+    CompiledDecisionTable compiledDecisionTable = getCompiledDecisionTable(compiledEngine, decisionTable);
+    assertThat(compiledDecisionTable).isNotNull();
+    assertThat(compiledDecisionTable.getDecisionTable()).isSameAs(decisionTable);
+
+    decisionTable = (DmnDecisionTableImpl) parseDecision(interpretedEngine, EXAMPLE_DMN);
+    assertThat(decisionTable.getCompiledDecisionTables()).isEmpty();
+  }
+
+  @Test
+  public void shouldKeepCompiledDecisionTablesOfEveryEngine() {
+    DmnEngine otherEngine = createConfiguration(compiledListener).buildEngine();
+    DmnDecision decision = parseDecision(compiledEngine, EXAMPLE_DMN);
+    CompiledDecisionTable compiledDecisionTable = getCompiledDecisionTable(compiledEngine, decision);
+
+    otherEngine.evaluateDecisionTable(decision, createVariables("gold", 200));
+    CompiledDecisionTable otherCompiledDecisionTable = getCompiledDecisionTable(otherEngine, decision);
+    assertThat(otherCompiledDecisionTable).isNotNull().isNotSameAs(compiledDecisionTable);
+
+    compiledEngine.evaluateDecisionTable(decision, createVariables("gold", 200));
+    otherEngine.evaluateDecisionTable(decision, createVariables("gold", 200));
+    assertThat(getCompiledDecisionTable(compiledEngine, decision)).isSameAs(compiledDecisionTable);
+    assertThat(getCompiledDecisionTable(otherEngine, decision)).isSameAs(otherCompiledDecisionTable);
+  }
+
+  @Test
+  public void shouldCompileDecisionTablesByDefault() {
+    DmnEngine engine = new DefaultDmnEngineConfiguration().buildEngine();
+
+    DmnDecisionTableImpl decisionTable = (DmnDecisionTableImpl) parseDecision(engine, EXAMPLE_DMN);
+    assertThat(getCompiledDecisionTable(engine, decisionTable)).isNotNull();
+  }
+
+  @Test
+  public void shouldCompileDecisionTablesWithEngineOfSharedTransformer() {
+    DefaultDmnEngineConfiguration configuration = createConfiguration(compiledListener);
+    DmnEngine engine = configuration.buildEngine();
+
+    // the engine built last does not change the transformer used by the other engine
+    DmnEngine otherEngine = createConfiguration(interpretedListener)
+      .transformer(configuration.getTransformer())
+      .decisionTableEvaluationMode(DecisionTableEvaluationMode.INTERPRETED)
+      .buildEngine();
+
+    DmnDecisionTableImpl decisionTable = (DmnDecisionTableImpl) parseDecision(engine, EXAMPLE_DMN);
+    CompiledDecisionTable compiledDecisionTable = decisionTable.getCompiledDecisionTable(configuration.getDecisionTableCompiler());
+    assertThat(compiledDecisionTable).isNotNull();
+    assertThat(compiledDecisionTable.getCompiler()).isSameAs(configuration.getDecisionTableCompiler());
+
+    decisionTable = (DmnDecisionTableImpl) parseDecision(otherEngine, EXAMPLE_DMN);
+    assertThat(decisionTable.getCompiledDecisionTables()).isEmpty();
+  }
+
+  @Test
+  public void shouldCompileDecisionTableParsedByOtherEngine() {
+    DmnDecision decision = parseDecision(interpretedEngine, EXAMPLE_DMN);
+
+    compiledEngine.evaluateDecisionTable(decision, createVariables("gold", 200));
+
+    assertThat(getCompiledDecisionTable(compiledEngine, decision)).isNotNull();
+  }
+
+  @Test
+  public void shouldEvaluateExampleLikeInterpreter() {
+    DmnDecision interpretedDecision = parseDecision(interpretedEngine, EXAMPLE_DMN);
+    DmnDecision compiledDecision = parseDecision(compiledEngine, EXAMPLE_DMN);
+
+    for (String status : new String[] { "bronze", "silver", "gold", "unknown" }) {
+      for (int sum : new int[] { 0, 999, 1000, 5000 }) {
+        assertEquivalent(interpretedDecision, compiledDecision, createVariables(status, sum));
+      }
+    }
+  }
+
+  @Test
+  public void shouldEvaluateScriptsLikeInterpreter() {
+    interpretedEngine = createConfiguration(interpretedListener)
+      .defaultInputEntryExpressionLanguage("javascript")
+      .decisionTableEvaluationMode(DecisionTableEvaluationMode.INTERPRETED)
+      .buildEngine();
+    compiledEngine = createConfiguration(compiledListener)
+      .defaultInputEntryExpressionLanguage("javascript")
+      .decisionTableEvaluationMode(DecisionTableEvaluationMode.COMPILED)
+      .buildEngine();
+    DmnDecision interpretedDecision = parseDecision(interpretedEngine, SCRIPT_DMN);
+    DmnDecision compiledDecision = parseDecision(compiledEngine, SCRIPT_DMN);
+
+    for (String status : new String[] { "bronze", "silver", "gold" }) {
+      for (int sum : new int[] { 0, 1000 }) {
+        assertEquivalent(interpretedDecision, compiledDecision, createVariables(status, sum));
+      }
+    }
+  }
+
+  @Test
+  public void shouldEvaluateHitPoliciesLikeInterpreter() {
+    Boolean[] values = { true, false };
+    for (String resource : HIT_POLICY_DMNS) {
+      DmnDecision interpretedDecision = parseDecision(interpretedEngine, resource);
+      DmnDecision compiledDecision = parseDecision(compiledEngine, resource);
+
+      for (Boolean input1 : values) {
+        for (Boolean input2 : values) {
+          for (Boolean input3 : values) {
+            VariableMap variables = Variables.createVariables()
+              .putValue("input1", input1)
+              .putValue("input2", input2)
+              .putValue("input3", input3)
+              .putValue("output1", 1)
+              .putValue("output2", 2)
+              .putValue("output3", 3);
+            assertEquivalent(interpretedDecision, compiledDecision, variables);
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void shouldEvaluateDateAndTimeLikeInterpreter() {
+    assertEquivalent(DATE_DMN, Variables.createVariables().putValue("dateString", "2015-10-22T15:01:27"));
+  }
+
+  @Test
+  public void shouldEvaluateEqualityConditionsLikeInterpreter() {
+    Object[] statuses = { "gold", "silver", "bronze", "unknown", null, 1 };
+    Object[] counts = { 1, 2, 3, 6, 2L, (short) 1, 2.0, "2", null };
+    DmnDecision interpretedDecision = parseDecision(interpretedEngine, EQUALITY_DMN);
+    DmnDecision compiledDecision = parseDecision(compiledEngine, EQUALITY_DMN);
+
+    for (Object status : statuses) {
+      for (Object count : counts) {
+        VariableMap variables = Variables.createVariables()
+          .putValue("status", status)
+          .putValue("count", count);
+        assertEquivalent(interpretedDecision, compiledDecision, variables);
+      }
+    }
+  }
+
+  @Test
+  public void shouldParseEqualityLiterals() {
+    assertThat(EqualityConditionIndex.parseLiteral("\"gold\"")).isEqualTo("gold");
+    assertThat(EqualityConditionIndex.parseLiteral(" \"a, b\" ")).isEqualTo("a, b");
+    assertThat(EqualityConditionIndex.parseLiteral("\"\"")).isEqualTo("");
+    assertThat(EqualityConditionIndex.parseLiteral("42")).isEqualTo(42L);
+    assertThat(EqualityConditionIndex.parseLiteral("0")).isEqualTo(0L);
+
+    assertThat(EqualityConditionIndex.parseLiteral("\"a\", \"b\"")).isNull();
+    assertThat(EqualityConditionIndex.parseLiteral("\"a\\\"b\"")).isNull();
+    assertThat(EqualityConditionIndex.parseLiteral("-1")).isNull();
+    assertThat(EqualityConditionIndex.parseLiteral("042")).isNull();
+    assertThat(EqualityConditionIndex.parseLiteral("4.2")).isNull();
+    assertThat(EqualityConditionIndex.parseLiteral("< 42")).isNull();
+    assertThat(EqualityConditionIndex.parseLiteral("gold")).isNull();
+  }
+
+  @Test
+  public void shouldEvaluateIntervalConditionsLikeInterpreter() throws ParseException {
+    SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss");
+    Object[] ages = { -3, -2.5, -0.0, 0, 2.5, 5, 17, 18, 18L, 25, 25.5f, 26, 30, 35.0, 39, 40, 100, Long.MAX_VALUE, Double.NaN, new BigDecimal("20"), "20", null };
+    Object[] dates = {
+      dateFormat.parse("2014-06-01T00:00:00"),
+      dateFormat.parse("2015-01-01T00:00:00"),
+      dateFormat.parse("2015-12-31T23:59:59"),
+      dateFormat.parse("2016-01-01T00:00:00"),
+      dateFormat.parse("2017-01-01T00:00:00"),
+      null
+    };
+    DmnDecision interpretedDecision = parseDecision(interpretedEngine, INTERVAL_DMN);
+    DmnDecision compiledDecision = parseDecision(compiledEngine, INTERVAL_DMN);
+
+    for (Object age : ages) {
+      for (Object date : dates) {
+        VariableMap variables = Variables.createVariables()
+          .putValue("age", age)
+          .putValue("date", date);
+        assertEquivalent(interpretedDecision, compiledDecision, variables);
+      }
+    }
+  }
+
+  @Test
+  public void shouldParseIntervals() {
+    FeelEngine feelEngine = new FeelEngineFactoryImpl().createInstance();
+
+    assertThat(IntervalConditionIndex.parseInterval("[18..25]", feelEngine).toString()).isEqualTo("[18.0..25.0]");
+    assertThat(IntervalConditionIndex.parseInterval("]1.5..2[", feelEngine).toString()).isEqualTo("]1.5..2.0[");
+    assertThat(IntervalConditionIndex.parseInterval("(-1..1)", feelEngine).toString()).isEqualTo("]-1.0..1.0[");
+    assertThat(IntervalConditionIndex.parseInterval(">= 1000", feelEngine).toString()).isEqualTo("[1000.0..null[");
+    assertThat(IntervalConditionIndex.parseInterval("< 0", feelEngine).toString()).isEqualTo("]null..0.0[");
+    assertThat(IntervalConditionIndex.parseInterval("< date and time(\"2016-01-01T00:00:00\")", feelEngine).getEndpointType()).isEqualTo(Date.class);
+
+    assertThat(IntervalConditionIndex.parseInterval("[1..date and time(\"2016-01-01T00:00:00\")]", feelEngine)).isNull();
+    assertThat(IntervalConditionIndex.parseInterval("< date and time(\"invalid\")", feelEngine)).isNull();
+    assertThat(IntervalConditionIndex.parseInterval("< x", feelEngine)).isNull();
+    assertThat(IntervalConditionIndex.parseInterval("[1..10], [20..30]", feelEngine)).isNull();
+    assertThat(IntervalConditionIndex.parseInterval("< 9007199254740993", feelEngine)).isNull();
+    assertThat(IntervalConditionIndex.parseInterval("18", feelEngine)).isNull();
+  }
+
+  @Test
+  public void shouldNotIndexOverlappingIntervals() {
+    FeelEngine feelEngine = new FeelEngineFactoryImpl().createInstance();
+    List<Integer> unindexedRules = Collections.emptyList();
+
+    Interval[] brackets = new Interval[100];
+    for (int i = 0; i < brackets.length; i++) {
+      brackets[i] = IntervalConditionIndex.parseInterval("[" + i * 10 + ".." + (i + 1) * 10 + "[", feelEngine);
+    }
+    assertThat(IntervalConditionIndex.create(brackets, unindexedRules)).isNotNull();
+
+    Interval[] thresholds = new Interval[100];
+    for (int i = 0; i < thresholds.length; i++) {
+      thresholds[i] = IntervalConditionIndex.parseInterval(">= " + i, feelEngine);
+    }
+    assertThat(IntervalConditionIndex.create(thresholds, unindexedRules)).isNull();
+  }
+
+  @Test
+  public void shouldEvaluateRangeConditionsLikeInterpreter() {
+    Object[] categories = { "gold", "silver" };
+    Object[] ages = { -1, 0, 17, 18, 21, 25, 30, 33, 39, 40, 60, 61, Double.NaN, null };
+    Object[] incomes = { -10, 0, 750, 1000, 2500L, 3000.5, 4000, 5000, 6000, new BigDecimal("1000"), null };
+    Object[] scores = { -100, 0, 299, 300, 500, 550, 600, 650.0, 701, 800, 801, "700", null };
+    DmnDecision interpretedDecision = parseDecision(interpretedEngine, RANGE_DMN);
+    DmnDecision compiledDecision = parseDecision(compiledEngine, RANGE_DMN);
+
+    for (Object category : categories) {
+      for (Object age : ages) {
+        for (Object income : incomes) {
+          for (Object score : scores) {
+            VariableMap variables = Variables.createVariables()
+              .putValue("category", category)
+              .putValue("age", age)
+              .putValue("income", income)
+              .putValue("score", score);
+            assertEquivalent(interpretedDecision, compiledDecision, variables);
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void shouldCreateRangeIndexForConsecutiveRangeInputs() {
+    DmnDecision decision = parseDecision(compiledEngine, RANGE_DMN);
+    RangeTreeIndex rangeIndex = getCompiledDecisionTable(compiledEngine, decision).getRangeIndex();
+    assertThat(rangeIndex).isNotNull();
+    assertThat(rangeIndex.getFirstInput()).isEqualTo(1);
+    assertThat(rangeIndex.getDimensions()).isEqualTo(3);
+    assertThat(rangeIndex.getIndexedRuleCount()).isEqualTo(11);
+    rangeIndex.setStatisticsEnabled(true);
+
+    VariableMap variables = Variables.createVariables()
+      .putValue("category", "gold")
+      .putValue("age", 30)
+      .putValue("income", 2500)
+      .putValue("score", 750);
+    DmnDecisionTableResult result = compiledEngine.evaluateDecisionTable(decision, variables);
+    assertThat(result.collectEntries("result")).containsExactly("b", "f", "j");
+    assertThat(rangeIndex.getQueryCount()).isEqualTo(1);
+    assertThat(rangeIndex.getCandidateCount()).isLessThanOrEqualTo(rangeIndex.getIndexedRuleCount());
+
+    decision = parseDecision(compiledEngine, EXAMPLE_DMN);
+    assertThat(getCompiledDecisionTable(compiledEngine, decision).getRangeIndex()).isNull();
+  }
+
+  @Test
+  public void shouldQueryRangeIndexForShortCircuitHitPolicies() {
+    DmnDecision interpretedDecision = parseDecision(interpretedEngine, RANGE_DMN);
+    DmnDecision compiledDecision = parseDecision(compiledEngine, RANGE_DMN);
+    RangeTreeIndex rangeIndex = getCompiledDecisionTable(compiledEngine, compiledDecision).getRangeIndex();
+    rangeIndex.setStatisticsEnabled(true);
+
+    Object[] ages = { 17, 30, 40, 61, null };
+    Object[] incomes = { 0, 2500L, 4000, new BigDecimal("1000") };
+    Object[] scores = { 299, 600, 750, "700" };
+    for (HitPolicy hitPolicy : SHORT_CIRCUIT_HIT_POLICIES) {
+      DmnHitPolicyHandler hitPolicyHandler = new DefaultHitPolicyHandlerRegistry().getHandler(hitPolicy, null);
+      ((DmnDecisionTableImpl) interpretedDecision).setHitPolicyHandler(hitPolicyHandler);
+      ((DmnDecisionTableImpl) compiledDecision).setHitPolicyHandler(hitPolicyHandler);
+
+      for (Object age : ages) {
+        for (Object income : incomes) {
+          for (Object score : scores) {
+            VariableMap variables = Variables.createVariables()
+              .putValue("category", "gold")
+              .putValue("age", age)
+              .putValue("income", income)
+              .putValue("score", score);
+            assertEquivalent(interpretedDecision, compiledDecision, variables);
+          }
+        }
+      }
+    }
+
+    // the tree is only queried if the values of all its inputs are numbers which can be looked up
+    assertThat(rangeIndex.getQueryCount()).isEqualTo(SHORT_CIRCUIT_HIT_POLICIES.length * 4 * 3 * 3);
+  }
+
+  @Test
+  public void shouldNotCollectRangeIndexStatisticsByDefault() {
+    DmnDecision decision = parseDecision(compiledEngine, RANGE_DMN);
+    RangeTreeIndex rangeIndex = getCompiledDecisionTable(compiledEngine, decision).getRangeIndex();
+    assertThat(rangeIndex.isStatisticsEnabled()).isFalse();
+
+    VariableMap variables = Variables.createVariables()
+      .putValue("category", "gold")
+      .putValue("age", 30)
+      .putValue("income", 2500)
+      .putValue("score", 750);
+    compiledEngine.evaluateDecisionTable(decision, variables);
+    assertThat(rangeIndex.getQueryCount()).isEqualTo(0);
+    assertThat(rangeIndex.getVisitedNodeCount()).isEqualTo(0);
+    assertThat(rangeIndex.getCandidateCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldDisableRangeIndex() {
+    DmnEngine engine = createConfiguration(compiledListener)
+      .rangeIndexEnabled(false)
+      .buildEngine();
+
+    DmnDecisionTableImpl decisionTable = (DmnDecisionTableImpl) parseDecision(engine, RANGE_DMN);
+    assertThat(getCompiledDecisionTable(engine, decisionTable)).isNotNull();
+    assertThat(getCompiledDecisionTable(engine, decisionTable).getRangeIndex()).isNull();
+  }
+
+  @Test
+  public void shouldEvaluateLookupTableLikeInterpreter() {
+    DmnDecision interpretedDecision = parseDecision(interpretedEngine, LOOKUP_DMN);
+    DmnDecision compiledDecision = parseDecision(compiledEngine, LOOKUP_DMN);
+
+    Object[] statuses = { "gold", "silver", "bronze", "unknown", null, 1 };
+    Object[] counts = { 1, 2, 3, 2L, (short) 1, 2.0, "2", null };
+    Object[] regions = { "north", "south", "east", null };
+
+    for (DmnHitPolicyHandler hitPolicyHandler : getHitPolicyHandlers()) {
+      ((DmnDecisionTableImpl) interpretedDecision).setHitPolicyHandler(hitPolicyHandler);
+      ((DmnDecisionTableImpl) compiledDecision).setHitPolicyHandler(hitPolicyHandler);
+
+      for (Object status : statuses) {
+        for (Object count : counts) {
+          for (Object region : regions) {
+            VariableMap variables = Variables.createVariables()
+              .putValue("status", status)
+              .putValue("count", count)
+              .putValue("region", region);
+            assertEquivalent(interpretedDecision, compiledDecision, variables);
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void shouldCreateLookupTableForEqualityOnlyDecisionTables() {
+    DmnDecision decision = parseDecision(compiledEngine, LOOKUP_DMN);
+    EqualityLookupTable lookupTable = getCompiledDecisionTable(compiledEngine, decision).getLookupTable();
+    assertThat(lookupTable).isNotNull();
+    assertThat(lookupTable.getKey(0, "gold")).isEqualTo("gold");
+    assertThat(lookupTable.getKey(1, (short) 2)).isEqualTo(2L);
+    assertThat(lookupTable.getKey(1, 2.0)).isNull();
+    assertThat(lookupTable.findMatchingRules(new Object[] { "gold", 1L, "north" })).containsExactly(0, 4, 5);
+
+    VariableMap variables = Variables.createVariables()
+      .putValue("status", "gold")
+      .putValue("count", 1)
+      .putValue("region", "north");
+    DmnDecisionTableResult result = compiledEngine.evaluateDecisionTable(decision, variables);
+    assertThat(result.collectEntries("result")).containsExactly("a", "e", "f");
+
+    decision = parseDecision(compiledEngine, EQUALITY_DMN);
+    assertThat(getCompiledDecisionTable(compiledEngine, decision).getLookupTable()).isNull();
+  }
+
+  @Test
+  public void shouldEvaluateDecisionTreeLikeInterpreter() {
+    DmnDecision interpretedDecision = parseDecision(interpretedEngine, TREE_DMN);
+    DmnDecision compiledDecision = parseDecision(compiledEngine, TREE_DMN);
+
+    Object[] statuses = { "gold", "silver", "bronze", null, 1 };
+    Object[] ages = { -1, 0, 17, 18, 25, 30.5, 40L, 65, Double.NaN, "30", null };
+    Object[] incomes = { 0, 999, 1000, 2500.0, 5000, 10000, null };
+
+    for (DmnHitPolicyHandler hitPolicyHandler : getHitPolicyHandlers()) {
+      ((DmnDecisionTableImpl) interpretedDecision).setHitPolicyHandler(hitPolicyHandler);
+      ((DmnDecisionTableImpl) compiledDecision).setHitPolicyHandler(hitPolicyHandler);
+
+      for (Object status : statuses) {
+        for (Object age : ages) {
+          for (Object income : incomes) {
+            VariableMap variables = Variables.createVariables()
+              .putValue("status", status)
+              .putValue("age", age)
+              .putValue("income", income)
+              .putValue("channel", "web");
+            assertEquivalent(interpretedDecision, compiledDecision, variables);
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void shouldEvaluateShortCircuitHitPoliciesWithoutDecisionTreeLikeInterpreter() {
+    compiledEngine = createConfiguration(compiledListener)
+      .decisionTreeMaxSize(0)
+      .buildEngine();
+    DmnDecision interpretedDecision = parseDecision(interpretedEngine, TREE_DMN);
+    DmnDecision compiledDecision = parseDecision(compiledEngine, TREE_DMN);
+    assertThat(getCompiledDecisionTable(compiledEngine, compiledDecision).getDecisionTree()).isNull();
+
+    Object[] statuses = { "gold", "silver", "bronze", null, 1 };
+    Object[] ages = { -1, 0, 17, 18, 25, 30.5, 40L, 65, Double.NaN, "30", null };
+    Object[] incomes = { 0, 999, 1000, 2500.0, 5000, 10000, null };
+
+    for (HitPolicy hitPolicy : SHORT_CIRCUIT_HIT_POLICIES) {
+      DmnHitPolicyHandler hitPolicyHandler = new DefaultHitPolicyHandlerRegistry().getHandler(hitPolicy, null);
+      ((DmnDecisionTableImpl) interpretedDecision).setHitPolicyHandler(hitPolicyHandler);
+      ((DmnDecisionTableImpl) compiledDecision).setHitPolicyHandler(hitPolicyHandler);
+
+      for (Object status : statuses) {
+        for (Object age : ages) {
+          for (Object income : incomes) {
+            VariableMap variables = Variables.createVariables()
+              .putValue("status", status)
+              .putValue("age", age)
+              .putValue("income", income)
+              .putValue("channel", "web");
+            assertEquivalent(interpretedDecision, compiledDecision, variables);
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void shouldNotEvaluateInputEntriesOfRulesExcludedByConditionIndex() {
+    compiledEngine = createConfiguration(compiledListener)
+      .decisionTreeMaxSize(0)
+      .buildEngine();
+    DmnDecision interpretedDecision = parseDecision(interpretedEngine, SHORT_CIRCUIT_DMN);
+    DmnDecisionTableImpl compiledDecision = (DmnDecisionTableImpl) parseDecision(compiledEngine, SHORT_CIRCUIT_DMN);
+
+    // recompile the decision table with spies of the compiled status input entries
+    FeelEngine feelEngine = ((DefaultDmnEngineConfiguration) compiledEngine.getConfiguration()).getFeelEngine();
+    List<FeelSimpleUnaryTests> statusEntries = new ArrayList<FeelSimpleUnaryTests>();
+    for (DmnDecisionTableRuleImpl rule : compiledDecision.getRules()) {
+      DmnExpressionImpl condition = rule.getConditions().get(0);
+      FeelSimpleUnaryTests statusEntry = spy(condition.getSimpleUnaryTests(feelEngine));
+      condition.setSimpleUnaryTests(feelEngine, statusEntry);
+      statusEntries.add(statusEntry);
+    }
+    compiledDecision.getCompiledDecisionTables().clear();
+
+    VariableMap variables = Variables.createVariables()
+      .putValue("status", "gold")
+      .putValue("kind", "retail")
+      .putValue("excluded1", "wholesale")
+      .putValue("excluded2", "wholesale")
+      .putValue("excluded3", "wholesale")
+      .putValue("excluded4", "retail");
+
+    for (HitPolicy hitPolicy : SHORT_CIRCUIT_HIT_POLICIES) {
+      DmnHitPolicyHandler hitPolicyHandler = new DefaultHitPolicyHandlerRegistry().getHandler(hitPolicy, null);
+      ((DmnDecisionTableImpl) interpretedDecision).setHitPolicyHandler(hitPolicyHandler);
+      compiledDecision.setHitPolicyHandler(hitPolicyHandler);
+
+      DmnDecisionTableResult result = compiledEngine.evaluateDecisionTable(compiledDecision, variables);
+      assertThat(result.getSingleResult().<String>getSingleEntry()).isEqualTo("rule3");
+      assertEquivalent(interpretedDecision, compiledDecision, variables);
+    }
+
+    // the status index excludes the first two rules without evaluating their input entries
+    verify(statusEntries.get(0), never()).evaluate(any(VariableContext.class));
+    verify(statusEntries.get(1), never()).evaluate(any(VariableContext.class));
+  }
+
+  @Test
+  public void shouldCreateDecisionTreeForAnalyzableDecisionTables() {
+    DmnDecision decision = parseDecision(compiledEngine, TREE_DMN);
+    DecisionTree decisionTree = getCompiledDecisionTable(compiledEngine, decision).getDecisionTree();
+    assertThat(decisionTree).isNotNull();
+    assertThat(decisionTree.getSize()).isLessThanOrEqualTo(DefaultDmnEngineConfiguration.DEFAULT_DECISION_TREE_MAX_SIZE);
+
+    int node = decisionTree.getRoot();
+    node = decisionTree.getChild(node, 0, "gold");
+    node = decisionTree.getChild(node, 1, 30);
+    node = decisionTree.getChild(node, 2, 2500);
+    node = decisionTree.getChild(node, 3, "web");
+    assertThat(decisionTree.getLeafRules(node)).containsExactly(0, 3, 6);
+    assertThat(decisionTree.getChild(decisionTree.getRoot(), 0, null)).isEqualTo(-1);
+
+    // the decision tables contain scripts or input entries which are not indexed
+    decision = parseDecision(compiledEngine, SCRIPT_DMN);
+    assertThat(getCompiledDecisionTable(compiledEngine, decision).getDecisionTree()).isNull();
+    decision = parseDecision(compiledEngine, INTERVAL_DMN);
+    assertThat(getCompiledDecisionTable(compiledEngine, decision).getDecisionTree()).isNull();
+  }
+
+  @Test
+  public void shouldNotIndexInputEntriesOfCustomFeelEngine() {
+    final FeelEngine feelEngine = spy(new FeelEngineFactoryImpl().createInstance());
+    DmnEngine engine = createConfiguration(compiledListener)
+      .feelEngineFactory(new FeelEngineFactory() {
+        public FeelEngine createInstance() {
+          return feelEngine;
+        }
+      })
+      .buildEngine();
+
+    DmnDecision decision = parseDecision(engine, TREE_DMN);
+    assertThat(getCompiledDecisionTable(engine, decision).getDecisionTree()).isNull();
+    assertThat(getCompiledDecisionTable(engine, decision).getLookupTable()).isNull();
+
+    VariableMap variables = Variables.createVariables()
+      .putValue("status", "gold")
+      .putValue("age", 30)
+      .putValue("income", 2500)
+      .putValue("channel", "web");
+    assertThat(engine.evaluateDecisionTable(decision, variables).getResultList())
+      .isEqualTo(interpretedEngine.evaluateDecisionTable(parseDecision(interpretedEngine, TREE_DMN), variables).getResultList());
+
+    // the input entries are evaluated by the custom FEEL engine instead of the index
+    verify(feelEngine, atLeastOnce()).compileSimpleUnaryTests("\"gold\"", "cellInput");
+  }
+
+  @Test
+  public void shouldLimitDecisionTreeSize() {
+    DmnEngine engine = createConfiguration(compiledListener)
+      .decisionTreeMaxSize(10)
+      .buildEngine();
+    DmnDecisionTableImpl decisionTable = (DmnDecisionTableImpl) parseDecision(engine, TREE_DMN);
+    assertThat(getCompiledDecisionTable(engine, decisionTable).getDecisionTree()).isNull();
+
+    engine = createConfiguration(compiledListener)
+      .decisionTreeMaxSize(0)
+      .buildEngine();
+    decisionTable = (DmnDecisionTableImpl) parseDecision(engine, TREE_DMN);
+    assertThat(getCompiledDecisionTable(engine, decisionTable).getDecisionTree()).isNull();
+  }
+
+  @Test
+  public void shouldFilterRulesByMostSelectiveInputFirst() {
+    DmnEngine engine = createConfiguration(compiledListener)
+      .adaptiveInputOrderEnabled(true)
+      .buildEngine();
+    DmnDecision interpretedDecision = parseDecision(interpretedEngine, ADAPTIVE_DMN);
+    DmnDecision compiledDecision = parseDecision(engine, ADAPTIVE_DMN);
+
+    AdaptiveInputOrder inputOrder = getCompiledDecisionTable(engine, compiledDecision).getInputOrder();
+    assertThat(inputOrder).isNotNull();
+    assertThat(inputOrder.getOrder()).containsExactly(0, 1, 2);
+
+    for (int i = 0; i < AdaptiveInputOrder.REORDER_INTERVAL; i++) {
+      engine.evaluateDecisionTable(compiledDecision, createAdaptiveVariables(i));
+    }
+
+    assertThat(inputOrder.getEvaluationCount()).isEqualTo(AdaptiveInputOrder.REORDER_INTERVAL);
+    assertThat(inputOrder.getOrder()[0]).isEqualTo(2);
+    assertThat(inputOrder.getSelectivity(2)).isEqualTo(0.05);
+    assertThat(inputOrder.getCostPerRule(2)).isGreaterThan(0.0);
+
+    // the inputs are still evaluated and reported in declared order
+    for (int i = 0; i < 25; i++) {
+      assertEquivalent(interpretedDecision, compiledDecision, createAdaptiveVariables(i));
+    }
+  }
+
+  @Test
+  public void shouldFilterRulesInDeclaredOrderByDefault() {
+    DmnDecisionTableImpl decisionTable = (DmnDecisionTableImpl) parseDecision(compiledEngine, ADAPTIVE_DMN);
+    assertThat(getCompiledDecisionTable(compiledEngine, decisionTable).getInputOrder()).isNull();
+  }
+
+  @Test
+  public void shouldEvaluateIdenticalInputEntriesOncePerEvaluation() {
+    DmnDecision compiledDecision = parseDecision(compiledEngine, IDENTICAL_DMN);
+    DmnDecision interpretedDecision = parseDecision(interpretedEngine, IDENTICAL_DMN);
+    VariableMap variables = Variables.createVariables()
+      .putValue("kind", "retail")
+      .putValue("excluded", "wholesale");
+
+    // every evaluation of the input entry not(excluded) resolves the variable once
+    CountingVariableContext variableContext = new CountingVariableContext(variables.asVariableContext());
+    DmnDecisionTableResult result = compiledEngine.evaluateDecisionTable(compiledDecision, variableContext);
+    assertThat(result).hasSize(10);
+    assertThat(variableContext.getResolveCount("excluded")).isEqualTo(1);
+
+    // the hit policy ANY evaluates the rules in rule order
+    DmnHitPolicyHandler hitPolicyHandler = new DefaultHitPolicyHandlerRegistry().getHandler(HitPolicy.ANY, null);
+    ((DmnDecisionTableImpl) compiledDecision).setHitPolicyHandler(hitPolicyHandler);
+    variableContext = new CountingVariableContext(variables.asVariableContext());
+    result = compiledEngine.evaluateDecisionTable(compiledDecision, variableContext);
+    assertThat(result).hasSize(1);
+    assertThat(variableContext.getResolveCount("excluded")).isEqualTo(1);
+
+    variableContext = new CountingVariableContext(variables.asVariableContext());
+    result = interpretedEngine.evaluateDecisionTable(interpretedDecision, variableContext);
+    assertThat(result).hasSize(10);
+    assertThat(variableContext.getResolveCount("excluded")).isEqualTo(8);
+
+    assertEquivalent(IDENTICAL_DMN, variables);
+    assertEquivalent(IDENTICAL_DMN, variables.putValue("excluded", "retail"));
+  }
+
+  @Test
+  public void shouldNotEvaluateInputsWhichNoRemainingRuleTests() {
+    interpretedEngine = createConfiguration(interpretedListener)
+      .decisionTableEvaluationMode(DecisionTableEvaluationMode.INTERPRETED)
+      .lazyInputEvaluationEnabled(true)
+      .buildEngine();
+    compiledEngine = createConfiguration(compiledListener)
+      .lazyInputEvaluationEnabled(true)
+      .buildEngine();
+    DmnDecision interpretedDecision = parseDecision(interpretedEngine, LAZY_DMN);
+    DmnDecision compiledDecision = parseDecision(compiledEngine, LAZY_DMN);
+    assertThat(getCompiledDecisionTable(compiledEngine, compiledDecision).getDecisionTree()).isNotNull();
+
+    // the remaining rules of the category a do not test the amount and the region
+    VariableMap variables = Variables.createVariables()
+      .putValue("category", "a")
+      .putValue("amount", 150)
+      .putValue("region", "north");
+    CountingVariableContext variableContext = new CountingVariableContext(variables.asVariableContext());
+    DmnDecisionTableResult result = compiledEngine.evaluateDecisionTable(compiledDecision, variableContext);
+    assertThat(result.collectEntries("result")).containsExactly("rule1", "rule4");
+    assertThat(variableContext.getResolveCount("amount")).isEqualTo(0);
+    assertThat(variableContext.getResolveCount("region")).isEqualTo(0);
+
+    List<DmnEvaluatedInput> inputs = compiledListener.evaluationEvent.getInputs();
+    assertThat(inputs).hasSize(3);
+    assertThat(((DmnLazyEvaluatedInput) inputs.get(0)).isEvaluated()).isTrue();
+    assertThat(((DmnLazyEvaluatedInput) inputs.get(1)).isEvaluated()).isFalse();
+    assertThat(inputs.get(1).getValue()).isEqualTo(Variables.untypedNullValue());
+    assertThat(((DmnLazyEvaluatedInput) inputs.get(2)).isEvaluated()).isFalse();
+
+    // the decision table without decision tree filters the rules input by input
+    DmnDecision filteredDecision = parseDecision(createConfiguration(compiledListener)
+      .lazyInputEvaluationEnabled(true)
+      .decisionTreeMaxSize(0)
+      .buildEngine(), LAZY_DMN);
+
+    Object[] categories = { "a", "b", "c", "x", null };
+    Object[] amounts = { 50, 150, null };
+    Object[] regions = { "north", "south", null };
+    for (DmnHitPolicyHandler hitPolicyHandler : getHitPolicyHandlers()) {
+      ((DmnDecisionTableImpl) interpretedDecision).setHitPolicyHandler(hitPolicyHandler);
+      ((DmnDecisionTableImpl) compiledDecision).setHitPolicyHandler(hitPolicyHandler);
+      ((DmnDecisionTableImpl) filteredDecision).setHitPolicyHandler(hitPolicyHandler);
+
+      for (Object category : categories) {
+        for (Object amount : amounts) {
+          for (Object region : regions) {
+            variables = Variables.createVariables()
+              .putValue("category", category)
+              .putValue("amount", amount)
+              .putValue("region", region);
+            assertEquivalent(interpretedDecision, compiledDecision, variables);
+            assertEquivalent(interpretedDecision, filteredDecision, variables);
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void shouldEvaluateAllInputsByDefault() {
+    VariableMap variables = Variables.createVariables()
+      .putValue("category", "a")
+      .putValue("amount", 150)
+      .putValue("region", "north");
+    assertEquivalent(LAZY_DMN, variables);
+
+    for (DmnEvaluatedInput input : compiledListener.evaluationEvent.getInputs()) {
+      assertThat(((DmnLazyEvaluatedInput) input).isEvaluated()).isTrue();
+    }
+  }
+
+  // helper ///////////////////////////////////////////////////////////////////
+
+  protected DefaultDmnEngineConfiguration createConfiguration(RecordingEvaluationListener listener) {
+    DefaultDmnEngineConfiguration configuration = new DefaultDmnEngineConfiguration();
+    List<DmnDecisionTableEvaluationListener> listeners = new ArrayList<DmnDecisionTableEvaluationListener>();
+    listeners.add(listener);
+    configuration.setCustomPostDecisionTableEvaluationListeners(listeners);
+    return configuration;
+  }
+
+  protected VariableMap createAdaptiveVariables(int i) {
+    return Variables.createVariables()
+      .putValue("kind", "known")
+      .putValue("amount", i % 3)
+      .putValue("key", "k" + (i % 20 + 1));
+  }
+
+  protected List<DmnHitPolicyHandler> getHitPolicyHandlers() {
+    DefaultHitPolicyHandlerRegistry hitPolicyHandlerRegistry = new DefaultHitPolicyHandlerRegistry();
+    List<DmnHitPolicyHandler> hitPolicyHandlers = new ArrayList<DmnHitPolicyHandler>();
+    for (HitPolicy hitPolicy : new HitPolicy[] { HitPolicy.UNIQUE, HitPolicy.ANY, HitPolicy.FIRST, HitPolicy.RULE_ORDER, HitPolicy.COLLECT }) {
+      for (BuiltinAggregator aggregator : new BuiltinAggregator[] { null, BuiltinAggregator.COUNT }) {
+        DmnHitPolicyHandler hitPolicyHandler = hitPolicyHandlerRegistry.getHandler(hitPolicy, aggregator);
+        if (hitPolicyHandler != null) {
+          hitPolicyHandlers.add(hitPolicyHandler);
+        }
+      }
+    }
+    return hitPolicyHandlers;
+  }
+
+  protected DmnDecision parseDecision(DmnEngine engine, String resource) {
+    return engine.parseDecisions(IoUtil.fileAsStream(resource)).get(0);
+  }
+
+  protected CompiledDecisionTable getCompiledDecisionTable(DmnEngine engine, DmnDecision decision) {
+    DmnDecisionTableCompiler compiler = ((DefaultDmnEngineConfiguration) engine.getConfiguration()).getDecisionTableCompiler();
+    return ((DmnDecisionTableImpl) decision).getCompiledDecisionTable(compiler);
+  }
+
+  protected VariableMap createVariables(String status, int sum) {
+    return Variables.createVariables()
+      .putValue("status", status)
+      .putValue("sum", sum);
+  }
+
+  protected void assertEquivalent(String resource, VariableMap variables) {
+    interpretedListener.evaluationEvent = null;
+    compiledListener.evaluationEvent = null;
+
+    Object interpretedResult = evaluate(interpretedEngine, resource, variables);
+    Object compiledResult = evaluate(compiledEngine, resource, variables);
+    assertEquivalentEvaluation(interpretedResult, compiledResult);
+  }
+
+  protected void assertEquivalent(DmnDecision interpretedDecision, DmnDecision compiledDecision, VariableMap variables) {
+    interpretedListener.evaluationEvent = null;
+    compiledListener.evaluationEvent = null;
+
+    Object interpretedResult = evaluate(interpretedEngine, interpretedDecision, variables);
+    Object compiledResult = evaluate(compiledEngine, compiledDecision, variables);
+    assertEquivalentEvaluation(interpretedResult, compiledResult);
+  }
+
+  protected void assertEquivalentEvaluation(Object interpretedResult, Object compiledResult) {
+    assertThat(compiledResult).isEqualTo(interpretedResult);
+
+    DmnDecisionTableEvaluationEvent interpretedEvent = interpretedListener.evaluationEvent;
+    DmnDecisionTableEvaluationEvent compiledEvent = compiledListener.evaluationEvent;
+    if (interpretedEvent != null) {
+      assertThat(compiledEvent.getInputs()).isEqualTo(interpretedEvent.getInputs());
+      assertThat(getRuleIds(compiledEvent)).isEqualTo(getRuleIds(interpretedEvent));
+      assertThat(compiledEvent.getCollectResultName()).isEqualTo(interpretedEvent.getCollectResultName());
+      assertThat(compiledEvent.getCollectResultValue()).isEqualTo(interpretedEvent.getCollectResultValue());
+      assertThat(compiledEvent.getExecutedDecisionElements()).isEqualTo(interpretedEvent.getExecutedDecisionElements());
+    }
+    else {
+      assertThat(compiledEvent).isNull();
+    }
+  }
+
+  /**
+   * @return the result list or the message of the thrown exception
+   */
+  protected Object evaluate(DmnEngine engine, String resource, VariableMap variables) {
+    try {
+      DmnDecision decision = parseDecision(engine, resource);
+      return evaluate(engine, decision, variables);
+    }
+    catch (RuntimeException e) {
+      return e.getMessage();
+    }
+  }
+
+  /**
+   * @return the result list or the message of the thrown exception
+   */
+  protected Object evaluate(DmnEngine engine, DmnDecision decision, VariableMap variables) {
+    try {
+      DmnDecisionTableResult result = engine.evaluateDecisionTable(decision, variables);
+      return result.getResultList();
+    }
+    catch (RuntimeException e) {
+      return e.getMessage();
+    }
+  }
+
+  protected List<String> getRuleIds(DmnDecisionTableEvaluationEvent evaluationEvent) {
+    List<String> ruleIds = new ArrayList<String>();
+    for (DmnEvaluatedDecisionRule matchingRule : evaluationEvent.getMatchingRules()) {
+      ruleIds.add(matchingRule.getId());
+    }
+    return ruleIds;
+  }
+
+  public static class CountingVariableContext implements VariableContext {
+
+    protected VariableContext variableContext;
+    protected Map<String, Integer> resolveCounts = new HashMap<String, Integer>();
+
+    public CountingVariableContext(VariableContext variableContext) {
+      this.variableContext = variableContext;
+    }
+
+    public TypedValue resolve(String variableName) {
+      resolveCounts.put(variableName, getResolveCount(variableName) + 1);
+      return variableContext.resolve(variableName);
+    }
+
+    public boolean containsVariable(String variableName) {
+      return variableContext.containsVariable(variableName);
+    }
+
+    public Set<String> keySet() {
+      return variableContext.keySet();
+    }
+
+    public int getResolveCount(String variableName) {
+      Integer count = resolveCounts.get(variableName);
+      return count != null ? count : 0;
+    }
+
+  }
+
+  public static class RecordingEvaluationListener implements DmnDecisionTableEvaluationListener {
+
+    public DmnDecisionTableEvaluationEvent evaluationEvent;
+
+    public void notify(DmnDecisionTableEvaluationEvent evaluationEvent) {
+      this.evaluationEvent = evaluationEvent;
+    }
+
+  }
+
+}
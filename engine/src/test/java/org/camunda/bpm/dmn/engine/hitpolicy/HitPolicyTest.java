@@ -25,7 +25,11 @@ import java.util.List;
 
 import org.camunda.bpm.dmn.engine.DmnDecisionRuleResult;
 import org.camunda.bpm.dmn.engine.DmnDecisionTableResult;
+import org.camunda.bpm.dmn.engine.delegate.DmnEvaluatedDecisionRule;
+import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableImpl;
 import org.camunda.bpm.dmn.engine.impl.hitpolicy.DmnHitPolicyException;
+import org.camunda.bpm.dmn.engine.impl.hitpolicy.RuleOrderHitPolicyHandler;
+import org.camunda.bpm.dmn.engine.impl.spi.hitpolicy.DmnShortCircuitHitPolicyHandler;
 import org.camunda.bpm.dmn.engine.impl.transform.DmnTransformException;
 import org.camunda.bpm.dmn.engine.test.DecisionResource;
 import org.camunda.bpm.dmn.engine.test.DmnEngineTest;
@@ -511,6 +515,18 @@ public class HitPolicyTest extends DmnEngineTest {
       .hasSingleEntry("c");
   }
 
+  @Test
+  @DecisionResource(resource = FIRST_SINGLE)
+  public void testFirstHitPolicyStopsAtFirstMatchingRule() {
+    // the conditions and outputs of the following rules are not evaluated
+    variables.putValue("input1", true);
+    variables.putValue("output1", "a");
+
+    assertThatDecisionTableResult()
+      .hasSingleResult()
+      .hasSingleEntry("a");
+  }
+
   @Test
   @DecisionResource(resource = FIRST_COMPOUND)
   public void testFirstHitPolicyCompoundOutputNoMatchingRule() {
@@ -1532,6 +1548,58 @@ public class HitPolicyTest extends DmnEngineTest {
 
   // helper methods
 
+  @Test
+  @DecisionResource(resource = UNIQUE_SINGLE)
+  public void testUniqueHitPolicyStopsAtSecondMatchingRule() {
+    // the condition of the third rule is not evaluated
+    variables.putValue("input1", true);
+    variables.putValue("input2", true);
+    variables.putValue("output1", "a");
+    variables.putValue("output2", "b");
+
+    try {
+      evaluateDecisionTable();
+      failBecauseExceptionWasNotThrown(DmnHitPolicyException.class);
+    }
+    catch (DmnHitPolicyException e) {
+      assertThat(e).hasMessageStartingWith("DMN-03001");
+    }
+  }
+
+  @Test
+  @DecisionResource(resource = ANY_SINGLE)
+  public void testAnyHitPolicyStopsAtFirstDifferentOutput() {
+    // the condition of the third rule is not evaluated
+    variables.putValue("input1", true);
+    variables.putValue("input2", true);
+    variables.putValue("output1", "a");
+    variables.putValue("output2", "b");
+
+    try {
+      evaluateDecisionTable();
+      failBecauseExceptionWasNotThrown(DmnHitPolicyException.class);
+    }
+    catch (DmnHitPolicyException e) {
+      assertThat(e).hasMessageStartingWith("DMN-03002");
+    }
+  }
+
+  @Test
+  @DecisionResource(resource = RULE_ORDER_SINGLE)
+  public void testCustomShortCircuitHitPolicyHandler() {
+    DmnDecisionTableImpl decisionTable = (DmnDecisionTableImpl) decision;
+    decisionTable.setHitPolicyHandler(new FirstTwoRulesHitPolicyHandler());
+
+    // the condition of the third rule is not evaluated
+    variables.putValue("input1", true);
+    variables.putValue("input2", true);
+    variables.putValue("output1", "a");
+    variables.putValue("output2", "b");
+
+    List<Object> outputValues = collectSingleOutputEntries(evaluateDecisionTable());
+    assertThat(outputValues).containsExactly("a", "b");
+  }
+
   public List<Object> collectSingleOutputEntries(DmnDecisionTableResult results) {
     List<Object> values = new ArrayList<Object>();
     for (DmnDecisionRuleResult result : results) {
@@ -1555,4 +1623,12 @@ public class HitPolicyTest extends DmnEngineTest {
     return assertThat(evaluateDecisionTable(input1, input2, input3, output1, output2, output3));
   }
 
+  public static class FirstTwoRulesHitPolicyHandler extends RuleOrderHitPolicyHandler implements DmnShortCircuitHitPolicyHandler {
+
+    public boolean isEvaluationComplete(List<DmnEvaluatedDecisionRule> matchingRules) {
+      return matchingRules.size() == 2;
+    }
+
+  }
+
 }
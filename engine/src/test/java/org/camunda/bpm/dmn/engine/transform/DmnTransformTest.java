@@ -14,6 +14,7 @@
 package org.camunda.bpm.dmn.engine.transform;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
 
 import java.util.List;
 
@@ -25,13 +26,17 @@ import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableRuleImpl;
 import org.camunda.bpm.dmn.engine.impl.DmnExpressionImpl;
 import org.camunda.bpm.dmn.engine.impl.hitpolicy.FirstHitPolicyHandler;
 import org.camunda.bpm.dmn.engine.impl.hitpolicy.UniqueHitPolicyHandler;
+import org.camunda.bpm.dmn.engine.impl.transform.DmnTransformException;
 import org.camunda.bpm.dmn.engine.impl.type.DefaultTypeDefinition;
 import org.camunda.bpm.dmn.engine.test.DmnEngineTest;
+import org.camunda.bpm.engine.variable.Variables;
 import org.junit.Test;
 
 public class DmnTransformTest extends DmnEngineTest {
 
   public static final String TRANSFORM_DMN = "org/camunda/bpm/dmn/engine/transform/DmnTransformTest.dmn";
+  public static final String LITERALS_DMN = "org/camunda/bpm/dmn/engine/transform/DmnTransformTest.literals.dmn";
+  public static final String LITERAL_TYPE_DMN = "org/camunda/bpm/dmn/engine/transform/DmnTransformTest.literalType.dmn";
 
   @Test
   public void shouldTransformDecisions() {
@@ -166,4 +171,41 @@ public class DmnTransformTest extends DmnEngineTest {
     assertThat(dmnOutputEntry.getExpression()).isNull();
   }
 
+  @Test
+  public void shouldTransformLiteralOutputEntries() {
+    DmnDecisionTableImpl decision = (DmnDecisionTableImpl) parseDecisionFromFile("decision", LITERALS_DMN);
+    List<DmnDecisionTableRuleImpl> rules = decision.getRules();
+
+    List<DmnExpressionImpl> conclusions = rules.get(0).getConclusions();
+    assertThat(conclusions.get(0).getConstantValue()).isEqualTo(Variables.stringValue("APPROVED"));
+    assertThat(conclusions.get(1).getConstantValue()).isEqualTo(Variables.integerValue(15));
+    assertThat(conclusions.get(2).getConstantValue()).isEqualTo(Variables.doubleValue(0.15));
+    assertThat(conclusions.get(3).getConstantValue()).isEqualTo(Variables.booleanValue(true));
+    assertThat(conclusions.get(4).getConstantValue()).isEqualTo(Variables.untypedValue("it's"));
+    assertThat(conclusions.get(0).getTypeDefinition()).isSameAs(decision.getOutputs().get(0).getTypeDefinition());
+
+    conclusions = rules.get(1).getConclusions();
+    assertThat(conclusions.get(0).getConstantValue()).isEqualTo(Variables.stringValue("folded"));
+    assertThat(conclusions.get(1).getConstantValue()).isEqualTo(Variables.integerValue(-3));
+    assertThat(conclusions.get(2).getConstantValue()).isEqualTo(Variables.doubleValue(1000.0));
+    assertThat(conclusions.get(3).getConstantValue()).isEqualTo(Variables.booleanValue(false));
+    assertThat(conclusions.get(4).getConstantValue()).isEqualTo(Variables.untypedNullValue());
+
+    // expressions and composite expressions are evaluated
+    for (DmnExpressionImpl conclusion : rules.get(2).getConclusions()) {
+      assertThat(conclusion.getConstantValue()).isNull();
+    }
+  }
+
+  @Test
+  public void shouldDetectTypeErrorsOfLiteralOutputEntries() {
+    try {
+      parseDecisionFromFile("decision", LITERAL_TYPE_DMN);
+      failBecauseExceptionWasNotThrown(DmnTransformException.class);
+    }
+    catch (DmnTransformException e) {
+      assertThat(e).hasMessageContaining("fifteen");
+    }
+  }
+
 }
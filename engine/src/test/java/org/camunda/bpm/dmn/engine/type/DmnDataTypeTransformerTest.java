@@ -220,6 +220,17 @@ public class DmnDataTypeTransformerTest extends DmnEngineTest {
     assertThat(typeTransformer.transform(date), is(dateValue));
   }
 
+  @Test
+  public void lenientDateType() throws ParseException {
+    DmnDataTypeTransformer typeTransformer = registry.getTransformer("date");
+
+    TypedValue dateValue = Variables.dateValue(toDate("2015-9-18T12:0:0"));
+    assertThat(typeTransformer.transform("2015-9-18T12:0:0"), is(dateValue));
+
+    dateValue = Variables.dateValue(toDate("2015-13-01T00:00:00"));
+    assertThat(typeTransformer.transform("2015-13-01T00:00:00"), is(dateValue));
+  }
+
   @Test
   public void invalidStringForDateType() {
     DmnDataTypeTransformer typeTransformer = registry.getTransformer("date");
@@ -33,6 +33,18 @@ public interface FeelEngine {
    */
   <T> T evaluateSimpleExpression(String simpleExpression, VariableContext variableContext);
 
+  /**
+   * Compile a FEEL simple expression so it can be evaluated
+   * multiple times without parsing it again
+   *
+   * @param simpleExpression the simple expression to compile
+   * @return the compiled simple expression
+   *
+   * @throws FeelException
+   *           if the expression cannot be compiled
+   */
+  FeelSimpleExpression compileSimpleExpression(String simpleExpression);
+
   /**
    * Evaluate a FEEL simple unary tests expression
    *
@@ -46,4 +58,17 @@ public interface FeelEngine {
    */
   boolean evaluateSimpleUnaryTests(String simpleUnaryTests, String inputName, VariableContext variableContext);
 
+  /**
+   * Compile a FEEL simple unary tests expression so it can be evaluated
+   * multiple times without parsing it again
+   *
+   * @param simpleUnaryTests the simple unary tests expression to compile
+   * @param inputName the name of the variable which is tested
+   * @return the compiled simple unary tests expression
+   *
+   * @throws FeelException
+   *           if the expression cannot be compiled
+   */
+  FeelSimpleUnaryTests compileSimpleUnaryTests(String simpleUnaryTests, String inputName);
+
 }
@@ -0,0 +1,41 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl;
+
+import org.camunda.bpm.engine.variable.context.VariableContext;
+
+/**
+ * A compiled FEEL simple expression which can be evaluated multiple times.
+ * Implementations have to be thread-safe.
+ */
+public interface FeelSimpleExpression {
+
+  /**
+   * @return the simple expression
+   */
+  String getExpression();
+
+  /**
+   * Evaluate the compiled simple expression
+   *
+   * @param variableContext the variable context which is available
+   * @param <T> the expected return type
+   * @return the result of the simple expression
+   *
+   * @throws FeelException
+   *           if the expression cannot be evaluated
+   */
+  <T> T evaluate(VariableContext variableContext);
+
+}
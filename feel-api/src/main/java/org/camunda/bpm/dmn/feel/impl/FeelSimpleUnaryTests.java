@@ -0,0 +1,45 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl;
+
+import org.camunda.bpm.engine.variable.context.VariableContext;
+
+/**
+ * A compiled FEEL simple unary tests expression which can be evaluated
+ * multiple times. Implementations have to be thread-safe.
+ */
+public interface FeelSimpleUnaryTests {
+
+  /**
+   * @return the simple unary tests expression
+   */
+  String getExpression();
+
+  /**
+   * @return the name of the variable which is tested
+   */
+  String getInputName();
+
+  /**
+   * Evaluate the compiled simple unary tests expression
+   *
+   * @param variableContext the variable context which is available
+   * @return the result of the simple unary tests expression
+   *
+   * @throws FeelException
+   *           if the expression cannot be evaluated
+   */
+  boolean evaluate(VariableContext variableContext);
+
+}
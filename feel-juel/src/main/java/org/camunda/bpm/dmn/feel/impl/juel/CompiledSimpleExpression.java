@@ -0,0 +1,62 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel;
+
+import java.util.List;
+
+import org.camunda.bpm.dmn.feel.impl.FeelSimpleExpression;
+import org.camunda.bpm.engine.variable.context.VariableContext;
+
+/**
+ * A compiled simple expression. The compiled form does not depend on the
+ * variable context so it can be shared between evaluations and threads.
+ */
+public abstract class CompiledSimpleExpression implements FeelSimpleExpression {
+
+  protected final FeelEngineImpl feelEngine;
+  protected final String simpleExpression;
+  protected final List<String> variableNames;
+
+  public CompiledSimpleExpression(FeelEngineImpl feelEngine, String simpleExpression, List<String> variableNames) {
+    this.feelEngine = feelEngine;
+    this.simpleExpression = simpleExpression;
+    this.variableNames = variableNames;
+  }
+
+  public String getExpression() {
+    return simpleExpression;
+  }
+
+  @SuppressWarnings("unchecked")
+  public <T> T evaluate(VariableContext variableContext) {
+    return (T) feelEngine.evaluateSimpleExpression(this, variableContext);
+  }
+
+  /**
+   * @return the names of all variables referenced by the expression
+   */
+  public List<String> getVariableNames() {
+    return variableNames;
+  }
+
+  /**
+   * Evaluate the compiled expression. Exceptions are translated by
+   * the {@link FeelEngineImpl} which calls this method.
+   *
+   * @param variableContext the variable context which contains all referenced variables
+   * @return the result of the expression
+   */
+  protected abstract Object evaluateCompiled(VariableContext variableContext);
+
+}
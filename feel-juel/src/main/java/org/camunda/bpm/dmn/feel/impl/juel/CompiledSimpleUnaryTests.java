@@ -0,0 +1,68 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel;
+
+import java.util.List;
+
+import org.camunda.bpm.dmn.feel.impl.FeelSimpleUnaryTests;
+import org.camunda.bpm.engine.variable.context.VariableContext;
+
+/**
+ * A compiled simple unary tests expression. The compiled form does not
+ * depend on the variable context so it can be shared between evaluations
+ * and threads.
+ */
+public abstract class CompiledSimpleUnaryTests implements FeelSimpleUnaryTests {
+
+  protected final FeelEngineImpl feelEngine;
+  protected final String simpleUnaryTests;
+  protected final String inputName;
+  protected final List<String> variableNames;
+
+  public CompiledSimpleUnaryTests(FeelEngineImpl feelEngine, String simpleUnaryTests, String inputName, List<String> variableNames) {
+    this.feelEngine = feelEngine;
+    this.simpleUnaryTests = simpleUnaryTests;
+    this.inputName = inputName;
+    this.variableNames = variableNames;
+  }
+
+  public String getExpression() {
+    return simpleUnaryTests;
+  }
+
+  public String getInputName() {
+    return inputName;
+  }
+
+  public boolean evaluate(VariableContext variableContext) {
+    return feelEngine.evaluateSimpleUnaryTests(this, variableContext);
+  }
+
+  /**
+   * @return the names of all variables referenced by the expression
+   */
+  public List<String> getVariableNames() {
+    return variableNames;
+  }
+
+  /**
+   * Evaluate the compiled expression. Exceptions are translated by
+   * the {@link FeelEngineImpl} which calls this method.
+   *
+   * @param variableContext the variable context which contains all referenced variables
+   * @return the result of the expression
+   */
+  protected abstract boolean evaluateCompiled(VariableContext variableContext);
+
+}
@@ -13,27 +13,57 @@
 
 package org.camunda.bpm.dmn.feel.impl.juel;
 
-import java.util.Properties;
 import javax.el.ELException;
 import javax.el.ExpressionFactory;
 
 import org.camunda.bpm.dmn.feel.impl.FeelEngine;
 import org.camunda.bpm.dmn.feel.impl.FeelEngineFactory;
+import org.camunda.bpm.dmn.feel.impl.juel.cache.Cache;
+import org.camunda.bpm.dmn.feel.impl.juel.cache.EvictionPolicy;
+import org.camunda.bpm.dmn.feel.impl.juel.cache.SegmentedCache;
 import org.camunda.bpm.dmn.feel.impl.juel.el.ElContextFactory;
 import org.camunda.bpm.dmn.feel.impl.juel.el.FeelElContextFactory;
+import org.camunda.bpm.dmn.feel.impl.juel.el.FeelTreeBuilder;
 import org.camunda.bpm.dmn.feel.impl.juel.el.FeelTypeConverter;
 import org.camunda.bpm.dmn.feel.impl.juel.transform.FeelToJuelTransform;
 import org.camunda.bpm.dmn.feel.impl.juel.transform.FeelToJuelTransformImpl;
 
 import de.odysseus.el.ExpressionFactoryImpl;
+import de.odysseus.el.tree.TreeBuilder;
+import de.odysseus.el.tree.TreeStore;
 
 public class FeelEngineFactoryImpl implements FeelEngineFactory {
 
   public static final FeelEngineLogger LOG = FeelLogger.ENGINE_LOGGER;
 
+  public static final int DEFAULT_EXPRESSION_CACHE_SIZE = 1000;
+  public static final EvictionPolicy DEFAULT_EXPRESSION_CACHE_EVICTION_POLICY = EvictionPolicy.LRU;
+
+  public static final int DEFAULT_EXPRESSION_TREE_CACHE_SIZE = 1000;
+
+  protected final int expressionCacheSize;
+  protected final EvictionPolicy expressionCacheEvictionPolicy;
+
   protected FeelEngine feelEngine;
 
   public FeelEngineFactoryImpl() {
+    this(DEFAULT_EXPRESSION_CACHE_SIZE);
+  }
+
+  /**
+   * @param expressionCacheSize the maximal number of compiled expressions to cache, 0 disables the cache
+   */
+  public FeelEngineFactoryImpl(int expressionCacheSize) {
+    this(expressionCacheSize, DEFAULT_EXPRESSION_CACHE_EVICTION_POLICY);
+  }
+
+  /**
+   * @param expressionCacheSize the maximal number of compiled expressions to cache, 0 disables the cache
+   * @param expressionCacheEvictionPolicy the policy to evict compiled expressions if the cache is full
+   */
+  public FeelEngineFactoryImpl(int expressionCacheSize, EvictionPolicy expressionCacheEvictionPolicy) {
+    this.expressionCacheSize = expressionCacheSize;
+    this.expressionCacheEvictionPolicy = expressionCacheEvictionPolicy;
     feelEngine = createFeelEngine();
   }
 
@@ -45,7 +75,9 @@ public class FeelEngineFactoryImpl implements FeelEngineFactory {
     FeelToJuelTransform transform = createFeelToJuelTransform();
     ExpressionFactory expressionFactory = createExpressionFactory();
     ElContextFactory elContextFactory = createElContextFactory();
-    return new FeelEngineImpl(transform, expressionFactory, elContextFactory);
+    Cache<SimpleUnaryTestsCacheKey, CompiledSimpleUnaryTests> expressionCache = createExpressionCache();
+    Cache<String, CompiledSimpleExpression> simpleExpressionCache = createSimpleExpressionCache();
+    return new FeelEngineImpl(transform, expressionFactory, elContextFactory, expressionCache, simpleExpressionCache);
   }
 
   protected FeelToJuelTransform createFeelToJuelTransform() {
@@ -54,13 +86,21 @@ public class FeelEngineFactoryImpl implements FeelEngineFactory {
 
   protected ExpressionFactory createExpressionFactory() {
     try {
-      return new ExpressionFactoryImpl((Properties) null, createTypeConverter());
+      return new ExpressionFactoryImpl(createTreeStore(), createTypeConverter());
     }
     catch (ELException e) {
       throw LOG.unableToInitializeFeelEngine(e);
     }
   }
 
+  protected TreeStore createTreeStore() {
+    return new TreeStore(createTreeBuilder(), new de.odysseus.el.tree.impl.Cache(DEFAULT_EXPRESSION_TREE_CACHE_SIZE));
+  }
+
+  protected TreeBuilder createTreeBuilder() {
+    return new FeelTreeBuilder();
+  }
+
   protected FeelTypeConverter createTypeConverter() {
     return new FeelTypeConverter();
   }
@@ -69,4 +109,20 @@ public class FeelEngineFactoryImpl implements FeelEngineFactory {
     return new FeelElContextFactory();
   }
 
+  protected Cache<SimpleUnaryTestsCacheKey, CompiledSimpleUnaryTests> createExpressionCache() {
+    return new SegmentedCache<SimpleUnaryTestsCacheKey, CompiledSimpleUnaryTests>(expressionCacheSize, expressionCacheEvictionPolicy);
+  }
+
+  protected Cache<String, CompiledSimpleExpression> createSimpleExpressionCache() {
+    return new SegmentedCache<String, CompiledSimpleExpression>(expressionCacheSize, expressionCacheEvictionPolicy);
+  }
+
+  public int getExpressionCacheSize() {
+    return expressionCacheSize;
+  }
+
+  public EvictionPolicy getExpressionCacheEvictionPolicy() {
+    return expressionCacheEvictionPolicy;
+  }
+
 }
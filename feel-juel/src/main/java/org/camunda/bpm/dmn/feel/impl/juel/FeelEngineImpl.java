@@ -13,14 +13,26 @@
 
 package org.camunda.bpm.dmn.feel.impl.juel;
 
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import javax.el.CompositeELResolver;
 import javax.el.ELContext;
 import javax.el.ELException;
 import javax.el.ExpressionFactory;
 import javax.el.ValueExpression;
 
 import org.camunda.bpm.dmn.feel.impl.FeelEngine;
+import org.camunda.bpm.dmn.feel.impl.juel.cache.Cache;
+import org.camunda.bpm.dmn.feel.impl.juel.cache.EvictionPolicy;
+import org.camunda.bpm.dmn.feel.impl.juel.cache.SegmentedCache;
+import org.camunda.bpm.dmn.feel.impl.juel.el.CompilationElContextFactory;
 import org.camunda.bpm.dmn.feel.impl.juel.el.ElContextFactory;
+import org.camunda.bpm.dmn.feel.impl.juel.el.FeelElContext;
+import org.camunda.bpm.dmn.feel.impl.juel.el.FeelTypedVariableMapper;
+import org.camunda.bpm.dmn.feel.impl.juel.el.FeelVariableContextResolver;
 import org.camunda.bpm.dmn.feel.impl.juel.transform.FeelToJuelTransform;
+import org.camunda.bpm.engine.variable.Variables;
 import org.camunda.bpm.engine.variable.context.VariableContext;
 
 public class FeelEngineImpl implements FeelEngine {
@@ -30,28 +42,113 @@ public class FeelEngineImpl implements FeelEngine {
   protected FeelToJuelTransform transform;
   protected ExpressionFactory expressionFactory;
   protected ElContextFactory elContextFactory;
+  protected Cache<SimpleUnaryTestsCacheKey, CompiledSimpleUnaryTests> expressionCache;
+  protected Cache<String, CompiledSimpleExpression> simpleExpressionCache;
 
   public FeelEngineImpl(FeelToJuelTransform transform, ExpressionFactory expressionFactory, ElContextFactory elContextFactory) {
+    this(transform, expressionFactory, elContextFactory,
+      new SegmentedCache<SimpleUnaryTestsCacheKey, CompiledSimpleUnaryTests>(FeelEngineFactoryImpl.DEFAULT_EXPRESSION_CACHE_SIZE, FeelEngineFactoryImpl.DEFAULT_EXPRESSION_CACHE_EVICTION_POLICY));
+  }
+
+  public FeelEngineImpl(FeelToJuelTransform transform, ExpressionFactory expressionFactory, ElContextFactory elContextFactory, Cache<SimpleUnaryTestsCacheKey, CompiledSimpleUnaryTests> expressionCache) {
+    this(transform, expressionFactory, elContextFactory, expressionCache,
+      new SegmentedCache<String, CompiledSimpleExpression>(expressionCache.getCapacity(), EvictionPolicy.LRU));
+  }
+
+  public FeelEngineImpl(FeelToJuelTransform transform, ExpressionFactory expressionFactory, ElContextFactory elContextFactory, Cache<SimpleUnaryTestsCacheKey, CompiledSimpleUnaryTests> expressionCache, Cache<String, CompiledSimpleExpression> simpleExpressionCache) {
     this.transform = transform;
     this.expressionFactory = expressionFactory;
     this.elContextFactory = elContextFactory;
+    this.expressionCache = expressionCache;
+    this.simpleExpressionCache = simpleExpressionCache;
   }
 
   public <T> T evaluateSimpleExpression(String simpleExpression, VariableContext variableContext) {
-    throw LOG.simpleExpressionNotSupported();
+    CompiledSimpleExpression compiledSimpleExpression = compileSimpleExpression(simpleExpression);
+    return compiledSimpleExpression.evaluate(variableContext);
+  }
+
+  public CompiledSimpleExpression compileSimpleExpression(String simpleExpression) {
+    CompiledSimpleExpression compiledSimpleExpression = simpleExpressionCache.get(simpleExpression);
+    if (compiledSimpleExpression == null) {
+      compiledSimpleExpression = createCompiledSimpleExpression(simpleExpression);
+      simpleExpressionCache.put(simpleExpression, compiledSimpleExpression);
+    }
+    return compiledSimpleExpression;
+  }
+
+  /**
+   * Evaluate a compiled simple expression
+   *
+   * @param compiledSimpleExpression the compiled simple expression
+   * @param variableContext the variable context which is available
+   * @return the result of the simple expression
+   */
+  public Object evaluateSimpleExpression(CompiledSimpleExpression compiledSimpleExpression, VariableContext variableContext) {
+    String simpleExpression = compiledSimpleExpression.getExpression();
+    try {
+      VariableContext resolvedVariableContext = resolveVariables(compiledSimpleExpression.getVariableNames(), variableContext);
+      Object value = compiledSimpleExpression.evaluateCompiled(resolvedVariableContext);
+      if (value instanceof Date) {
+        // date literals are constants of the compiled expression
+        return ((Date) value).clone();
+      }
+      else {
+        return value;
+      }
+    }
+    catch (FeelMissingFunctionException e) {
+      throw LOG.unknownFunction(simpleExpression, e);
+    }
+    catch (FeelMissingVariableException e) {
+      throw LOG.unknownVariable(simpleExpression, e);
+    }
+    catch (FeelConvertException e) {
+      throw LOG.unableToConvertValue(simpleExpression, e);
+    }
+    catch (ELException e) {
+      if (e.getCause() instanceof FeelMethodInvocationException) {
+        throw LOG.unableToInvokeMethod(simpleExpression, (FeelMethodInvocationException) e.getCause());
+      }
+      else {
+        throw LOG.unableToEvaluateExpression(simpleExpression, e);
+      }
+    }
   }
 
   public boolean evaluateSimpleUnaryTests(String simpleUnaryTests, String inputName, VariableContext variableContext) {
+    CompiledSimpleUnaryTests compiledSimpleUnaryTests = compileSimpleUnaryTests(simpleUnaryTests, inputName);
+    return evaluateSimpleUnaryTests(compiledSimpleUnaryTests, variableContext);
+  }
+
+  public CompiledSimpleUnaryTests compileSimpleUnaryTests(String simpleUnaryTests, String inputName) {
+    SimpleUnaryTestsCacheKey cacheKey = new SimpleUnaryTestsCacheKey(simpleUnaryTests, inputName);
+    CompiledSimpleUnaryTests compiledSimpleUnaryTests = expressionCache.get(cacheKey);
+    if (compiledSimpleUnaryTests == null) {
+      compiledSimpleUnaryTests = createCompiledSimpleUnaryTests(simpleUnaryTests, inputName);
+      expressionCache.put(cacheKey, compiledSimpleUnaryTests);
+    }
+    return compiledSimpleUnaryTests;
+  }
+
+  /**
+   * Evaluate a compiled simple unary tests expression
+   *
+   * @param compiledSimpleUnaryTests the compiled simple unary tests expression
+   * @param variableContext the variable context which is available
+   * @return the result of the simple unary tests expression
+   */
+  public boolean evaluateSimpleUnaryTests(CompiledSimpleUnaryTests compiledSimpleUnaryTests, VariableContext variableContext) {
+    String simpleUnaryTests = compiledSimpleUnaryTests.getExpression();
     try {
-      ELContext elContext = createContext(variableContext);
-      ValueExpression valueExpression = transformSimpleUnaryTests(simpleUnaryTests, inputName, elContext);
-      return (Boolean) valueExpression.getValue(elContext);
+      VariableContext resolvedVariableContext = resolveVariables(compiledSimpleUnaryTests.getVariableNames(), variableContext);
+      return compiledSimpleUnaryTests.evaluateCompiled(resolvedVariableContext);
     }
     catch (FeelMissingFunctionException e) {
       throw LOG.unknownFunction(simpleUnaryTests, e);
     }
     catch (FeelMissingVariableException e) {
-      if (inputName.equals(e.getVariable())) {
+      if (compiledSimpleUnaryTests.getInputName().equals(e.getVariable())) {
         throw LOG.unableToEvaluateExpressionAsNotInputIsSet(simpleUnaryTests, e);
       }
       else {
@@ -71,8 +168,77 @@ public class FeelEngineImpl implements FeelEngine {
     }
   }
 
+  /**
+   * Resolves every variable referenced by the compiled expression once,
+   * so it is not resolved again for each occurrence in the expression.
+   */
+  protected VariableContext resolveVariables(List<String> variableNames, VariableContext variableContext) {
+    if (variableNames.isEmpty()) {
+      return variableContext;
+    }
+    else {
+      return ResolvedVariableContext.resolve(variableNames, variableContext);
+    }
+  }
+
   protected ELContext createContext(VariableContext variableContext) {
-    return elContextFactory.createContext(expressionFactory, variableContext);
+    if (elContextFactory instanceof CompilationElContextFactory) {
+      return elContextFactory.createContext(expressionFactory, variableContext);
+    }
+    else {
+      // variables are not bound by the compilation context, so they have to be resolved on evaluation
+      ELContext elContext = elContextFactory.createContext(expressionFactory, variableContext);
+      CompositeELResolver elResolver = new CompositeELResolver();
+      elResolver.add(new FeelVariableContextResolver());
+      elResolver.add(elContext.getELResolver());
+      return new FeelElContext(elResolver, elContext.getFunctionMapper(), elContext.getVariableMapper(), variableContext);
+    }
+  }
+
+  protected ELContext createCompilationContext() {
+    if (elContextFactory instanceof CompilationElContextFactory) {
+      return ((CompilationElContextFactory) elContextFactory).createCompilationContext(expressionFactory);
+    }
+    else {
+      // only use the functions of the context, the variables are resolved on evaluation
+      ELContext elContext = elContextFactory.createContext(expressionFactory, Variables.emptyVariableContext());
+      return new FeelElContext(elContext.getELResolver(), elContext.getFunctionMapper(), new FeelTypedVariableMapper());
+    }
+  }
+
+  protected CompiledSimpleUnaryTests createCompiledSimpleUnaryTests(String simpleUnaryTests, String inputName) {
+    try {
+      // functions are bound during compilation, variables are resolved on evaluation
+      ELContext elContext = createCompilationContext();
+      ValueExpression valueExpression = transformSimpleUnaryTests(simpleUnaryTests, inputName, elContext);
+      List<String> variableNames = getVariableNames(elContext);
+      return new JuelSimpleUnaryTests(this, simpleUnaryTests, inputName, valueExpression, variableNames);
+    }
+    catch (FeelMissingFunctionException e) {
+      throw LOG.unknownFunction(simpleUnaryTests, e);
+    }
+  }
+
+  protected CompiledSimpleExpression createCompiledSimpleExpression(String simpleExpression) {
+    try {
+      ELContext elContext = createCompilationContext();
+      ValueExpression valueExpression = transformSimpleExpression(simpleExpression, elContext);
+      List<String> variableNames = getVariableNames(elContext);
+      return new JuelSimpleExpression(this, simpleExpression, valueExpression, variableNames);
+    }
+    catch (FeelMissingFunctionException e) {
+      throw LOG.unknownFunction(simpleExpression, e);
+    }
+  }
+
+  protected ValueExpression transformSimpleExpression(String simpleExpression, ELContext elContext) {
+    String juelExpression = transform.transformSimpleExpression(simpleExpression);
+    try {
+      return expressionFactory.createValueExpression(elContext, juelExpression, Object.class);
+    }
+    catch (ELException e) {
+      throw LOG.invalidExpression(simpleExpression, e);
+    }
   }
 
   protected ValueExpression transformSimpleUnaryTests(String simpleUnaryTests, String inputName, ELContext elContext) {
@@ -85,4 +251,27 @@ public class FeelEngineImpl implements FeelEngine {
     }
   }
 
+  protected List<String> getVariableNames(ELContext elContext) {
+    if (elContext.getVariableMapper() instanceof FeelTypedVariableMapper) {
+      return ((FeelTypedVariableMapper) elContext.getVariableMapper()).getVariableNames();
+    }
+    else {
+      return Collections.emptyList();
+    }
+  }
+
+  /**
+   * @return the cache of compiled simple unary tests
+   */
+  public Cache<SimpleUnaryTestsCacheKey, CompiledSimpleUnaryTests> getExpressionCache() {
+    return expressionCache;
+  }
+
+  /**
+   * @return the cache of compiled simple expressions
+   */
+  public Cache<String, CompiledSimpleExpression> getSimpleExpressionCache() {
+    return simpleExpressionCache;
+  }
+
 }
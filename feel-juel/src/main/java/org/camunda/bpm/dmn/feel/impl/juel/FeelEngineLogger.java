@@ -186,4 +186,9 @@ public class FeelEngineLogger extends FeelLogger {
     );
   }
 
+  public FeelSyntaxException invalidSimpleExpression(String feelExpression, String token) {
+    String description = "'" + token + "' is not part of a FEEL simple expression";
+    return syntaxException("020", feelExpression, description);
+  }
+
 }
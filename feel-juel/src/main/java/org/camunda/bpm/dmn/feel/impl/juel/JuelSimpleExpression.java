@@ -0,0 +1,54 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel;
+
+import java.util.List;
+import javax.el.ELContext;
+import javax.el.ValueExpression;
+
+import org.camunda.bpm.engine.variable.context.VariableContext;
+
+/**
+ * A simple expression compiled to a JUEL {@link ValueExpression}.
+ */
+public class JuelSimpleExpression extends CompiledSimpleExpression {
+
+  protected final ValueExpression valueExpression;
+
+  public JuelSimpleExpression(FeelEngineImpl feelEngine, String simpleExpression, ValueExpression valueExpression, List<String> variableNames) {
+    super(feelEngine, simpleExpression, variableNames);
+    this.valueExpression = valueExpression;
+  }
+
+  /**
+   * @return the compiled JUEL value expression
+   */
+  public ValueExpression getValueExpression() {
+    return valueExpression;
+  }
+
+  protected Object evaluateCompiled(VariableContext variableContext) {
+    ELContext elContext = feelEngine.createContext(variableContext);
+    return valueExpression.getValue(elContext);
+  }
+
+  public String toString() {
+    return "JuelSimpleExpression{" +
+      "simpleExpression='" + simpleExpression + '\'' +
+      ", valueExpression=" + valueExpression +
+      ", variableNames=" + variableNames +
+      '}';
+  }
+
+}
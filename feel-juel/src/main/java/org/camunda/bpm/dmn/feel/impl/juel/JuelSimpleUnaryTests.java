@@ -0,0 +1,55 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel;
+
+import java.util.List;
+import javax.el.ELContext;
+import javax.el.ValueExpression;
+
+import org.camunda.bpm.engine.variable.context.VariableContext;
+
+/**
+ * A simple unary tests expression compiled to a JUEL {@link ValueExpression}.
+ */
+public class JuelSimpleUnaryTests extends CompiledSimpleUnaryTests {
+
+  protected final ValueExpression valueExpression;
+
+  public JuelSimpleUnaryTests(FeelEngineImpl feelEngine, String simpleUnaryTests, String inputName, ValueExpression valueExpression, List<String> variableNames) {
+    super(feelEngine, simpleUnaryTests, inputName, variableNames);
+    this.valueExpression = valueExpression;
+  }
+
+  /**
+   * @return the compiled JUEL value expression
+   */
+  public ValueExpression getValueExpression() {
+    return valueExpression;
+  }
+
+  protected boolean evaluateCompiled(VariableContext variableContext) {
+    ELContext elContext = feelEngine.createContext(variableContext);
+    return (Boolean) valueExpression.getValue(elContext);
+  }
+
+  public String toString() {
+    return "JuelSimpleUnaryTests{" +
+      "simpleUnaryTests='" + simpleUnaryTests + '\'' +
+      ", inputName='" + inputName + '\'' +
+      ", valueExpression=" + valueExpression +
+      ", variableNames=" + variableNames +
+      '}';
+  }
+
+}
@@ -0,0 +1,64 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel;
+
+import javax.el.ExpressionFactory;
+
+import org.camunda.bpm.dmn.feel.impl.FeelEngine;
+import org.camunda.bpm.dmn.feel.impl.juel.cache.Cache;
+import org.camunda.bpm.dmn.feel.impl.juel.cache.EvictionPolicy;
+import org.camunda.bpm.dmn.feel.impl.juel.el.ElContextFactory;
+import org.camunda.bpm.dmn.feel.impl.juel.predicate.FeelPredicateParser;
+import org.camunda.bpm.dmn.feel.impl.juel.transform.FeelToJuelTransform;
+
+/**
+ * Creates a {@link NativeFeelEngineImpl} which evaluates simple unary tests
+ * and simple expressions without JUEL if possible.
+ */
+public class NativeFeelEngineFactoryImpl extends FeelEngineFactoryImpl {
+
+  public NativeFeelEngineFactoryImpl() {
+    super();
+  }
+
+  /**
+   * @param expressionCacheSize the maximal number of compiled expressions to cache, 0 disables the cache
+   */
+  public NativeFeelEngineFactoryImpl(int expressionCacheSize) {
+    super(expressionCacheSize);
+  }
+
+  /**
+   * @param expressionCacheSize the maximal number of compiled expressions to cache, 0 disables the cache
+   * @param expressionCacheEvictionPolicy the policy to evict compiled expressions if the cache is full
+   */
+  public NativeFeelEngineFactoryImpl(int expressionCacheSize, EvictionPolicy expressionCacheEvictionPolicy) {
+    super(expressionCacheSize, expressionCacheEvictionPolicy);
+  }
+
+  protected FeelEngine createFeelEngine() {
+    FeelToJuelTransform transform = createFeelToJuelTransform();
+    ExpressionFactory expressionFactory = createExpressionFactory();
+    ElContextFactory elContextFactory = createElContextFactory();
+    Cache<SimpleUnaryTestsCacheKey, CompiledSimpleUnaryTests> expressionCache = createExpressionCache();
+    Cache<String, CompiledSimpleExpression> simpleExpressionCache = createSimpleExpressionCache();
+    FeelPredicateParser predicateParser = createPredicateParser();
+    return new NativeFeelEngineImpl(transform, expressionFactory, elContextFactory, expressionCache, simpleExpressionCache, predicateParser);
+  }
+
+  protected FeelPredicateParser createPredicateParser() {
+    return new FeelPredicateParser(createTypeConverter());
+  }
+
+}
@@ -0,0 +1,69 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.el.ExpressionFactory;
+
+import org.camunda.bpm.dmn.feel.impl.juel.cache.Cache;
+import org.camunda.bpm.dmn.feel.impl.juel.el.ElContextFactory;
+import org.camunda.bpm.dmn.feel.impl.juel.predicate.EndpointSimpleExpression;
+import org.camunda.bpm.dmn.feel.impl.juel.predicate.FeelEndpoint;
+import org.camunda.bpm.dmn.feel.impl.juel.predicate.FeelPredicate;
+import org.camunda.bpm.dmn.feel.impl.juel.predicate.FeelPredicateParser;
+import org.camunda.bpm.dmn.feel.impl.juel.predicate.PredicateSimpleUnaryTests;
+import org.camunda.bpm.dmn.feel.impl.juel.transform.FeelToJuelTransform;
+
+/**
+ * A FEEL engine which evaluates simple unary tests with literal and variable
+ * endpoints and simple expressions which consist of a single literal or
+ * variable directly without JUEL. All other expressions are compiled to JUEL
+ * expressions like in the {@link FeelEngineImpl}.
+ */
+public class NativeFeelEngineImpl extends FeelEngineImpl {
+
+  protected FeelPredicateParser predicateParser;
+
+  public NativeFeelEngineImpl(FeelToJuelTransform transform, ExpressionFactory expressionFactory, ElContextFactory elContextFactory, Cache<SimpleUnaryTestsCacheKey, CompiledSimpleUnaryTests> expressionCache, Cache<String, CompiledSimpleExpression> simpleExpressionCache, FeelPredicateParser predicateParser) {
+    super(transform, expressionFactory, elContextFactory, expressionCache, simpleExpressionCache);
+    this.predicateParser = predicateParser;
+  }
+
+  protected CompiledSimpleUnaryTests createCompiledSimpleUnaryTests(String simpleUnaryTests, String inputName) {
+    List<String> variableNames = new ArrayList<String>();
+    FeelPredicate predicate = predicateParser.parseSimpleUnaryTests(simpleUnaryTests, inputName, variableNames);
+    if (predicate != null) {
+      return new PredicateSimpleUnaryTests(this, simpleUnaryTests, inputName, predicate, variableNames);
+    }
+    else {
+      return super.createCompiledSimpleUnaryTests(simpleUnaryTests, inputName);
+    }
+  }
+
+  protected CompiledSimpleExpression createCompiledSimpleExpression(String simpleExpression) {
+    // reject JUEL syntax like single quoted strings also for single literals and variables
+    transform.transformSimpleExpression(simpleExpression);
+
+    List<String> variableNames = new ArrayList<String>();
+    FeelEndpoint endpoint = predicateParser.parseSimpleExpression(simpleExpression, variableNames);
+    if (endpoint != null) {
+      return new EndpointSimpleExpression(this, simpleExpression, endpoint, variableNames);
+    }
+    else {
+      return super.createCompiledSimpleExpression(simpleExpression);
+    }
+  }
+
+}
@@ -0,0 +1,91 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.camunda.bpm.engine.variable.context.VariableContext;
+import org.camunda.bpm.engine.variable.value.TypedValue;
+
+/**
+ * Variable context which contains the already resolved values of the
+ * variables referenced by a compiled expression. It is created once per
+ * evaluation so every variable is resolved at most once from the
+ * original variable context.
+ */
+public class ResolvedVariableContext implements VariableContext {
+
+  public static final FeelEngineLogger LOG = FeelLogger.ENGINE_LOGGER;
+
+  protected final List<String> variableNames;
+  protected final TypedValue[] values;
+
+  protected ResolvedVariableContext(List<String> variableNames, TypedValue[] values) {
+    this.variableNames = variableNames;
+    this.values = values;
+  }
+
+  /**
+   * Resolve all variables from the variable context.
+   *
+   * @param variableNames the names of the variables to resolve
+   * @param variableContext the variable context which contains the variables
+   * @return the variable context of the resolved variables
+   * @throws FeelMissingVariableException if a variable is not contained in the variable context
+   */
+  public static ResolvedVariableContext resolve(List<String> variableNames, VariableContext variableContext) {
+    TypedValue[] values = new TypedValue[variableNames.size()];
+    for (int i = 0; i < values.length; i++) {
+      String variableName = variableNames.get(i);
+      if (variableContext.containsVariable(variableName)) {
+        values[i] = variableContext.resolve(variableName);
+      }
+      else {
+        throw LOG.unknownVariable(variableName);
+      }
+    }
+    return new ResolvedVariableContext(variableNames, values);
+  }
+
+  public TypedValue resolve(String variableName) {
+    int index = indexOf(variableName);
+    if (index >= 0) {
+      return values[index];
+    }
+    else {
+      return null;
+    }
+  }
+
+  public boolean containsVariable(String variableName) {
+    return indexOf(variableName) >= 0;
+  }
+
+  public Set<String> keySet() {
+    return new LinkedHashSet<String>(variableNames);
+  }
+
+  protected int indexOf(String variableName) {
+    // the names are usually the same instances as used by the compiled expression
+    for (int i = 0; i < values.length; i++) {
+      if (variableNames.get(i) == variableName) {
+        return i;
+      }
+    }
+    return variableNames.indexOf(variableName);
+  }
+
+}
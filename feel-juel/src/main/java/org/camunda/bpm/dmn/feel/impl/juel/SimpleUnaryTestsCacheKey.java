@@ -0,0 +1,64 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel;
+
+/**
+ * Key of a compiled simple unary tests expression. As the input name
+ * is part of the transformed expression, it has to be part of the key.
+ */
+public class SimpleUnaryTestsCacheKey {
+
+  protected final String simpleUnaryTests;
+  protected final String inputName;
+  protected final int hashCode;
+
+  public SimpleUnaryTestsCacheKey(String simpleUnaryTests, String inputName) {
+    this.simpleUnaryTests = simpleUnaryTests;
+    this.inputName = inputName;
+    this.hashCode = 31 * simpleUnaryTests.hashCode() + (inputName != null ? inputName.hashCode() : 0);
+  }
+
+  public String getSimpleUnaryTests() {
+    return simpleUnaryTests;
+  }
+
+  public String getInputName() {
+    return inputName;
+  }
+
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    SimpleUnaryTestsCacheKey that = (SimpleUnaryTestsCacheKey) o;
+    return simpleUnaryTests.equals(that.simpleUnaryTests)
+      && (inputName != null ? inputName.equals(that.inputName) : that.inputName == null);
+  }
+
+  public int hashCode() {
+    return hashCode;
+  }
+
+  public String toString() {
+    return "SimpleUnaryTestsCacheKey{" +
+      "simpleUnaryTests='" + simpleUnaryTests + '\'' +
+      ", inputName='" + inputName + '\'' +
+      '}';
+  }
+
+}
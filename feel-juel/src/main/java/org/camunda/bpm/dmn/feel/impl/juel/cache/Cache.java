@@ -0,0 +1,66 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel.cache;
+
+/**
+ * A bounded cache which can be accessed concurrently.
+ *
+ * @param <K> the type of the cache keys
+ * @param <V> the type of the cached values
+ */
+public interface Cache<K, V> {
+
+  /**
+   * Get a cached value.
+   *
+   * @param key the key of the value
+   * @return the cached value or null if the key is not cached
+   */
+  V get(K key);
+
+  /**
+   * Put a value into the cache. If the cache exceeds its capacity
+   * an entry is evicted.
+   *
+   * @param key the key of the value
+   * @param value the value to cache
+   */
+  void put(K key, V value);
+
+  /**
+   * Remove all entries from the cache.
+   */
+  void clear();
+
+  /**
+   * @return the number of cached entries
+   */
+  int size();
+
+  /**
+   * @return the maximal number of cached entries
+   */
+  int getCapacity();
+
+  /**
+   * @return the number of {@link #get(Object)} calls which returned a cached value
+   */
+  long getHitCount();
+
+  /**
+   * @return the number of {@link #get(Object)} calls which returned no cached value
+   */
+  long getMissCount();
+
+}
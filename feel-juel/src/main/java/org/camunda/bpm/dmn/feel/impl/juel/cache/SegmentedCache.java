@@ -0,0 +1,150 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded {@link Cache} which is split into independently locked
+ * segments to reduce contention between concurrent readers. Every
+ * segment evicts its entries according to the configured
+ * {@link EvictionPolicy}.
+ *
+ * @param <K> the type of the cache keys
+ * @param <V> the type of the cached values
+ */
+public class SegmentedCache<K, V> implements Cache<K, V> {
+
+  public static final int DEFAULT_SEGMENT_COUNT = 16;
+
+  protected final int capacity;
+  protected final Segment<K, V>[] segments;
+
+  protected final AtomicLong hitCount = new AtomicLong();
+  protected final AtomicLong missCount = new AtomicLong();
+
+  public SegmentedCache(int capacity, EvictionPolicy evictionPolicy) {
+    this(capacity, evictionPolicy, DEFAULT_SEGMENT_COUNT);
+  }
+
+  @SuppressWarnings("unchecked")
+  public SegmentedCache(int capacity, EvictionPolicy evictionPolicy, int segmentCount) {
+    this.capacity = Math.max(capacity, 0);
+
+    int count = Math.max(1, Math.min(segmentCount, this.capacity));
+    boolean accessOrder = EvictionPolicy.LRU.equals(evictionPolicy);
+
+    segments = new Segment[count];
+    for (int i = 0; i < count; i++) {
+      // distribute the capacity so that the segments sum up to the total capacity
+      int segmentCapacity = this.capacity / count + (i < this.capacity % count ? 1 : 0);
+      segments[i] = new Segment<K, V>(segmentCapacity, accessOrder);
+    }
+  }
+
+  public V get(K key) {
+    V value = segmentFor(key).get(key);
+    if (value != null) {
+      hitCount.incrementAndGet();
+    }
+    else {
+      missCount.incrementAndGet();
+    }
+    return value;
+  }
+
+  public void put(K key, V value) {
+    if (capacity > 0) {
+      segmentFor(key).put(key, value);
+    }
+  }
+
+  public void clear() {
+    for (Segment<K, V> segment : segments) {
+      segment.clear();
+    }
+  }
+
+  public int size() {
+    int size = 0;
+    for (Segment<K, V> segment : segments) {
+      size += segment.size();
+    }
+    return size;
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  protected Segment<K, V> segmentFor(K key) {
+    int hash = key.hashCode();
+    // spread the higher bits as the segment count is usually small
+    hash ^= (hash >>> 16);
+    return segments[(hash & Integer.MAX_VALUE) % segments.length];
+  }
+
+  public String toString() {
+    return "SegmentedCache{" +
+      "capacity=" + capacity +
+      ", size=" + size() +
+      ", hitCount=" + hitCount +
+      ", missCount=" + missCount +
+      '}';
+  }
+
+  protected static class Segment<K, V> extends LinkedHashMap<K, V> {
+
+    private static final long serialVersionUID = 1L;
+
+    protected final int capacity;
+
+    public Segment(int capacity, boolean accessOrder) {
+      super(16, 0.75f, accessOrder);
+      this.capacity = capacity;
+    }
+
+    public synchronized V get(Object key) {
+      return super.get(key);
+    }
+
+    public synchronized V put(K key, V value) {
+      return super.put(key, value);
+    }
+
+    public synchronized void clear() {
+      super.clear();
+    }
+
+    public synchronized int size() {
+      return super.size();
+    }
+
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+      return size() > capacity;
+    }
+
+  }
+
+}
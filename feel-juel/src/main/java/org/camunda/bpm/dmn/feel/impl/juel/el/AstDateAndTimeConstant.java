@@ -0,0 +1,45 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel.el;
+
+import java.util.Date;
+import javax.el.ELContext;
+
+import de.odysseus.el.tree.Bindings;
+import de.odysseus.el.tree.impl.ast.AstFunction;
+import de.odysseus.el.tree.impl.ast.AstParameters;
+
+/**
+ * A date and time function call with a literal argument which was already
+ * evaluated during the parsing. The function is still bound like every
+ * other function but never invoked.
+ */
+public class AstDateAndTimeConstant extends AstFunction {
+
+  protected final Date date;
+
+  public AstDateAndTimeConstant(String name, int index, AstParameters params, Date date) {
+    super(name, index, params);
+    this.date = date;
+  }
+
+  public Object eval(Bindings bindings, ELContext context) {
+    return date;
+  }
+
+  public Date getDate() {
+    return date;
+  }
+
+}
@@ -0,0 +1,54 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel.el;
+
+import javax.el.ELContext;
+
+import de.odysseus.el.tree.Bindings;
+import de.odysseus.el.tree.impl.ast.AstBinary;
+import de.odysseus.el.tree.impl.ast.AstIdentifier;
+import de.odysseus.el.tree.impl.ast.AstNode;
+
+/**
+ * A disjunction of equality comparisons of an identifier with literals,
+ * i.e. <code>(x == "A") || (x == "B") || ...</code>, which is evaluated by a
+ * single lookup in a {@link LiteralValueSet} instead of a comparison for
+ * every literal. The operands of the disjunction are kept, so the structure
+ * of the expression does not change.
+ */
+public class AstLiteralSetTest extends AstBinary {
+
+  protected final AstIdentifier identifier;
+  protected final LiteralValueSet valueSet;
+
+  public AstLiteralSetTest(AstNode left, AstNode right, AstIdentifier identifier, LiteralValueSet valueSet) {
+    super(left, right, AstBinary.OR);
+    this.identifier = identifier;
+    this.valueSet = valueSet;
+  }
+
+  public Object eval(Bindings bindings, ELContext context) {
+    Object input = identifier.eval(bindings, context);
+    return valueSet.contains(bindings, input);
+  }
+
+  public AstIdentifier getIdentifier() {
+    return identifier;
+  }
+
+  public LiteralValueSet getValueSet() {
+    return valueSet;
+  }
+
+}
@@ -0,0 +1,37 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel.el;
+
+import javax.el.ELContext;
+import javax.el.ExpressionFactory;
+
+import org.camunda.bpm.engine.variable.context.VariableContext;
+
+/**
+ * An {@link ElContextFactory} which creates separate contexts to compile
+ * expressions once and to evaluate the compiled expressions.
+ */
+public interface CompilationElContextFactory extends ElContextFactory {
+
+  /**
+   * Create a {@link ELContext} to compile expressions with the given {@link ExpressionFactory}.
+   * The compiled expressions must not depend on a {@link VariableContext} so they can be
+   * evaluated with every {@link ELContext} created by {@link #createContext(ExpressionFactory, VariableContext)}.
+   *
+   * @param expressionFactory the {@link ExpressionFactory} to use
+   * @return the {@link ELContext} instance
+   */
+  ELContext createCompilationContext(ExpressionFactory expressionFactory);
+
+}
@@ -0,0 +1,153 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel.el;
+
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+
+import org.camunda.bpm.dmn.feel.impl.juel.cache.Cache;
+import org.camunda.bpm.dmn.feel.impl.juel.cache.EvictionPolicy;
+import org.camunda.bpm.dmn.feel.impl.juel.cache.SegmentedCache;
+
+/**
+ * Thread-safe parser for dates with the format {@value #DATE_AND_TIME_PATTERN}.
+ *
+ * <p>
+ *   Strings which match the format exactly are parsed directly into a
+ *   calendar of the current thread. All other strings are parsed by a
+ *   lenient {@link SimpleDateFormat} of the current thread, so the parser
+ *   accepts the same strings as a shared {@link SimpleDateFormat}. As this
+ *   is considerably slower, the epoch millis of recently parsed strings
+ *   are cached.
+ * </p>
+ */
+public class DateAndTimeParser {
+
+  public static final String DATE_AND_TIME_PATTERN = "yyyy-MM-dd'T'HH:mm:ss";
+  public static final int DEFAULT_CACHE_SIZE = 256;
+
+  protected static final int DATE_AND_TIME_LENGTH = 19;
+
+  protected final Cache<String, Long> cache;
+
+  protected final ThreadLocal<Calendar> calendar = new ThreadLocal<Calendar>() {
+    protected Calendar initialValue() {
+      return new GregorianCalendar();
+    }
+  };
+
+  protected final ThreadLocal<DateFormat> dateFormat = new ThreadLocal<DateFormat>() {
+    protected DateFormat initialValue() {
+      return new SimpleDateFormat(DATE_AND_TIME_PATTERN);
+    }
+  };
+
+  public DateAndTimeParser() {
+    this(DEFAULT_CACHE_SIZE);
+  }
+
+  /**
+   * @param cacheSize the maximal number of parsed strings without the exact format to cache, 0 disables the cache
+   */
+  public DateAndTimeParser(int cacheSize) {
+    cache = new SegmentedCache<String, Long>(cacheSize, EvictionPolicy.LRU);
+  }
+
+  /**
+   * Parse a date and time string.
+   *
+   * @param dateAndTime the string to parse
+   * @return the parsed date, a new instance for every call
+   * @throws ParseException if the string cannot be parsed
+   */
+  public Date parse(String dateAndTime) throws ParseException {
+    if (hasDefaultFormat(dateAndTime)) {
+      return new Date(parseDefaultFormat(dateAndTime));
+    }
+    else {
+      Long epochMillis = cache.get(dateAndTime);
+      if (epochMillis == null) {
+        epochMillis = dateFormat.get().parse(dateAndTime).getTime();
+        cache.put(dateAndTime, epochMillis);
+      }
+      return new Date(epochMillis);
+    }
+  }
+
+  protected long parseDefaultFormat(String dateAndTime) {
+    Calendar calendar = this.calendar.get();
+    calendar.clear();
+    calendar.set(
+      parseNumber(dateAndTime, 0, 4),
+      parseNumber(dateAndTime, 5, 7) - 1,
+      parseNumber(dateAndTime, 8, 10),
+      parseNumber(dateAndTime, 11, 13),
+      parseNumber(dateAndTime, 14, 16),
+      parseNumber(dateAndTime, 17, 19));
+    return calendar.getTimeInMillis();
+  }
+
+  protected boolean hasDefaultFormat(String dateAndTime) {
+    if (dateAndTime.length() != DATE_AND_TIME_LENGTH) {
+      return false;
+    }
+    for (int i = 0; i < DATE_AND_TIME_LENGTH; i++) {
+      char c = dateAndTime.charAt(i);
+      switch (i) {
+        case 4:
+        case 7:
+          if (c != '-') {
+            return false;
+          }
+          break;
+        case 10:
+          if (c != 'T') {
+            return false;
+          }
+          break;
+        case 13:
+        case 16:
+          if (c != ':') {
+            return false;
+          }
+          break;
+        default:
+          if (c < '0' || c > '9') {
+            return false;
+          }
+      }
+    }
+    return true;
+  }
+
+  protected int parseNumber(String string, int beginIndex, int endIndex) {
+    int number = 0;
+    for (int i = beginIndex; i < endIndex; i++) {
+      number = number * 10 + (string.charAt(i) - '0');
+    }
+    return number;
+  }
+
+  /**
+   * @return the cache of parsed strings without the exact format
+   */
+  public Cache<String, Long> getCache() {
+    return cache;
+  }
+
+}
@@ -0,0 +1,136 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel.el;
+
+import de.odysseus.el.misc.BooleanOperations;
+import de.odysseus.el.misc.TypeConverter;
+
+/**
+ * Comparison operations with a fast path for operands of the types
+ * {@link Byte}, {@link Short}, {@link Integer}, {@link Long}, {@link Float}
+ * and {@link Double}. They are compared as primitive long or double values
+ * without any conversion objects. All other operands, including
+ * {@link java.math.BigDecimal} and {@link java.math.BigInteger}, are
+ * compared by the JUEL {@link BooleanOperations} with the same results.
+ */
+public class FeelBooleanOperations {
+
+  protected static final int OTHER = 0;
+  protected static final int INTEGER = 1;
+  protected static final int FLOAT = 2;
+
+  public static boolean eq(TypeConverter converter, Object o1, Object o2) {
+    int type = numberType(o1, o2);
+    if (type == INTEGER) {
+      return ((Number) o1).longValue() == ((Number) o2).longValue();
+    }
+    else if (type == FLOAT) {
+      // same semantics as Double.equals
+      return Double.doubleToLongBits(((Number) o1).doubleValue()) == Double.doubleToLongBits(((Number) o2).doubleValue());
+    }
+    else {
+      return BooleanOperations.eq(converter, o1, o2);
+    }
+  }
+
+  public static boolean ne(TypeConverter converter, Object o1, Object o2) {
+    return !eq(converter, o1, o2);
+  }
+
+  public static boolean lt(TypeConverter converter, Object o1, Object o2) {
+    int type = numberType(o1, o2);
+    if (type == INTEGER) {
+      return ((Number) o1).longValue() < ((Number) o2).longValue();
+    }
+    else if (type == FLOAT) {
+      return ((Number) o1).doubleValue() < ((Number) o2).doubleValue();
+    }
+    else {
+      return BooleanOperations.lt(converter, o1, o2);
+    }
+  }
+
+  public static boolean le(TypeConverter converter, Object o1, Object o2) {
+    int type = numberType(o1, o2);
+    if (type == INTEGER) {
+      return ((Number) o1).longValue() <= ((Number) o2).longValue();
+    }
+    else if (type == FLOAT) {
+      // JUEL defines less or equal as not greater than
+      return !(((Number) o1).doubleValue() > ((Number) o2).doubleValue());
+    }
+    else {
+      return BooleanOperations.le(converter, o1, o2);
+    }
+  }
+
+  public static boolean gt(TypeConverter converter, Object o1, Object o2) {
+    int type = numberType(o1, o2);
+    if (type == INTEGER) {
+      return ((Number) o1).longValue() > ((Number) o2).longValue();
+    }
+    else if (type == FLOAT) {
+      return ((Number) o1).doubleValue() > ((Number) o2).doubleValue();
+    }
+    else {
+      return BooleanOperations.gt(converter, o1, o2);
+    }
+  }
+
+  public static boolean ge(TypeConverter converter, Object o1, Object o2) {
+    int type = numberType(o1, o2);
+    if (type == INTEGER) {
+      return ((Number) o1).longValue() >= ((Number) o2).longValue();
+    }
+    else if (type == FLOAT) {
+      // JUEL defines greater or equal as not less than
+      return !(((Number) o1).doubleValue() < ((Number) o2).doubleValue());
+    }
+    else {
+      return BooleanOperations.ge(converter, o1, o2);
+    }
+  }
+
+  /**
+   * @return {@link #INTEGER} if both operands are integer numbers, {@link #FLOAT} if both
+   *         are numbers and at least one is a floating point number, otherwise {@link #OTHER}
+   */
+  protected static int numberType(Object o1, Object o2) {
+    if (o1 == null || o2 == null) {
+      return OTHER;
+    }
+    int type1 = numberType(o1.getClass());
+    if (type1 == OTHER) {
+      return OTHER;
+    }
+    int type2 = numberType(o2.getClass());
+    if (type2 == OTHER) {
+      return OTHER;
+    }
+    return Math.max(type1, type2);
+  }
+
+  protected static int numberType(Class<?> type) {
+    if (type == Long.class || type == Integer.class || type == Short.class || type == Byte.class) {
+      return INTEGER;
+    }
+    else if (type == Double.class || type == Float.class) {
+      return FLOAT;
+    }
+    else {
+      return OTHER;
+    }
+  }
+
+}
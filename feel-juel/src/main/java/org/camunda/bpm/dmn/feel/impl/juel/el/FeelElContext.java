@@ -18,16 +18,46 @@ import javax.el.ELResolver;
 import javax.el.FunctionMapper;
 import javax.el.VariableMapper;
 
+import org.camunda.bpm.engine.variable.context.VariableContext;
+
+/**
+ * The {@link VariableContext} is held in a field and returned by
+ * {@link #getContext(Class)} without a map lookup.
+ */
 public class FeelElContext extends ELContext {
 
   protected ELResolver elResolver;
   protected FunctionMapper functionMapper;
   protected VariableMapper variableMapper;
+  protected VariableContext variableContext;
 
   public FeelElContext(ELResolver elResolver, FunctionMapper functionMapper, VariableMapper variableMapper) {
+    this(elResolver, functionMapper, variableMapper, null);
+  }
+
+  public FeelElContext(ELResolver elResolver, FunctionMapper functionMapper, VariableMapper variableMapper, VariableContext variableContext) {
     this.elResolver = elResolver;
     this.functionMapper = functionMapper;
     this.variableMapper = variableMapper;
+    this.variableContext = variableContext;
+  }
+
+  public Object getContext(Class<?> key) {
+    if (key == VariableContext.class) {
+      return variableContext;
+    }
+    else {
+      return super.getContext(key);
+    }
+  }
+
+  public void putContext(Class<?> key, Object contextObject) {
+    if (key == VariableContext.class) {
+      variableContext = (VariableContext) contextObject;
+    }
+    else {
+      super.putContext(key, contextObject);
+    }
   }
 
   public ELResolver getELResolver() {
@@ -38,8 +68,15 @@ public class FeelElContext extends ELContext {
     return functionMapper;
   }
 
+  /**
+   * @return the variable mapper or null if the context is only used to evaluate already compiled expressions
+   */
   public VariableMapper getVariableMapper() {
     return variableMapper;
   }
 
+  public VariableContext getVariableContext() {
+    return variableContext;
+  }
+
 }
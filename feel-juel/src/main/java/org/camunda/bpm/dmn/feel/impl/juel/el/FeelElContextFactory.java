@@ -13,6 +13,7 @@
 
 package org.camunda.bpm.dmn.feel.impl.juel.el;
 
+import javax.el.CompositeELResolver;
 import javax.el.ELContext;
 import javax.el.ELResolver;
 import javax.el.ExpressionFactory;
@@ -23,17 +24,36 @@ import org.camunda.bpm.engine.variable.context.VariableContext;
 
 import de.odysseus.el.util.SimpleResolver;
 
-public class FeelElContextFactory implements ElContextFactory {
+/**
+ * Creates {@link FeelElContext}s. The resolver and the function mapper are
+ * stateless and therefore shared by all contexts. Contexts to evaluate
+ * expressions only hold the variable context. Only contexts to compile
+ * expressions get a new variable mapper which records the bound variables.
+ */
+public class FeelElContextFactory implements CompilationElContextFactory {
+
+  protected final ELResolver elResolver;
+  protected final FunctionMapper functionMapper;
+
+  public FeelElContextFactory() {
+    elResolver = createElResolver();
+    functionMapper = createFunctionMapper();
+  }
 
   public ELContext createContext(ExpressionFactory expressionFactory, VariableContext variableContext) {
-    ELResolver elResolver = createElResolver();
-    FunctionMapper functionMapper = createFunctionMapper();
-    VariableMapper variableMapper = createVariableMapper(expressionFactory, variableContext);
-    return new FeelElContext(elResolver, functionMapper, variableMapper);
+    return new FeelElContext(elResolver, functionMapper, null, variableContext);
+  }
+
+  public ELContext createCompilationContext(ExpressionFactory expressionFactory) {
+    VariableMapper variableMapper = createVariableMapper();
+    return new FeelElContext(elResolver, functionMapper, variableMapper, null);
   }
 
   public ELResolver createElResolver() {
-    return new SimpleResolver(true);
+    CompositeELResolver elResolver = new CompositeELResolver();
+    elResolver.add(new FeelVariableContextResolver());
+    elResolver.add(new SimpleResolver(true));
+    return elResolver;
   }
 
   public FunctionMapper createFunctionMapper() {
@@ -42,8 +62,8 @@ public class FeelElContextFactory implements ElContextFactory {
     return functionMapper;
   }
 
-  public VariableMapper createVariableMapper(ExpressionFactory expressionFactory, VariableContext variableContext) {
-    return new FeelTypedVariableMapper(expressionFactory, variableContext);
+  public VariableMapper createVariableMapper() {
+    return new FeelTypedVariableMapper();
   }
 
 }
@@ -15,7 +15,6 @@ package org.camunda.bpm.dmn.feel.impl.juel.el;
 
 import java.lang.reflect.Method;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -28,7 +27,7 @@ public class FeelFunctionMapper extends FunctionMapper {
 
   public static final FeelEngineLogger LOG = FeelLogger.ENGINE_LOGGER;
 
-  public static final SimpleDateFormat FEEL_DATE_AND_TIME_FORMAT = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss");
+  public static final DateAndTimeParser FEEL_DATE_AND_TIME_PARSER = new DateAndTimeParser();
   public static final String JUEL_DATE_AND_TIME_METHOD = "dateAndTime";
 
   protected static final Map<String, Method> methods = new HashMap<String, Method>();
@@ -51,7 +50,7 @@ public class FeelFunctionMapper extends FunctionMapper {
 
   public static Date parseDateAndTime(String dateAndTimeString) {
     try {
-      return FEEL_DATE_AND_TIME_FORMAT.parse(dateAndTimeString);
+      return FEEL_DATE_AND_TIME_PARSER.parse(dateAndTimeString);
     } catch (ParseException e) {
       throw LOG.invalidDateAndTimeFormat(dateAndTimeString, e);
     }
@@ -0,0 +1,199 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel.el;
+
+import static org.camunda.bpm.dmn.feel.impl.juel.el.FeelFunctionMapper.JUEL_DATE_AND_TIME_METHOD;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.camunda.bpm.dmn.feel.impl.juel.FeelMethodInvocationException;
+
+import de.odysseus.el.tree.impl.Builder;
+import de.odysseus.el.tree.impl.Parser;
+import de.odysseus.el.misc.TypeConverter;
+import de.odysseus.el.tree.impl.ast.AstBinary;
+import de.odysseus.el.tree.impl.ast.AstFunction;
+import de.odysseus.el.tree.impl.ast.AstIdentifier;
+import de.odysseus.el.tree.impl.ast.AstLiteral;
+import de.odysseus.el.tree.impl.ast.AstNested;
+import de.odysseus.el.tree.impl.ast.AstNode;
+import de.odysseus.el.tree.impl.ast.AstParameters;
+import de.odysseus.el.tree.impl.ast.AstString;
+
+/**
+ * Parser which folds date and time functions with a string literal
+ * argument into constants, so the date is only parsed once on compilation
+ * and not on every evaluation. Invalid dates are not folded and still
+ * reported on evaluation. Comparisons use the {@link FeelBooleanOperations}
+ * which compare simple numbers without conversion objects. Disjunctions of
+ * equality comparisons of the same identifier with literals, as created for
+ * lists of simple positive unary tests, are folded into a
+ * {@link AstLiteralSetTest}.
+ */
+public class FeelParser extends Parser {
+
+  public static final AstBinary.Operator EQ = new FeelComparisonOperator("==") {
+    protected boolean compare(TypeConverter converter, Object o1, Object o2) {
+      return FeelBooleanOperations.eq(converter, o1, o2);
+    }
+  };
+
+  public static final AstBinary.Operator NE = new FeelComparisonOperator("!=") {
+    protected boolean compare(TypeConverter converter, Object o1, Object o2) {
+      return FeelBooleanOperations.ne(converter, o1, o2);
+    }
+  };
+
+  public static final AstBinary.Operator LT = new FeelComparisonOperator("<") {
+    protected boolean compare(TypeConverter converter, Object o1, Object o2) {
+      return FeelBooleanOperations.lt(converter, o1, o2);
+    }
+  };
+
+  public static final AstBinary.Operator LE = new FeelComparisonOperator("<=") {
+    protected boolean compare(TypeConverter converter, Object o1, Object o2) {
+      return FeelBooleanOperations.le(converter, o1, o2);
+    }
+  };
+
+  public static final AstBinary.Operator GT = new FeelComparisonOperator(">") {
+    protected boolean compare(TypeConverter converter, Object o1, Object o2) {
+      return FeelBooleanOperations.gt(converter, o1, o2);
+    }
+  };
+
+  public static final AstBinary.Operator GE = new FeelComparisonOperator(">=") {
+    protected boolean compare(TypeConverter converter, Object o1, Object o2) {
+      return FeelBooleanOperations.ge(converter, o1, o2);
+    }
+  };
+
+  public FeelParser(Builder context, String input) {
+    super(context, input);
+  }
+
+  protected AstFunction createAstFunction(String name, int index, AstParameters params) {
+    if (JUEL_DATE_AND_TIME_METHOD.equals(name) && params.getCardinality() == 1 && params.getChild(0) instanceof AstString) {
+      String dateAndTime = (String) params.getChild(0).eval(null, null);
+      try {
+        Date date = FeelFunctionMapper.parseDateAndTime(dateAndTime);
+        return new AstDateAndTimeConstant(name, index, params, date);
+      }
+      catch (FeelMethodInvocationException e) {
+        // keep the function to report the invalid date on evaluation
+      }
+    }
+    return super.createAstFunction(name, index, params);
+  }
+
+  protected AstBinary createAstBinary(AstNode left, AstNode right, AstBinary.Operator operator) {
+    if (operator == AstBinary.EQ) {
+      operator = EQ;
+    }
+    else if (operator == AstBinary.NE) {
+      operator = NE;
+    }
+    else if (operator == AstBinary.LT) {
+      operator = LT;
+    }
+    else if (operator == AstBinary.LE) {
+      operator = LE;
+    }
+    else if (operator == AstBinary.GT) {
+      operator = GT;
+    }
+    else if (operator == AstBinary.GE) {
+      operator = GE;
+    }
+    else if (operator == AstBinary.OR) {
+      AstLiteralSetTest literalSetTest = createAstLiteralSetTest(left, right);
+      if (literalSetTest != null) {
+        return literalSetTest;
+      }
+    }
+    return super.createAstBinary(left, right, operator);
+  }
+
+  /**
+   * @return the literal set test or null if the operands are not equality
+   * comparisons of the same identifier with literals
+   */
+  protected AstLiteralSetTest createAstLiteralSetTest(AstNode left, AstNode right) {
+    AstIdentifier identifier;
+    List<Object> values = new ArrayList<Object>();
+    if (left instanceof AstLiteralSetTest) {
+      AstLiteralSetTest literalSetTest = (AstLiteralSetTest) left;
+      identifier = literalSetTest.getIdentifier();
+      values.addAll(Arrays.asList(literalSetTest.getValueSet().getValues()));
+    }
+    else {
+      AstBinary comparison = getLiteralComparison(left);
+      if (comparison == null) {
+        return null;
+      }
+      identifier = (AstIdentifier) comparison.getChild(0);
+      values.add(comparison.getChild(1).eval(null, null));
+    }
+
+    AstBinary comparison = getLiteralComparison(right);
+    if (comparison == null || !identifier.getName().equals(((AstIdentifier) comparison.getChild(0)).getName())) {
+      return null;
+    }
+    values.add(comparison.getChild(1).eval(null, null));
+
+    return new AstLiteralSetTest(left, right, identifier, new LiteralValueSet(values));
+  }
+
+  /**
+   * @return the comparison if the node is an equality comparison of an
+   * identifier with a literal, otherwise null
+   */
+  protected AstBinary getLiteralComparison(AstNode node) {
+    if (node instanceof AstNested) {
+      node = ((AstNested) node).getChild(0);
+    }
+    if (node instanceof AstBinary && ((AstBinary) node).getOperator() == EQ) {
+      AstBinary comparison = (AstBinary) node;
+      AstNode literal = comparison.getChild(1);
+      if (comparison.getChild(0) instanceof AstIdentifier && (literal instanceof AstLiteral || literal instanceof AstDateAndTimeConstant)) {
+        return comparison;
+      }
+    }
+    return null;
+  }
+
+  protected abstract static class FeelComparisonOperator extends AstBinary.SimpleOperator {
+
+    protected final String symbol;
+
+    public FeelComparisonOperator(String symbol) {
+      this.symbol = symbol;
+    }
+
+    protected Object apply(TypeConverter converter, Object o1, Object o2) {
+      return compare(converter, o1, o2);
+    }
+
+    protected abstract boolean compare(TypeConverter converter, Object o1, Object o2);
+
+    public String toString() {
+      return symbol;
+    }
+
+  }
+
+}
@@ -0,0 +1,180 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel.el;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
+import de.odysseus.el.misc.TypeConverter;
+
+/**
+ * Arithmetic and comparison operations of FEEL simple expressions. FEEL
+ * numbers are decimals, so numbers are added, subtracted, multiplied and
+ * divided as {@link BigDecimal}s. A {@link BigDecimal} or {@link BigInteger}
+ * is compared with another number by its decimal value, all other operands
+ * are compared by the {@link FeelBooleanOperations}.
+ *
+ * <p>Like in FEEL, the result of an arithmetic operation is null if an
+ * operand is null or not a number, except for the concatenation of two
+ * strings, and the result of a division by zero is null.</p>
+ */
+public class FeelSimpleExpressionOperations {
+
+  public static final MathContext MATH_CONTEXT = MathContext.DECIMAL128;
+
+  public static Object add(Object o1, Object o2) {
+    if (o1 instanceof String && o2 instanceof String) {
+      return ((String) o1).concat((String) o2);
+    }
+    BigDecimal d1 = toDecimal(o1);
+    BigDecimal d2 = toDecimal(o2);
+    if (d1 == null || d2 == null) {
+      return null;
+    }
+    return d1.add(d2, MATH_CONTEXT);
+  }
+
+  public static Object subtract(Object o1, Object o2) {
+    BigDecimal d1 = toDecimal(o1);
+    BigDecimal d2 = toDecimal(o2);
+    if (d1 == null || d2 == null) {
+      return null;
+    }
+    return d1.subtract(d2, MATH_CONTEXT);
+  }
+
+  public static Object multiply(Object o1, Object o2) {
+    BigDecimal d1 = toDecimal(o1);
+    BigDecimal d2 = toDecimal(o2);
+    if (d1 == null || d2 == null) {
+      return null;
+    }
+    return d1.multiply(d2, MATH_CONTEXT);
+  }
+
+  public static Object divide(Object o1, Object o2) {
+    BigDecimal d1 = toDecimal(o1);
+    BigDecimal d2 = toDecimal(o2);
+    if (d1 == null || d2 == null || d2.signum() == 0) {
+      return null;
+    }
+    return d1.divide(d2, MATH_CONTEXT);
+  }
+
+  public static boolean eq(TypeConverter converter, Object o1, Object o2) {
+    Integer comparison = compareDecimals(o1, o2);
+    if (comparison != null) {
+      return comparison == 0;
+    }
+    else {
+      return FeelBooleanOperations.eq(converter, o1, o2);
+    }
+  }
+
+  public static boolean ne(TypeConverter converter, Object o1, Object o2) {
+    return !eq(converter, o1, o2);
+  }
+
+  public static boolean lt(TypeConverter converter, Object o1, Object o2) {
+    Integer comparison = compareDecimals(o1, o2);
+    if (comparison != null) {
+      return comparison < 0;
+    }
+    else {
+      return FeelBooleanOperations.lt(converter, o1, o2);
+    }
+  }
+
+  public static boolean le(TypeConverter converter, Object o1, Object o2) {
+    Integer comparison = compareDecimals(o1, o2);
+    if (comparison != null) {
+      return comparison <= 0;
+    }
+    else {
+      return FeelBooleanOperations.le(converter, o1, o2);
+    }
+  }
+
+  public static boolean gt(TypeConverter converter, Object o1, Object o2) {
+    Integer comparison = compareDecimals(o1, o2);
+    if (comparison != null) {
+      return comparison > 0;
+    }
+    else {
+      return FeelBooleanOperations.gt(converter, o1, o2);
+    }
+  }
+
+  public static boolean ge(TypeConverter converter, Object o1, Object o2) {
+    Integer comparison = compareDecimals(o1, o2);
+    if (comparison != null) {
+      return comparison >= 0;
+    }
+    else {
+      return FeelBooleanOperations.ge(converter, o1, o2);
+    }
+  }
+
+  /**
+   * @return the comparison of the decimal values if one operand is a
+   *         {@link BigDecimal} or {@link BigInteger} and the other one a
+   *         number, otherwise null
+   */
+  protected static Integer compareDecimals(Object o1, Object o2) {
+    if (!isBigNumber(o1) && !isBigNumber(o2)) {
+      return null;
+    }
+    BigDecimal d1 = toDecimal(o1);
+    BigDecimal d2 = toDecimal(o2);
+    if (d1 == null || d2 == null) {
+      return null;
+    }
+    return d1.compareTo(d2);
+  }
+
+  protected static boolean isBigNumber(Object value) {
+    return value instanceof BigDecimal || value instanceof BigInteger;
+  }
+
+  /**
+   * Converts a number to a decimal. Floating point numbers are converted by
+   * their shortest decimal representation, so the literal 0.1 is the
+   * decimal 0.1.
+   *
+   * @return the decimal or null if the value is not a finite number
+   */
+  public static BigDecimal toDecimal(Object value) {
+    if (value instanceof BigDecimal) {
+      return (BigDecimal) value;
+    }
+    else if (value instanceof BigInteger) {
+      return new BigDecimal((BigInteger) value);
+    }
+    else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+      return BigDecimal.valueOf(((Number) value).longValue());
+    }
+    else if (value instanceof Double || value instanceof Float) {
+      double doubleValue = ((Number) value).doubleValue();
+      if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) {
+        return null;
+      }
+      return new BigDecimal(value.toString());
+    }
+    else {
+      return null;
+    }
+  }
+
+}
@@ -0,0 +1,146 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel.el;
+
+import de.odysseus.el.misc.TypeConverter;
+import de.odysseus.el.tree.impl.Builder;
+import de.odysseus.el.tree.impl.ast.AstBinary;
+import de.odysseus.el.tree.impl.ast.AstNode;
+
+/**
+ * Parses FEEL simple expressions which are transformed to JUEL. The
+ * arithmetic and comparison operators are replaced by the FEEL operations
+ * of {@link FeelSimpleExpressionOperations}.
+ */
+public class FeelSimpleExpressionParser extends FeelParser {
+
+  public static final AstBinary.Operator ADD = new FeelArithmeticOperator("+") {
+    protected Object calculate(Object o1, Object o2) {
+      return FeelSimpleExpressionOperations.add(o1, o2);
+    }
+  };
+
+  public static final AstBinary.Operator SUB = new FeelArithmeticOperator("-") {
+    protected Object calculate(Object o1, Object o2) {
+      return FeelSimpleExpressionOperations.subtract(o1, o2);
+    }
+  };
+
+  public static final AstBinary.Operator MUL = new FeelArithmeticOperator("*") {
+    protected Object calculate(Object o1, Object o2) {
+      return FeelSimpleExpressionOperations.multiply(o1, o2);
+    }
+  };
+
+  public static final AstBinary.Operator DIV = new FeelArithmeticOperator("/") {
+    protected Object calculate(Object o1, Object o2) {
+      return FeelSimpleExpressionOperations.divide(o1, o2);
+    }
+  };
+
+  public static final AstBinary.Operator EQ = new FeelComparisonOperator("==") {
+    protected boolean compare(TypeConverter converter, Object o1, Object o2) {
+      return FeelSimpleExpressionOperations.eq(converter, o1, o2);
+    }
+  };
+
+  public static final AstBinary.Operator NE = new FeelComparisonOperator("!=") {
+    protected boolean compare(TypeConverter converter, Object o1, Object o2) {
+      return FeelSimpleExpressionOperations.ne(converter, o1, o2);
+    }
+  };
+
+  public static final AstBinary.Operator LT = new FeelComparisonOperator("<") {
+    protected boolean compare(TypeConverter converter, Object o1, Object o2) {
+      return FeelSimpleExpressionOperations.lt(converter, o1, o2);
+    }
+  };
+
+  public static final AstBinary.Operator LE = new FeelComparisonOperator("<=") {
+    protected boolean compare(TypeConverter converter, Object o1, Object o2) {
+      return FeelSimpleExpressionOperations.le(converter, o1, o2);
+    }
+  };
+
+  public static final AstBinary.Operator GT = new FeelComparisonOperator(">") {
+    protected boolean compare(TypeConverter converter, Object o1, Object o2) {
+      return FeelSimpleExpressionOperations.gt(converter, o1, o2);
+    }
+  };
+
+  public static final AstBinary.Operator GE = new FeelComparisonOperator(">=") {
+    protected boolean compare(TypeConverter converter, Object o1, Object o2) {
+      return FeelSimpleExpressionOperations.ge(converter, o1, o2);
+    }
+  };
+
+  public FeelSimpleExpressionParser(Builder context, String input) {
+    super(context, input);
+  }
+
+  protected AstBinary createAstBinary(AstNode left, AstNode right, AstBinary.Operator operator) {
+    if (operator == AstBinary.ADD) {
+      operator = ADD;
+    }
+    else if (operator == AstBinary.SUB) {
+      operator = SUB;
+    }
+    else if (operator == AstBinary.MUL) {
+      operator = MUL;
+    }
+    else if (operator == AstBinary.DIV) {
+      operator = DIV;
+    }
+    else if (operator == AstBinary.EQ) {
+      operator = EQ;
+    }
+    else if (operator == AstBinary.NE) {
+      operator = NE;
+    }
+    else if (operator == AstBinary.LT) {
+      operator = LT;
+    }
+    else if (operator == AstBinary.LE) {
+      operator = LE;
+    }
+    else if (operator == AstBinary.GT) {
+      operator = GT;
+    }
+    else if (operator == AstBinary.GE) {
+      operator = GE;
+    }
+    return super.createAstBinary(left, right, operator);
+  }
+
+  protected abstract static class FeelArithmeticOperator extends AstBinary.SimpleOperator {
+
+    protected final String symbol;
+
+    public FeelArithmeticOperator(String symbol) {
+      this.symbol = symbol;
+    }
+
+    protected Object apply(TypeConverter converter, Object o1, Object o2) {
+      return calculate(o1, o2);
+    }
+
+    protected abstract Object calculate(Object o1, Object o2);
+
+    public String toString() {
+      return symbol;
+    }
+
+  }
+
+}
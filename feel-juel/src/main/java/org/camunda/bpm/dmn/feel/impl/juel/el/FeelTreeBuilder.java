@@ -0,0 +1,43 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel.el;
+
+import de.odysseus.el.tree.impl.Builder;
+import de.odysseus.el.tree.impl.Parser;
+
+/**
+ * Builds the expression trees with a {@link FeelParser}. Deferred
+ * expressions are FEEL simple expressions and are parsed with a
+ * {@link FeelSimpleExpressionParser}.
+ */
+public class FeelTreeBuilder extends Builder {
+
+  private static final long serialVersionUID = 1L;
+
+  public FeelTreeBuilder(Feature... features) {
+    super(features);
+  }
+
+  public static final String SIMPLE_EXPRESSION_PREFIX = "#{";
+
+  protected Parser createParser(String expression) {
+    if (expression.startsWith(SIMPLE_EXPRESSION_PREFIX)) {
+      return new FeelSimpleExpressionParser(this, expression);
+    }
+    else {
+      return new FeelParser(this, expression);
+    }
+  }
+
+}
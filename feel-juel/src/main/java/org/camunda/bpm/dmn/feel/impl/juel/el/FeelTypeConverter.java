@@ -44,6 +44,10 @@ public class FeelTypeConverter extends TypeConverterImpl {
     else if (value instanceof BigInteger) {
       return new BigDecimal((BigInteger)value);
     }
+    else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+      // exact and without a detour over double
+      return BigDecimal.valueOf(((Number)value).longValue());
+    }
     else if (value instanceof Number) {
       return new BigDecimal(((Number)value).doubleValue());
     }
@@ -13,47 +13,42 @@
 
 package org.camunda.bpm.dmn.feel.impl.juel.el;
 
-import javax.el.ExpressionFactory;
+import java.util.ArrayList;
+import java.util.List;
 import javax.el.ValueExpression;
 import javax.el.VariableMapper;
 
 import org.camunda.bpm.dmn.feel.impl.juel.FeelEngineLogger;
 import org.camunda.bpm.dmn.feel.impl.juel.FeelLogger;
-import org.camunda.bpm.engine.variable.context.VariableContext;
-import org.camunda.bpm.engine.variable.value.TypedValue;
 
+/**
+ * Does not bind variables to expressions so that they are resolved by the
+ * {@link FeelVariableContextResolver} on evaluation. Therefore the created
+ * expressions are independent of the variable context and can be reused.
+ * The names of all variables are recorded.
+ */
 public class FeelTypedVariableMapper extends VariableMapper {
 
   public static final FeelEngineLogger LOG = FeelLogger.ENGINE_LOGGER;
 
-  protected ExpressionFactory expressionFactory;
-  protected VariableContext variableContext;
-
-  public FeelTypedVariableMapper(ExpressionFactory expressionFactory, VariableContext variableContext) {
-    this.expressionFactory = expressionFactory;
-    this.variableContext = variableContext;
-  }
+  protected List<String> variableNames = new ArrayList<String>();
 
   public ValueExpression resolveVariable(String variable) {
-    if (variableContext.containsVariable(variable)) {
-      Object value = unpackVariable(variable);
-      return expressionFactory.createValueExpression(value, Object.class);
-    }
-    else {
-      throw LOG.unknownVariable(variable);
+    if (!variableNames.contains(variable)) {
+      variableNames.add(variable);
     }
+    return null;
   }
 
   public ValueExpression setVariable(String variable, ValueExpression expression) {
     throw LOG.variableMapperIsReadOnly();
   }
 
-  public Object unpackVariable(String variable) {
-    TypedValue valueTyped = variableContext.resolve(variable);
-    if(valueTyped != null) {
-      return valueTyped.getValue();
-    }
-    return null;
+  /**
+   * @return the names of all variables resolved by this mapper in order of their first usage
+   */
+  public List<String> getVariableNames() {
+    return variableNames;
   }
 
 }
@@ -0,0 +1,84 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel.el;
+
+import java.beans.FeatureDescriptor;
+import java.util.Iterator;
+import javax.el.ELContext;
+import javax.el.ELResolver;
+
+import org.camunda.bpm.dmn.feel.impl.juel.FeelEngineLogger;
+import org.camunda.bpm.dmn.feel.impl.juel.FeelLogger;
+import org.camunda.bpm.engine.variable.context.VariableContext;
+import org.camunda.bpm.engine.variable.value.TypedValue;
+
+/**
+ * Resolves top level identifiers as variables of the {@link VariableContext}
+ * of the {@link ELContext}. The typed values are unpacked. All other
+ * properties are left to the following resolvers.
+ */
+public class FeelVariableContextResolver extends ELResolver {
+
+  public static final FeelEngineLogger LOG = FeelLogger.ENGINE_LOGGER;
+
+  public Object getValue(ELContext context, Object base, Object property) {
+    if (base == null) {
+      String variable = (String) property;
+      VariableContext variableContext = (VariableContext) context.getContext(VariableContext.class);
+      if (variableContext != null && variableContext.containsVariable(variable)) {
+        context.setPropertyResolved(true);
+        TypedValue typedValue = variableContext.resolve(variable);
+        return typedValue != null ? typedValue.getValue() : null;
+      }
+      else {
+        throw LOG.unknownVariable(variable);
+      }
+    }
+    return null;
+  }
+
+  public Class<?> getType(ELContext context, Object base, Object property) {
+    if (base == null) {
+      Object value = getValue(context, base, property);
+      return value != null ? value.getClass() : null;
+    }
+    return null;
+  }
+
+  public void setValue(ELContext context, Object base, Object property, Object value) {
+    if (base == null) {
+      throw LOG.variableMapperIsReadOnly();
+    }
+  }
+
+  public boolean isReadOnly(ELContext context, Object base, Object property) {
+    if (base == null) {
+      context.setPropertyResolved(true);
+      return true;
+    }
+    return false;
+  }
+
+  public Iterator<FeatureDescriptor> getFeatureDescriptors(ELContext context, Object base) {
+    return null;
+  }
+
+  public Class<?> getCommonPropertyType(ELContext context, Object base) {
+    if (base == null) {
+      return Object.class;
+    }
+    return null;
+  }
+
+}
@@ -0,0 +1,113 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel.el;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import de.odysseus.el.misc.TypeConverter;
+
+/**
+ * A set of literal values to test if the input is equal to one of them. If
+ * all values are strings or all values are simple numbers, inputs of the
+ * same kind are looked up in hash sets. Numbers are normalized like the
+ * {@link FeelBooleanOperations} compare them, so an {@link Integer} input
+ * matches a {@link Long} value and a {@link Double} input matches an integral
+ * value. Every other input is compared with each value in order, which gives
+ * the same result as a chain of equality comparisons.
+ */
+public class LiteralValueSet {
+
+  protected final Object[] values;
+  protected final boolean stringValues;
+  protected final boolean numberValues;
+
+  protected final Set<String> strings = new HashSet<String>();
+  protected final Set<Long> integers = new HashSet<Long>();
+  protected final Set<Double> floats = new HashSet<Double>();
+  protected final Set<Double> numbers = new HashSet<Double>();
+
+  public LiteralValueSet(List<?> values) {
+    this.values = values.toArray();
+
+    boolean stringValues = true;
+    boolean numberValues = true;
+    for (Object value : values) {
+      if (value instanceof String) {
+        strings.add((String) value);
+        numberValues = false;
+      }
+      else if (isInteger(value)) {
+        long longValue = ((Number) value).longValue();
+        integers.add(longValue);
+        numbers.add((double) longValue);
+        stringValues = false;
+      }
+      else if (isFloat(value)) {
+        double doubleValue = ((Number) value).doubleValue();
+        floats.add(doubleValue);
+        numbers.add(doubleValue);
+        stringValues = false;
+      }
+      else {
+        stringValues = false;
+        numberValues = false;
+      }
+    }
+    this.stringValues = stringValues;
+    this.numberValues = numberValues;
+  }
+
+  public boolean contains(TypeConverter converter, Object input) {
+    if (stringValues && input instanceof String) {
+      return strings.contains(input);
+    }
+    else if (numberValues && isInteger(input)) {
+      long longValue = ((Number) input).longValue();
+      return integers.contains(longValue) || floats.contains((double) longValue);
+    }
+    else if (numberValues && isFloat(input)) {
+      return numbers.contains(((Number) input).doubleValue());
+    }
+    else {
+      for (int i = 0; i < values.length; i++) {
+        if (FeelBooleanOperations.eq(converter, input, values[i])) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  public Object[] getValues() {
+    return values;
+  }
+
+  protected boolean isInteger(Object value) {
+    return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+  }
+
+  protected boolean isFloat(Object value) {
+    return value instanceof Double || value instanceof Float;
+  }
+
+  public String toString() {
+    return "LiteralValueSet{" +
+      "values=" + Arrays.toString(values) +
+      '}';
+  }
+
+}
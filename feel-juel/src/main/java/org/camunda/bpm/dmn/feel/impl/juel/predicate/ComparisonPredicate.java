@@ -0,0 +1,91 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel.predicate;
+
+import javax.el.ELException;
+
+import org.camunda.bpm.dmn.feel.impl.juel.el.FeelBooleanOperations;
+import org.camunda.bpm.engine.variable.context.VariableContext;
+
+import de.odysseus.el.misc.TypeConverter;
+
+/**
+ * Compares the input value with an endpoint. The comparison uses the same
+ * operations and type coercions as the JUEL based evaluation.
+ *
+ * @see FeelBooleanOperations
+ */
+public class ComparisonPredicate implements FeelPredicate {
+
+  public enum Operator {
+    EQ("=="), LT("<"), LE("<="), GT(">"), GE(">=");
+
+    protected final String symbol;
+
+    Operator(String symbol) {
+      this.symbol = symbol;
+    }
+
+    public String getSymbol() {
+      return symbol;
+    }
+
+    public static Operator fromSymbol(String symbol) {
+      for (Operator operator : values()) {
+        if (operator.symbol.equals(symbol)) {
+          return operator;
+        }
+      }
+      return null;
+    }
+  }
+
+  protected final Operator operator;
+  protected final FeelEndpoint endpoint;
+  protected final TypeConverter typeConverter;
+
+  public ComparisonPredicate(Operator operator, FeelEndpoint endpoint, TypeConverter typeConverter) {
+    this.operator = operator;
+    this.endpoint = endpoint;
+    this.typeConverter = typeConverter;
+  }
+
+  public boolean test(Object input, VariableContext variableContext) {
+    Object value = endpoint.getValue(variableContext);
+    switch (operator) {
+      case EQ: return FeelBooleanOperations.eq(typeConverter, input, value);
+      case LT: return FeelBooleanOperations.lt(typeConverter, input, value);
+      case LE: return FeelBooleanOperations.le(typeConverter, input, value);
+      case GT: return FeelBooleanOperations.gt(typeConverter, input, value);
+      case GE: return FeelBooleanOperations.ge(typeConverter, input, value);
+      default: throw new ELException("Unsupported operator " + operator);
+    }
+  }
+
+  public Operator getOperator() {
+    return operator;
+  }
+
+  public FeelEndpoint getEndpoint() {
+    return endpoint;
+  }
+
+  public String toString() {
+    return "ComparisonPredicate{" +
+      "operator=" + operator +
+      ", endpoint=" + endpoint +
+      '}';
+  }
+
+}
@@ -0,0 +1,61 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel.predicate;
+
+import java.util.Date;
+
+import org.camunda.bpm.engine.variable.context.VariableContext;
+
+import de.odysseus.el.misc.TypeConverter;
+
+/**
+ * Compares the input value with a date and time literal. Date inputs are
+ * compared as epoch millis, all other inputs like a {@link ComparisonPredicate}.
+ */
+public class DateComparisonPredicate extends ComparisonPredicate {
+
+  protected final long epochMillis;
+
+  public DateComparisonPredicate(Operator operator, Date date, TypeConverter typeConverter) {
+    super(operator, new LiteralEndpoint(date), typeConverter);
+    this.epochMillis = date.getTime();
+  }
+
+  public boolean test(Object input, VariableContext variableContext) {
+    // subclasses like timestamps use other comparison semantics
+    if (input != null && input.getClass() == Date.class) {
+      long inputMillis = ((Date) input).getTime();
+      switch (operator) {
+        case EQ: return inputMillis == epochMillis;
+        case LT: return inputMillis < epochMillis;
+        case LE: return inputMillis <= epochMillis;
+        case GT: return inputMillis > epochMillis;
+        case GE: return inputMillis >= epochMillis;
+      }
+    }
+    return super.test(input, variableContext);
+  }
+
+  public long getEpochMillis() {
+    return epochMillis;
+  }
+
+  public String toString() {
+    return "DateComparisonPredicate{" +
+      "operator=" + operator +
+      ", epochMillis=" + epochMillis +
+      '}';
+  }
+
+}
@@ -0,0 +1,51 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel.predicate;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.camunda.bpm.engine.variable.context.VariableContext;
+
+/**
+ * Tests if the input satisfies at least one of the predicates of a list.
+ */
+public class DisjunctionPredicate implements FeelPredicate {
+
+  protected final FeelPredicate[] predicates;
+
+  public DisjunctionPredicate(List<FeelPredicate> predicates) {
+    this.predicates = predicates.toArray(new FeelPredicate[predicates.size()]);
+  }
+
+  public boolean test(Object input, VariableContext variableContext) {
+    for (int i = 0; i < predicates.length; i++) {
+      if (predicates[i].test(input, variableContext)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public FeelPredicate[] getPredicates() {
+    return predicates;
+  }
+
+  public String toString() {
+    return "DisjunctionPredicate{" +
+      "predicates=" + Arrays.toString(predicates) +
+      '}';
+  }
+
+}
@@ -0,0 +1,51 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel.predicate;
+
+import java.util.List;
+
+import org.camunda.bpm.dmn.feel.impl.juel.CompiledSimpleExpression;
+import org.camunda.bpm.dmn.feel.impl.juel.FeelEngineImpl;
+import org.camunda.bpm.engine.variable.context.VariableContext;
+
+/**
+ * A simple expression which consists of a single literal or variable
+ * {@link FeelEndpoint}.
+ */
+public class EndpointSimpleExpression extends CompiledSimpleExpression {
+
+  protected final FeelEndpoint endpoint;
+
+  public EndpointSimpleExpression(FeelEngineImpl feelEngine, String simpleExpression, FeelEndpoint endpoint, List<String> variableNames) {
+    super(feelEngine, simpleExpression, variableNames);
+    this.endpoint = endpoint;
+  }
+
+  public FeelEndpoint getEndpoint() {
+    return endpoint;
+  }
+
+  protected Object evaluateCompiled(VariableContext variableContext) {
+    return endpoint.getValue(variableContext);
+  }
+
+  public String toString() {
+    return "EndpointSimpleExpression{" +
+      "simpleExpression='" + simpleExpression + '\'' +
+      ", endpoint=" + endpoint +
+      ", variableNames=" + variableNames +
+      '}';
+  }
+
+}
@@ -0,0 +1,270 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel.predicate;
+
+import static org.camunda.bpm.dmn.feel.impl.juel.transform.ComparisonTransformer.COMPARISON_PATTERN;
+import static org.camunda.bpm.dmn.feel.impl.juel.transform.EndpointTransformer.DATE_AND_TIME_PATTERN;
+import static org.camunda.bpm.dmn.feel.impl.juel.transform.IntervalTransformer.INTERVAL_PATTERN;
+import static org.camunda.bpm.dmn.feel.impl.juel.transform.NotTransformer.NOT_PATTERN;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.camunda.bpm.dmn.feel.impl.juel.FeelMethodInvocationException;
+import org.camunda.bpm.dmn.feel.impl.juel.el.FeelFunctionMapper;
+import org.camunda.bpm.dmn.feel.impl.juel.el.LiteralValueSet;
+import org.camunda.bpm.dmn.feel.impl.juel.predicate.ComparisonPredicate.Operator;
+import org.camunda.bpm.dmn.feel.impl.juel.transform.ListTokenizer;
+
+import de.odysseus.el.misc.TypeConverter;
+
+/**
+ * Parses simple unary tests into a tree of {@link FeelPredicate}s. The parser
+ * follows the same grammar as the FEEL to JUEL transformation but only
+ * supports literal and variable endpoints. For every other expression,
+ * including invalid ones, <code>null</code> is returned so the caller can
+ * fall back to the JUEL based evaluation which also reports the errors.
+ */
+public class FeelPredicateParser {
+
+  public static final Pattern IDENTIFIER_PATTERN = Pattern.compile("^[a-zA-Z_$][a-zA-Z0-9_$]*$");
+  public static final Pattern INTEGER_PATTERN = Pattern.compile("^-?[0-9]+$");
+  public static final Pattern FLOAT_PATTERN = Pattern.compile("^-?([0-9]+\\.[0-9]*|\\.[0-9]+|[0-9]+)([eE][+-]?[0-9]+)?$");
+  public static final Pattern STRING_PATTERN = Pattern.compile("^\"([^\"\\\\]*)\"$|^'([^'\\\\]*)'$");
+
+  public static final Set<String> RESERVED_WORDS = new HashSet<String>(Arrays.asList(
+    "and", "or", "not", "eq", "ne", "lt", "gt", "le", "ge", "true", "false", "null", "instanceof", "empty", "div", "mod"
+  ));
+
+  protected final TypeConverter typeConverter;
+
+  public FeelPredicateParser(TypeConverter typeConverter) {
+    this.typeConverter = typeConverter;
+  }
+
+  /**
+   * Parse simple unary tests.
+   *
+   * @param simpleUnaryTests the simple unary tests expression
+   * @param inputName the name of the input variable
+   * @param variableNames the list to collect the names of referenced variables
+   * @return the predicate or null if the expression is not supported
+   */
+  public FeelPredicate parseSimpleUnaryTests(String simpleUnaryTests, String inputName, List<String> variableNames) {
+    if (!isIdentifier(inputName)) {
+      return null;
+    }
+
+    simpleUnaryTests = simpleUnaryTests.trim();
+    if (simpleUnaryTests.equals("-")) {
+      return AnyPredicate.INSTANCE;
+    }
+
+    variableNames.add(inputName);
+    if (simpleUnaryTests.startsWith("not(")) {
+      Matcher matcher = NOT_PATTERN.matcher(simpleUnaryTests);
+      if (matcher.matches()) {
+        FeelPredicate predicate = parseSimplePositiveUnaryTests(matcher.group(1), variableNames);
+        return predicate != null ? new NotPredicate(predicate) : null;
+      }
+      else {
+        return null;
+      }
+    }
+    else {
+      return parseSimplePositiveUnaryTests(simpleUnaryTests, variableNames);
+    }
+  }
+
+  /**
+   * Parse a simple expression which consists of a single literal or variable.
+   *
+   * @param simpleExpression the simple expression
+   * @param variableNames the list to collect the names of referenced variables
+   * @return the endpoint or null if the expression is not supported
+   */
+  public FeelEndpoint parseSimpleExpression(String simpleExpression, List<String> variableNames) {
+    return parseEndpoint(simpleExpression, variableNames);
+  }
+
+  protected FeelPredicate parseSimplePositiveUnaryTests(String simplePositiveUnaryTests, List<String> variableNames) {
+    simplePositiveUnaryTests = simplePositiveUnaryTests.trim();
+    List<String> tests = ListTokenizer.tokenize(simplePositiveUnaryTests);
+    if (tests.size() > 1) {
+      List<FeelPredicate> predicates = new ArrayList<FeelPredicate>();
+      for (String test : tests) {
+        FeelPredicate predicate = parseSimplePositiveUnaryTest(test, variableNames);
+        if (predicate == null) {
+          return null;
+        }
+        predicates.add(predicate);
+      }
+      return createDisjunction(predicates);
+    }
+    else {
+      return parseSimplePositiveUnaryTest(simplePositiveUnaryTests, variableNames);
+    }
+  }
+
+  /**
+   * A list of literals is tested by a lookup in a {@link LiteralValueSet},
+   * all other lists by testing every predicate.
+   */
+  protected FeelPredicate createDisjunction(List<FeelPredicate> predicates) {
+    List<Object> values = new ArrayList<Object>();
+    for (FeelPredicate predicate : predicates) {
+      if (!isLiteralEquality(predicate)) {
+        return new DisjunctionPredicate(predicates);
+      }
+      values.add(((LiteralEndpoint) ((ComparisonPredicate) predicate).getEndpoint()).getValue());
+    }
+    return new LiteralSetPredicate(new LiteralValueSet(values), typeConverter);
+  }
+
+  protected boolean isLiteralEquality(FeelPredicate predicate) {
+    if (predicate instanceof ComparisonPredicate) {
+      ComparisonPredicate comparison = (ComparisonPredicate) predicate;
+      return comparison.getOperator() == Operator.EQ && comparison.getEndpoint() instanceof LiteralEndpoint;
+    }
+    else {
+      return false;
+    }
+  }
+
+  protected FeelPredicate parseSimplePositiveUnaryTest(String simplePositiveUnaryTest, List<String> variableNames) {
+    simplePositiveUnaryTest = simplePositiveUnaryTest.trim();
+    if (simplePositiveUnaryTest.startsWith("(") || simplePositiveUnaryTest.startsWith("[") || simplePositiveUnaryTest.startsWith("]")) {
+      return parseInterval(simplePositiveUnaryTest, variableNames);
+    }
+    else if (simplePositiveUnaryTest.startsWith("<") || simplePositiveUnaryTest.startsWith(">")) {
+      return parseComparison(simplePositiveUnaryTest, variableNames);
+    }
+    else {
+      return createComparison(Operator.EQ, simplePositiveUnaryTest, variableNames);
+    }
+  }
+
+  protected FeelPredicate parseInterval(String interval, List<String> variableNames) {
+    Matcher matcher = INTERVAL_PATTERN.matcher(interval);
+    if (matcher.matches()) {
+      Operator lowerOperator = "[".equals(matcher.group(1)) ? Operator.GE : Operator.GT;
+      Operator upperOperator = "]".equals(matcher.group(4)) ? Operator.LE : Operator.LT;
+      ComparisonPredicate lowerEndpoint = createComparison(lowerOperator, matcher.group(2), variableNames);
+      ComparisonPredicate upperEndpoint = createComparison(upperOperator, matcher.group(3), variableNames);
+      if (lowerEndpoint != null && upperEndpoint != null) {
+        return new IntervalPredicate(lowerEndpoint, upperEndpoint);
+      }
+    }
+    return null;
+  }
+
+  protected FeelPredicate parseComparison(String comparison, List<String> variableNames) {
+    Matcher matcher = COMPARISON_PATTERN.matcher(comparison);
+    if (matcher.matches()) {
+      return createComparison(Operator.fromSymbol(matcher.group(1)), matcher.group(2), variableNames);
+    }
+    else {
+      return null;
+    }
+  }
+
+  protected ComparisonPredicate createComparison(Operator operator, String endpoint, List<String> variableNames) {
+    FeelEndpoint feelEndpoint = parseEndpoint(endpoint, variableNames);
+    if (feelEndpoint instanceof LiteralEndpoint && ((LiteralEndpoint) feelEndpoint).getValue() instanceof Date) {
+      Date date = (Date) ((LiteralEndpoint) feelEndpoint).getValue();
+      return new DateComparisonPredicate(operator, date, typeConverter);
+    }
+    else if (feelEndpoint != null) {
+      return new ComparisonPredicate(operator, feelEndpoint, typeConverter);
+    }
+    else {
+      return null;
+    }
+  }
+
+  /**
+   * Parse an endpoint which is either a literal or a variable name.
+   *
+   * @return the endpoint or null if the endpoint is not supported
+   */
+  protected FeelEndpoint parseEndpoint(String endpoint, List<String> variableNames) {
+    endpoint = endpoint.trim();
+
+    Matcher matcher = STRING_PATTERN.matcher(endpoint);
+    if (matcher.matches()) {
+      String value = matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+      return new LiteralEndpoint(value);
+    }
+
+    matcher = DATE_AND_TIME_PATTERN.matcher(endpoint);
+    if (matcher.matches()) {
+      return parseDateAndTime(matcher.group(1).trim());
+    }
+
+    if ("true".equals(endpoint) || "false".equals(endpoint)) {
+      return new LiteralEndpoint(Boolean.valueOf(endpoint));
+    }
+    if ("null".equals(endpoint)) {
+      return new LiteralEndpoint(null);
+    }
+
+    if (INTEGER_PATTERN.matcher(endpoint).matches()) {
+      try {
+        return new LiteralEndpoint(Long.valueOf(endpoint));
+      }
+      catch (NumberFormatException e) {
+        return null;
+      }
+    }
+    if (FLOAT_PATTERN.matcher(endpoint).matches()) {
+      return new LiteralEndpoint(Double.valueOf(endpoint));
+    }
+
+    if (isIdentifier(endpoint)) {
+      variableNames.add(endpoint);
+      return new VariableEndpoint(endpoint);
+    }
+
+    return null;
+  }
+
+  /**
+   * Date and time literals are parsed once. Invalid dates are left to the
+   * JUEL based evaluation which reports them on evaluation.
+   */
+  protected FeelEndpoint parseDateAndTime(String argument) {
+    Matcher matcher = STRING_PATTERN.matcher(argument);
+    if (matcher.matches()) {
+      String dateAndTime = matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+      try {
+        return new LiteralEndpoint(FeelFunctionMapper.parseDateAndTime(dateAndTime));
+      }
+      catch (FeelMethodInvocationException e) {
+        return null;
+      }
+    }
+    return null;
+  }
+
+  protected boolean isIdentifier(String name) {
+    return name != null && IDENTIFIER_PATTERN.matcher(name).matches() && !RESERVED_WORDS.contains(name);
+  }
+
+}
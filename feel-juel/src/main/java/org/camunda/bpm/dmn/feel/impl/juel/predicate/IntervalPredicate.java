@@ -0,0 +1,51 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel.predicate;
+
+import org.camunda.bpm.engine.variable.context.VariableContext;
+
+/**
+ * Tests if the input is inside an interval. The upper endpoint is only
+ * compared if the input satisfies the lower endpoint.
+ */
+public class IntervalPredicate implements FeelPredicate {
+
+  protected final ComparisonPredicate lowerEndpoint;
+  protected final ComparisonPredicate upperEndpoint;
+
+  public IntervalPredicate(ComparisonPredicate lowerEndpoint, ComparisonPredicate upperEndpoint) {
+    this.lowerEndpoint = lowerEndpoint;
+    this.upperEndpoint = upperEndpoint;
+  }
+
+  public boolean test(Object input, VariableContext variableContext) {
+    return lowerEndpoint.test(input, variableContext) && upperEndpoint.test(input, variableContext);
+  }
+
+  public ComparisonPredicate getLowerEndpoint() {
+    return lowerEndpoint;
+  }
+
+  public ComparisonPredicate getUpperEndpoint() {
+    return upperEndpoint;
+  }
+
+  public String toString() {
+    return "IntervalPredicate{" +
+      "lowerEndpoint=" + lowerEndpoint +
+      ", upperEndpoint=" + upperEndpoint +
+      '}';
+  }
+
+}
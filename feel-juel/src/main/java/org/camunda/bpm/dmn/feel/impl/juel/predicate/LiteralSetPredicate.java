@@ -0,0 +1,48 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel.predicate;
+
+import org.camunda.bpm.dmn.feel.impl.juel.el.LiteralValueSet;
+import org.camunda.bpm.engine.variable.context.VariableContext;
+
+import de.odysseus.el.misc.TypeConverter;
+
+/**
+ * Tests if the input is equal to one of the literals of a list.
+ */
+public class LiteralSetPredicate implements FeelPredicate {
+
+  protected final LiteralValueSet valueSet;
+  protected final TypeConverter typeConverter;
+
+  public LiteralSetPredicate(LiteralValueSet valueSet, TypeConverter typeConverter) {
+    this.valueSet = valueSet;
+    this.typeConverter = typeConverter;
+  }
+
+  public boolean test(Object input, VariableContext variableContext) {
+    return valueSet.contains(typeConverter, input);
+  }
+
+  public LiteralValueSet getValueSet() {
+    return valueSet;
+  }
+
+  public String toString() {
+    return "LiteralSetPredicate{" +
+      "valueSet=" + valueSet +
+      '}';
+  }
+
+}
@@ -0,0 +1,40 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel.predicate;
+
+import org.camunda.bpm.engine.variable.context.VariableContext;
+
+public class NotPredicate implements FeelPredicate {
+
+  protected final FeelPredicate predicate;
+
+  public NotPredicate(FeelPredicate predicate) {
+    this.predicate = predicate;
+  }
+
+  public boolean test(Object input, VariableContext variableContext) {
+    return !predicate.test(input, variableContext);
+  }
+
+  public FeelPredicate getPredicate() {
+    return predicate;
+  }
+
+  public String toString() {
+    return "NotPredicate{" +
+      "predicate=" + predicate +
+      '}';
+  }
+
+}
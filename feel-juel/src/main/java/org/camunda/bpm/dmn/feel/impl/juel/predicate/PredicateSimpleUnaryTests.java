@@ -0,0 +1,62 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel.predicate;
+
+import java.util.List;
+
+import org.camunda.bpm.dmn.feel.impl.juel.CompiledSimpleUnaryTests;
+import org.camunda.bpm.dmn.feel.impl.juel.FeelEngineImpl;
+import org.camunda.bpm.engine.variable.context.VariableContext;
+import org.camunda.bpm.engine.variable.value.TypedValue;
+
+/**
+ * A simple unary tests expression compiled to a tree of {@link FeelPredicate}s.
+ */
+public class PredicateSimpleUnaryTests extends CompiledSimpleUnaryTests {
+
+  protected final FeelPredicate predicate;
+  protected final boolean inputReferenced;
+
+  public PredicateSimpleUnaryTests(FeelEngineImpl feelEngine, String simpleUnaryTests, String inputName, FeelPredicate predicate, List<String> variableNames) {
+    super(feelEngine, simpleUnaryTests, inputName, variableNames);
+    this.predicate = predicate;
+    this.inputReferenced = variableNames.contains(inputName);
+  }
+
+  /**
+   * @return the root of the compiled predicate tree
+   */
+  public FeelPredicate getPredicate() {
+    return predicate;
+  }
+
+  protected boolean evaluateCompiled(VariableContext variableContext) {
+    Object input = null;
+    if (inputReferenced) {
+      TypedValue typedValue = variableContext.resolve(inputName);
+      input = typedValue.getValue();
+    }
+    return predicate.test(input, variableContext);
+  }
+
+  public String toString() {
+    return "PredicateSimpleUnaryTests{" +
+      "simpleUnaryTests='" + simpleUnaryTests + '\'' +
+      ", inputName='" + inputName + '\'' +
+      ", predicate=" + predicate +
+      ", variableNames=" + variableNames +
+      '}';
+  }
+
+}
@@ -0,0 +1,51 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel.predicate;
+
+import org.camunda.bpm.dmn.feel.impl.juel.FeelEngineLogger;
+import org.camunda.bpm.dmn.feel.impl.juel.FeelLogger;
+import org.camunda.bpm.engine.variable.context.VariableContext;
+import org.camunda.bpm.engine.variable.value.TypedValue;
+
+public class VariableEndpoint implements FeelEndpoint {
+
+  public static final FeelEngineLogger LOG = FeelLogger.ENGINE_LOGGER;
+
+  protected final String variableName;
+
+  public VariableEndpoint(String variableName) {
+    this.variableName = variableName;
+  }
+
+  public Object getValue(VariableContext variableContext) {
+    if (variableContext.containsVariable(variableName)) {
+      TypedValue typedValue = variableContext.resolve(variableName);
+      return typedValue.getValue();
+    }
+    else {
+      throw LOG.unknownVariable(variableName);
+    }
+  }
+
+  public String getVariableName() {
+    return variableName;
+  }
+
+  public String toString() {
+    return "VariableEndpoint{" +
+      "variableName='" + variableName + '\'' +
+      '}';
+  }
+
+}
@@ -15,6 +15,15 @@ package org.camunda.bpm.dmn.feel.impl.juel.transform;
 
 public interface FeelToJuelTransform {
 
+  /**
+   * Transform a FEEL simple expression to a deferred JUEL expression, so it
+   * is parsed with the FEEL arithmetic.
+   *
+   * @param simpleExpression the FEEL simple expression to transform
+   * @return the resulting JUEL expression
+   */
+  String transformSimpleExpression(String simpleExpression);
+
   /**
    * Transform a FEEL simple unary tests expression to a JUEL expression.
    *
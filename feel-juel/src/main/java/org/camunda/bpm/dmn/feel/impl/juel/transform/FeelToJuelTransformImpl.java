@@ -13,6 +13,8 @@
 
 package org.camunda.bpm.dmn.feel.impl.juel.transform;
 
+import org.camunda.bpm.dmn.feel.impl.juel.el.FeelTreeBuilder;
+
 public class FeelToJuelTransformImpl implements FeelToJuelTransform {
 
   public static final FeelToJuelTransformer NOT_TRANSFORMER = new NotTransformer();
@@ -22,6 +24,13 @@ public class FeelToJuelTransformImpl implements FeelToJuelTransform {
   public static final FeelToJuelTransformer COMPARISON_TRANSFORMER = new ComparisonTransformer();
   public static final FeelToJuelTransformer EQUAL_TRANSFORMER = new EqualTransformer();
   public static final FeelToJuelTransformer ENDPOINT_TRANSFORMER = new EndpointTransformer();
+  public static final FeelToJuelTransformer SIMPLE_EXPRESSION_TRANSFORMER = new SimpleExpressionTransformer();
+
+  public String transformSimpleExpression(String simpleExpression) {
+    simpleExpression = simpleExpression.trim();
+    String juelExpression = SIMPLE_EXPRESSION_TRANSFORMER.transform(this, simpleExpression, null);
+    return FeelTreeBuilder.SIMPLE_EXPRESSION_PREFIX + juelExpression + "}";
+  }
 
   public String transformSimpleUnaryTests(String simpleUnaryTests, String inputName) {
     simpleUnaryTests = simpleUnaryTests.trim();
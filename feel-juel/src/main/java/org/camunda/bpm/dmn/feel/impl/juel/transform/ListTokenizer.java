@@ -0,0 +1,54 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel.transform;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a list of simple positive unary tests at the separating commas.
+ * Commas inside string literals, which may be quoted with double or single
+ * quotes and contain escaped characters, do not separate the tests.
+ */
+public class ListTokenizer {
+
+  public static List<String> tokenize(String feelExpression) {
+    List<String> tokens = new ArrayList<String>();
+    int length = feelExpression.length();
+    int start = 0;
+    char quote = 0;
+    for (int i = 0; i < length; i++) {
+      char c = feelExpression.charAt(i);
+      if (quote != 0) {
+        if (c == '\\') {
+          // skip the escaped character
+          i++;
+        }
+        else if (c == quote) {
+          quote = 0;
+        }
+      }
+      else if (c == '"' || c == '\'') {
+        quote = c;
+      }
+      else if (c == ',') {
+        tokens.add(feelExpression.substring(start, i));
+        start = i + 1;
+      }
+    }
+    tokens.add(feelExpression.substring(start));
+    return tokens;
+  }
+
+}
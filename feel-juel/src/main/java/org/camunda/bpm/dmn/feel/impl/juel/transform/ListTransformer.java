@@ -14,13 +14,12 @@
 package org.camunda.bpm.dmn.feel.impl.juel.transform;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 public class ListTransformer implements FeelToJuelTransformer {
 
   public boolean canTransform(String feelExpression) {
-    return feelExpression.split(",").length > 1;
+    return collectExpressions(feelExpression).size() > 1;
   }
 
   public String transform(FeelToJuelTransform transform, String feelExpression, String inputName) {
@@ -30,7 +29,7 @@ public class ListTransformer implements FeelToJuelTransformer {
   }
 
   protected List<String> collectExpressions(String feelExpression) {
-    return Arrays.asList(feelExpression.split(","));
+    return ListTokenizer.tokenize(feelExpression);
   }
 
   protected List<String> transformExpressions(FeelToJuelTransform transform, List<String> expressions, String inputName) {
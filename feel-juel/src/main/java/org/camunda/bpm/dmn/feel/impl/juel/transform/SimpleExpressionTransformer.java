@@ -0,0 +1,155 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.juel.transform;
+
+import static org.camunda.bpm.dmn.feel.impl.juel.el.FeelFunctionMapper.JUEL_DATE_AND_TIME_METHOD;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.camunda.bpm.dmn.feel.impl.juel.FeelEngineLogger;
+import org.camunda.bpm.dmn.feel.impl.juel.FeelLogger;
+
+/**
+ * Transforms a FEEL simple expression, i.e. literals, paths, arithmetic
+ * and comparisons, into a JUEL expression. Outside of string literals the
+ * FEEL equality operator <code>=</code> is replaced by <code>==</code> and
+ * the <code>date and time</code> function by its JUEL name. The arithmetic
+ * and comparisons are evaluated with FEEL semantics by the
+ * {@link org.camunda.bpm.dmn.feel.impl.juel.el.FeelSimpleExpressionParser}.
+ *
+ * <p>JUEL syntax which is not part of FEEL, like single quoted strings, the
+ * conditional operator or the <code>empty</code> operator, is rejected.</p>
+ */
+public class SimpleExpressionTransformer implements FeelToJuelTransformer {
+
+  public static final FeelEngineLogger LOG = FeelLogger.ENGINE_LOGGER;
+
+  public static final Pattern DATE_AND_TIME_FUNCTION_PATTERN = Pattern.compile("date and time\\s*\\(");
+
+  /** characters of JUEL operators and literals which are not part of FEEL simple expressions */
+  public static final String JUEL_CHARACTERS = "'?:%&|[]{}$#;";
+
+  /** JUEL keywords which are not part of FEEL simple expressions */
+  public static final Set<String> JUEL_KEYWORDS = new HashSet<String>(Arrays.asList(
+    "empty", "eq", "ne", "lt", "gt", "le", "ge", "div", "mod", "instanceof"
+  ));
+
+  public boolean canTransform(String feelExpression) {
+    return true;
+  }
+
+  public String transform(FeelToJuelTransform transform, String feelExpression, String inputName) {
+    StringBuilder juelExpression = new StringBuilder(feelExpression.length() + 8);
+    Matcher dateAndTimeMatcher = DATE_AND_TIME_FUNCTION_PATTERN.matcher(feelExpression);
+
+    int length = feelExpression.length();
+    int i = 0;
+    while (i < length) {
+      char c = feelExpression.charAt(i);
+      if (c == '"') {
+        int end = endOfStringLiteral(feelExpression, i);
+        juelExpression.append(feelExpression, i, end);
+        i = end;
+      }
+      else if (c == '=' && i + 1 < length && feelExpression.charAt(i + 1) == '=') {
+        throw LOG.invalidSimpleExpression(feelExpression, "==");
+      }
+      else if (c == '=' && isEqualityOperator(feelExpression, i)) {
+        juelExpression.append("==");
+        i++;
+      }
+      else if (c == '!' && (i + 1 >= length || feelExpression.charAt(i + 1) != '=')) {
+        throw LOG.invalidSimpleExpression(feelExpression, "!");
+      }
+      else if (JUEL_CHARACTERS.indexOf(c) >= 0) {
+        throw LOG.invalidSimpleExpression(feelExpression, String.valueOf(c));
+      }
+      else if (Character.isJavaIdentifierStart(c) && isIdentifierStart(feelExpression, i)) {
+        if (c == 'd' && dateAndTimeMatcher.region(i, length).lookingAt()) {
+          juelExpression.append(JUEL_DATE_AND_TIME_METHOD).append('(');
+          i = dateAndTimeMatcher.end();
+        }
+        else {
+          int end = endOfIdentifier(feelExpression, i);
+          String identifier = feelExpression.substring(i, end);
+          if (JUEL_KEYWORDS.contains(identifier) || ("not".equals(identifier) && !isFunctionCall(feelExpression, end))) {
+            throw LOG.invalidSimpleExpression(feelExpression, identifier);
+          }
+          juelExpression.append(identifier);
+          i = end;
+        }
+      }
+      else {
+        juelExpression.append(c);
+        i++;
+      }
+    }
+
+    return juelExpression.toString();
+  }
+
+  /**
+   * @return the index after the closing quote of the string literal or the length of the expression
+   */
+  protected int endOfStringLiteral(String expression, int start) {
+    for (int i = start + 1; i < expression.length(); i++) {
+      char c = expression.charAt(i);
+      if (c == '\\') {
+        i++;
+      }
+      else if (c == '"') {
+        return i + 1;
+      }
+    }
+    return expression.length();
+  }
+
+  protected int endOfIdentifier(String expression, int start) {
+    int end = start + 1;
+    while (end < expression.length() && Character.isJavaIdentifierPart(expression.charAt(end))) {
+      end++;
+    }
+    return end;
+  }
+
+  /**
+   * @return true if the identifier which ends at the index is followed by an opening parenthesis
+   */
+  protected boolean isFunctionCall(String expression, int end) {
+    int i = end;
+    while (i < expression.length() && Character.isWhitespace(expression.charAt(i))) {
+      i++;
+    }
+    return i < expression.length() && expression.charAt(i) == '(';
+  }
+
+  protected boolean isEqualityOperator(String expression, int index) {
+    if (index > 0) {
+      char previous = expression.charAt(index - 1);
+      if (previous == '<' || previous == '>' || previous == '!' || previous == '=') {
+        return false;
+      }
+    }
+    return index + 1 >= expression.length() || expression.charAt(index + 1) != '=';
+  }
+
+  protected boolean isIdentifierStart(String expression, int index) {
+    return index == 0 || !Character.isJavaIdentifierPart(expression.charAt(index - 1));
+  }
+
+}
@@ -0,0 +1,141 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.camunda.bpm.dmn.feel.impl.juel.el.DateAndTimeParser;
+import org.junit.Test;
+
+public class DateAndTimeParserTest {
+
+  public static final int THREAD_COUNT = 8;
+  public static final int ITERATIONS = 20000;
+
+  protected DateAndTimeParser parser = new DateAndTimeParser();
+
+  @Test
+  public void testParseDateAndTime() throws ParseException {
+    assertParsedLikeSimpleDateFormat("2015-12-12T22:12:53");
+    assertParsedLikeSimpleDateFormat("2016-02-29T00:00:00");
+    assertParsedLikeSimpleDateFormat("1970-01-01T00:00:00");
+    assertParsedLikeSimpleDateFormat("0001-01-01T00:00:00");
+  }
+
+  @Test
+  public void testParseLenientDateAndTime() throws ParseException {
+    assertParsedLikeSimpleDateFormat("2015-13-01T00:00:00");
+    assertParsedLikeSimpleDateFormat("2015-02-30T25:61:61");
+    assertParsedLikeSimpleDateFormat("2015-1-1T1:1:1");
+    assertParsedLikeSimpleDateFormat("2015-12-12T22:12:53.123");
+  }
+
+  @Test
+  public void testParseInvalidDateAndTime() {
+    assertInvalid("2015-12-12");
+    assertInvalid("2015-12-12 22:12:53");
+    assertInvalid("now");
+    assertInvalid("");
+  }
+
+  @Test
+  public void testCacheLenientDateAndTime() throws ParseException {
+    Date date = parser.parse("2015-1-1T1:1:1");
+    date.setTime(0);
+
+    assertThat(parser.parse("2015-1-1T1:1:1")).isEqualTo(toDate("2015-1-1T1:1:1"));
+    assertThat(parser.getCache().getHitCount()).isEqualTo(1);
+
+    parser.parse("2015-12-12T22:12:53");
+    assertThat(parser.getCache().size()).isEqualTo(1);
+  }
+
+  @Test
+  public void testDisableCache() throws ParseException {
+    DateAndTimeParser parser = new DateAndTimeParser(0);
+    parser.parse("2015-1-1T1:1:1");
+
+    assertThat(parser.getCache().size()).isEqualTo(0);
+    assertThat(parser.parse("2015-1-1T1:1:1")).isEqualTo(toDate("2015-1-1T1:1:1"));
+  }
+
+  @Test
+  public void testConcurrentParsing() throws Exception {
+    final String[] dates = new String[500];
+    final Date[] expectedDates = new Date[dates.length];
+    for (int i = 0; i < dates.length; i++) {
+      // every third date does not have the exact format and is cached
+      String format = i % 3 == 0 ? "20%02d-%d-%dT%d:%d:%d" : "20%02d-%02d-%02dT%02d:%02d:%02d";
+      dates[i] = String.format(format, i % 100, i % 12 + 1, i % 28 + 1, i % 24, i % 60, (i * 7) % 60);
+      expectedDates[i] = toDate(dates[i]);
+    }
+
+    ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+    try {
+      List<Future<Integer>> results = new ArrayList<Future<Integer>>();
+      for (int thread = 0; thread < THREAD_COUNT; thread++) {
+        final int offset = thread * 31;
+        results.add(executorService.submit(new Callable<Integer>() {
+          public Integer call() throws Exception {
+            int mismatches = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+              int index = (offset + i) % dates.length;
+              if (!expectedDates[index].equals(parser.parse(dates[index]))) {
+                mismatches++;
+              }
+            }
+            return mismatches;
+          }
+        }));
+      }
+
+      for (Future<Integer> result : results) {
+        assertThat(result.get()).isEqualTo(0);
+      }
+    }
+    finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  protected void assertParsedLikeSimpleDateFormat(String dateAndTime) throws ParseException {
+    assertThat(parser.parse(dateAndTime)).isEqualTo(toDate(dateAndTime));
+  }
+
+  protected void assertInvalid(String dateAndTime) {
+    try {
+      parser.parse(dateAndTime);
+      fail("Expected parse exception for " + dateAndTime);
+    }
+    catch (ParseException e) {
+      // expected
+    }
+  }
+
+  protected Date toDate(String dateAndTime) throws ParseException {
+    return new SimpleDateFormat(DateAndTimeParser.DATE_AND_TIME_PATTERN).parse(dateAndTime);
+  }
+
+}
@@ -0,0 +1,70 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import org.camunda.bpm.dmn.feel.impl.juel.el.FeelBooleanOperations;
+import org.camunda.bpm.dmn.feel.impl.juel.el.FeelTypeConverter;
+import org.junit.Test;
+
+import de.odysseus.el.misc.BooleanOperations;
+import de.odysseus.el.misc.TypeConverter;
+
+public class FeelBooleanOperationsTest {
+
+  public static final Object[] VALUES = {
+    null, (byte) 1, (short) 2, 3, 3L, 4L, Long.MAX_VALUE, Long.MIN_VALUE,
+    1.5f, 3.0, 3.5, -0.0, 0.0, Double.NaN, Double.POSITIVE_INFINITY,
+    new BigDecimal("3"), new BigDecimal("3.5"), BigInteger.valueOf(3)
+  };
+
+  protected TypeConverter typeConverter = new FeelTypeConverter();
+
+  @Test
+  public void testSameResultsAsJuel() {
+    for (Object o1 : VALUES) {
+      for (Object o2 : VALUES) {
+        if (isBigNumberAndNotFinite(o1, o2) || isBigNumberAndNotFinite(o2, o1)) {
+          // cannot be converted by both implementations
+          continue;
+        }
+        String operands = o1 + " and " + o2;
+        assertThat(FeelBooleanOperations.eq(typeConverter, o1, o2)).as("eq " + operands).isEqualTo(BooleanOperations.eq(typeConverter, o1, o2));
+        assertThat(FeelBooleanOperations.ne(typeConverter, o1, o2)).as("ne " + operands).isEqualTo(BooleanOperations.ne(typeConverter, o1, o2));
+        assertThat(FeelBooleanOperations.lt(typeConverter, o1, o2)).as("lt " + operands).isEqualTo(BooleanOperations.lt(typeConverter, o1, o2));
+        assertThat(FeelBooleanOperations.le(typeConverter, o1, o2)).as("le " + operands).isEqualTo(BooleanOperations.le(typeConverter, o1, o2));
+        assertThat(FeelBooleanOperations.gt(typeConverter, o1, o2)).as("gt " + operands).isEqualTo(BooleanOperations.gt(typeConverter, o1, o2));
+        assertThat(FeelBooleanOperations.ge(typeConverter, o1, o2)).as("ge " + operands).isEqualTo(BooleanOperations.ge(typeConverter, o1, o2));
+      }
+    }
+  }
+
+  @Test
+  public void testCompareIntegersExactly() {
+    // would be equal if compared as double values
+    assertThat(FeelBooleanOperations.lt(typeConverter, Long.MAX_VALUE - 1, Long.MAX_VALUE)).isTrue();
+    assertThat(FeelBooleanOperations.eq(typeConverter, Long.MAX_VALUE - 1, Long.MAX_VALUE)).isFalse();
+  }
+
+  protected boolean isBigNumberAndNotFinite(Object o1, Object o2) {
+    boolean bigNumber = o1 instanceof BigDecimal || o1 instanceof BigInteger;
+    boolean notFinite = o2 instanceof Double && (((Double) o2).isNaN() || ((Double) o2).isInfinite());
+    return bigNumber && notFinite;
+  }
+
+}
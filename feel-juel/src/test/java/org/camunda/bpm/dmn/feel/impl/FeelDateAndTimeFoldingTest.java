@@ -0,0 +1,74 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+
+import org.camunda.bpm.dmn.feel.impl.juel.el.AstDateAndTimeConstant;
+import org.camunda.bpm.dmn.feel.impl.juel.el.FeelFunctionMapper;
+import org.camunda.bpm.dmn.feel.impl.juel.el.FeelTreeBuilder;
+import org.camunda.bpm.dmn.feel.impl.juel.el.FeelTypeConverter;
+import org.camunda.bpm.dmn.feel.impl.juel.predicate.ComparisonPredicate.Operator;
+import org.camunda.bpm.dmn.feel.impl.juel.predicate.DateComparisonPredicate;
+import org.junit.Test;
+
+import de.odysseus.el.tree.FunctionNode;
+import de.odysseus.el.tree.Tree;
+
+public class FeelDateAndTimeFoldingTest {
+
+  @Test
+  public void testFoldDateAndTimeLiteral() {
+    Tree tree = new FeelTreeBuilder().build("${cellInput < dateAndTime(\"2015-12-12T22:12:53\")}");
+
+    FunctionNode functionNode = tree.getFunctionNodes().iterator().next();
+    assertThat(functionNode).isInstanceOf(AstDateAndTimeConstant.class);
+    assertThat(((AstDateAndTimeConstant) functionNode).getDate())
+      .isEqualTo(FeelFunctionMapper.parseDateAndTime("2015-12-12T22:12:53"));
+  }
+
+  @Test
+  public void testDoNotFoldInvalidDateAndTimeLiteral() {
+    Tree tree = new FeelTreeBuilder().build("${cellInput < dateAndTime(\"2015-12-12\")}");
+
+    FunctionNode functionNode = tree.getFunctionNodes().iterator().next();
+    assertThat(functionNode).isNotInstanceOf(AstDateAndTimeConstant.class);
+  }
+
+  @Test
+  public void testDoNotFoldDateAndTimeVariable() {
+    Tree tree = new FeelTreeBuilder().build("${cellInput < dateAndTime(y)}");
+
+    FunctionNode functionNode = tree.getFunctionNodes().iterator().next();
+    assertThat(functionNode).isNotInstanceOf(AstDateAndTimeConstant.class);
+  }
+
+  @Test
+  public void testCompareDateAsEpochMillis() {
+    Date date = FeelFunctionMapper.parseDateAndTime("2015-12-12T22:12:53");
+    FeelTypeConverter typeConverter = new FeelTypeConverter();
+
+    DateComparisonPredicate lessThan = new DateComparisonPredicate(Operator.LT, date, typeConverter);
+    assertThat(lessThan.getEpochMillis()).isEqualTo(date.getTime());
+    assertThat(lessThan.test(new Date(date.getTime() - 1), null)).isTrue();
+    assertThat(lessThan.test(new Date(date.getTime()), null)).isFalse();
+
+    DateComparisonPredicate equal = new DateComparisonPredicate(Operator.EQ, date, typeConverter);
+    assertThat(equal.test(new Date(date.getTime()), null)).isTrue();
+    assertThat(equal.test(null, null)).isFalse();
+  }
+
+}
@@ -0,0 +1,95 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import javax.el.ELContext;
+import javax.el.ExpressionFactory;
+
+import org.camunda.bpm.dmn.feel.impl.juel.FeelEngineImpl;
+import org.camunda.bpm.dmn.feel.impl.juel.el.ElContextFactory;
+import org.camunda.bpm.dmn.feel.impl.juel.el.FeelElContext;
+import org.camunda.bpm.dmn.feel.impl.juel.el.FeelElContextFactory;
+import org.camunda.bpm.dmn.feel.impl.juel.el.FeelTypedVariableMapper;
+import org.camunda.bpm.dmn.feel.impl.juel.transform.FeelToJuelTransformImpl;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.engine.variable.context.VariableContext;
+import org.junit.Test;
+
+import de.odysseus.el.ExpressionFactoryImpl;
+import de.odysseus.el.util.SimpleResolver;
+
+public class FeelElContextFactoryTest {
+
+  protected ExpressionFactory expressionFactory = new ExpressionFactoryImpl();
+  protected FeelElContextFactory elContextFactory = new FeelElContextFactory();
+
+  @Test
+  public void testSharedResolverAndFunctionMapper() {
+    ELContext firstContext = elContextFactory.createContext(expressionFactory, Variables.emptyVariableContext());
+    ELContext secondContext = elContextFactory.createContext(expressionFactory, Variables.emptyVariableContext());
+    ELContext compilationContext = elContextFactory.createCompilationContext(expressionFactory);
+
+    assertThat(firstContext).isNotSameAs(secondContext);
+    assertThat(firstContext.getELResolver())
+      .isSameAs(secondContext.getELResolver())
+      .isSameAs(compilationContext.getELResolver());
+    assertThat(firstContext.getFunctionMapper())
+      .isSameAs(secondContext.getFunctionMapper())
+      .isSameAs(compilationContext.getFunctionMapper());
+  }
+
+  @Test
+  public void testEvaluationContextHoldsVariableContext() {
+    VariableContext variableContext = Variables.createVariables().asVariableContext();
+    ELContext elContext = elContextFactory.createContext(expressionFactory, variableContext);
+
+    assertThat(elContext.getContext(VariableContext.class)).isSameAs(variableContext);
+    assertThat(elContext.getVariableMapper()).isNull();
+  }
+
+  @Test
+  public void testCompilationContextHasNewVariableMapper() {
+    ELContext firstContext = elContextFactory.createCompilationContext(expressionFactory);
+    ELContext secondContext = elContextFactory.createCompilationContext(expressionFactory);
+
+    assertThat(firstContext.getVariableMapper())
+      .isInstanceOf(FeelTypedVariableMapper.class)
+      .isNotSameAs(secondContext.getVariableMapper());
+    assertThat(firstContext.getContext(VariableContext.class)).isNull();
+  }
+
+  @Test
+  public void testEvaluateWithElContextFactoryWithoutCompilationContext() {
+    // a factory which only implements the methods of the previous releases
+    ElContextFactory contextFactory = new ElContextFactory() {
+      public ELContext createContext(ExpressionFactory expressionFactory, VariableContext variableContext) {
+        return new FeelElContext(new SimpleResolver(true), elContextFactory.createFunctionMapper(), null);
+      }
+    };
+    FeelEngine feelEngine = new FeelEngineImpl(new FeelToJuelTransformImpl(), expressionFactory, contextFactory);
+
+    VariableContext variableContext = Variables.createVariables()
+      .putValue("input", 12)
+      .putValue("y", 13)
+      .asVariableContext();
+    assertThat(feelEngine.evaluateSimpleUnaryTests("< y", "input", variableContext)).isTrue();
+    assertThat(feelEngine.evaluateSimpleUnaryTests("> y", "input", variableContext)).isFalse();
+    assertThat(feelEngine.evaluateSimpleUnaryTests("< date and time(\"2015-12-12T12:12:12\")", "input",
+      Variables.createVariables().putValue("input", new Date(0)).asVariableContext())).isTrue();
+  }
+
+}
@@ -15,6 +15,7 @@ package org.camunda.bpm.dmn.feel.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.Date;
 
@@ -315,6 +316,39 @@ public class FeelEngineTest {
     assertEvaluatesToFalse(0, "<y,>13.37,>=.37");
   }
 
+  @Test
+  public void testListOfLiterals() {
+    assertEvaluatesToTrue("b", "\"a\",\"b\",\"c\"");
+    assertEvaluatesToFalse("d", "\"a\",\"b\",\"c\"");
+    assertEvaluatesToFalse(null, "\"a\",\"b\",\"c\"");
+    assertEvaluatesToTrue("a,b", "\"a,b\",'c,d'");
+    assertEvaluatesToTrue("c,d", "\"a,b\",'c,d'");
+    assertEvaluatesToFalse("a", "\"a,b\",'c,d'");
+    assertEvaluatesToTrue(null, "\"a\",null");
+
+    assertEvaluatesToTrue(12, "12,13.37,14");
+    assertEvaluatesToTrue(12L, "12,13.37,14");
+    assertEvaluatesToTrue((short) 14, "12,13.37,14");
+    assertEvaluatesToTrue(12.0, "12,13.37,14");
+    assertEvaluatesToTrue(13.37, "12,13.37,14");
+    assertEvaluatesToTrue(13.5f, "12,13.5,14");
+    assertEvaluatesToFalse(13, "12,13.37,14");
+    assertEvaluatesToFalse(12.5, "12,13.37,14");
+    assertEvaluatesToTrue(new BigDecimal("12"), "12,13.37,14");
+  }
+
+  @Test
+  public void testLongListOfLiterals() {
+    StringBuilder list = new StringBuilder("\"C0\"");
+    for (int i = 1; i < 300; i++) {
+      list.append(",\"C").append(i).append("\"");
+    }
+    assertEvaluatesToTrue("C0", list.toString());
+    assertEvaluatesToTrue("C150", list.toString());
+    assertEvaluatesToTrue("C299", list.toString());
+    assertEvaluatesToFalse("C300", list.toString());
+  }
+
   @Test
   public void testNested() {
     variables.put("a", 23.42);
@@ -351,6 +385,134 @@ public class FeelEngineTest {
     assertEvaluatesToFalse(13.33, ">= pojo.bar");
   }
 
+  @Test
+  public void testCompiledSimpleUnaryTests() {
+    FeelSimpleUnaryTests simpleUnaryTests = feelEngine.compileSimpleUnaryTests("[y..10]", INPUT_VARIABLE);
+    assertThat(simpleUnaryTests.getExpression()).isEqualTo("[y..10]");
+    assertThat(simpleUnaryTests.getInputName()).isEqualTo(INPUT_VARIABLE);
+
+    variables.putValue("y", 1);
+    variables.putValue(INPUT_VARIABLE, 5);
+    assertThat(simpleUnaryTests.evaluate(variables.asVariableContext())).isTrue();
+
+    variables.putValue(INPUT_VARIABLE, 11);
+    assertThat(simpleUnaryTests.evaluate(variables.asVariableContext())).isFalse();
+
+    variables.putValue("y", 6);
+    variables.putValue(INPUT_VARIABLE, 5);
+    assertThat(simpleUnaryTests.evaluate(variables.asVariableContext())).isFalse();
+  }
+
+  @Test
+  public void testSimpleExpressionLiterals() {
+    assertThat(evaluateSimpleExpression("\"Hello World\"")).isEqualTo("Hello World");
+    assertThat(evaluateSimpleExpression("12")).isEqualTo(12L);
+    assertThat(evaluateSimpleExpression("-12")).isEqualTo(-12L);
+    assertThat(evaluateSimpleExpression("1.5")).isEqualTo(1.5);
+    assertThat(evaluateSimpleExpression("true")).isEqualTo(true);
+    assertThat(evaluateSimpleExpression("null")).isNull();
+    assertThat(evaluateSimpleExpression("date and time(\"2015-12-12T22:12:53\")"))
+      .isEqualTo(parseDateAndTime("2015-12-12T22:12:53").getValue());
+  }
+
+  @Test
+  public void testSimpleExpressionVariables() {
+    variables.putValue("x", 12);
+    variables.putValue("pojo", new TestPojo("foo", 1.5));
+
+    assertThat(evaluateSimpleExpression("x")).isEqualTo(12);
+    assertThat(evaluateSimpleExpression(" x ")).isEqualTo(12);
+    assertThat(evaluateSimpleExpression("pojo.foo")).isEqualTo("foo");
+    assertThat(evaluateSimpleExpression("pojo.bar")).isEqualTo(1.5);
+  }
+
+  @Test
+  public void testSimpleExpressionArithmetic() {
+    variables.putValue("x", 12);
+
+    assertThat(evaluateSimpleExpression("x + 3")).isEqualTo(new BigDecimal("15"));
+    assertThat(evaluateSimpleExpression("x - 3")).isEqualTo(new BigDecimal("9"));
+    assertThat(evaluateSimpleExpression("x * 2")).isEqualTo(new BigDecimal("24"));
+    assertThat(evaluateSimpleExpression("x / 8")).isEqualTo(new BigDecimal("1.5"));
+    assertThat(evaluateSimpleExpression("(x + 3) * 2")).isEqualTo(new BigDecimal("30"));
+    assertThat(evaluateSimpleExpression("-x + 2")).isEqualTo(new BigDecimal("-10"));
+  }
+
+  @Test
+  public void testSimpleExpressionDecimalArithmetic() {
+    variables.putValue("x", 0.1);
+    variables.putValue("y", new BigDecimal("0.30"));
+
+    assertThat(evaluateSimpleExpression("0.1 + 0.2")).isEqualTo(new BigDecimal("0.3"));
+    assertThat(evaluateSimpleExpression("0.1 + 0.2 = 0.3")).isEqualTo(true);
+    assertThat(evaluateSimpleExpression("x + 0.2 = y")).isEqualTo(true);
+    assertThat(evaluateSimpleExpression("x * 3 < 0.3")).isEqualTo(false);
+    assertThat(evaluateSimpleExpression("1 / 3")).isEqualTo(new BigDecimal("0.3333333333333333333333333333333333"));
+    assertThat(evaluateSimpleExpression("9007199254740993 + 1")).isEqualTo(new BigDecimal("9007199254740994"));
+  }
+
+  @Test
+  public void testSimpleExpressionStringConcatenation() {
+    variables.putValue("name", "World");
+
+    assertThat(evaluateSimpleExpression("\"a\" + \"b\"")).isEqualTo("ab");
+    assertThat(evaluateSimpleExpression("\"Hello \" + name")).isEqualTo("Hello World");
+  }
+
+  @Test
+  public void testSimpleExpressionArithmeticWithInvalidOperands() {
+    variables.putValue("x", 12);
+    variables.putValue("y", null);
+
+    assertThat(evaluateSimpleExpression("x / 0")).isNull();
+    assertThat(evaluateSimpleExpression("x + y")).isNull();
+    assertThat(evaluateSimpleExpression("x - null")).isNull();
+    assertThat(evaluateSimpleExpression("\"a\" + 1")).isNull();
+    assertThat(evaluateSimpleExpression("true * 2")).isNull();
+  }
+
+  @Test
+  public void testSimpleExpressionComparison() {
+    variables.putValue("x", 12);
+    variables.putValue("name", "a=b");
+
+    assertThat(evaluateSimpleExpression("x = 12")).isEqualTo(true);
+    assertThat(evaluateSimpleExpression("x=11")).isEqualTo(false);
+    assertThat(evaluateSimpleExpression("x != 12")).isEqualTo(false);
+    assertThat(evaluateSimpleExpression("x < 13")).isEqualTo(true);
+    assertThat(evaluateSimpleExpression("x <= 12")).isEqualTo(true);
+    assertThat(evaluateSimpleExpression("x > 12")).isEqualTo(false);
+    assertThat(evaluateSimpleExpression("x >= 12 and x < 20")).isEqualTo(true);
+    assertThat(evaluateSimpleExpression("name = \"a=b\"")).isEqualTo(true);
+  }
+
+  @Test
+  public void testSimpleExpressionDateAndTime() {
+    variables.putValue("date", "2015-12-12T22:12:53");
+    DateValue dateValue = parseDateAndTime("2015-12-12T22:12:53");
+
+    assertThat(evaluateSimpleExpression("date and time(date)")).isEqualTo(dateValue.getValue());
+    assertThat(evaluateSimpleExpression("date and time(date) = date and time(\"2015-12-12T22:12:53\")")).isEqualTo(true);
+
+    // date literals must not be shared between evaluations
+    Date date = evaluateSimpleExpression("date and time(\"2015-12-12T22:12:53\")");
+    date.setTime(0);
+    assertThat(evaluateSimpleExpression("date and time(\"2015-12-12T22:12:53\")")).isEqualTo(dateValue.getValue());
+  }
+
+  @Test
+  public void testCompiledSimpleExpression() {
+    FeelSimpleExpression simpleExpression = feelEngine.compileSimpleExpression("x + 1");
+    assertThat(simpleExpression.getExpression()).isEqualTo("x + 1");
+    assertThat(feelEngine.compileSimpleExpression("x + 1")).isSameAs(simpleExpression);
+
+    variables.putValue("x", 1);
+    assertThat(simpleExpression.<BigDecimal>evaluate(variables.asVariableContext())).isEqualTo(new BigDecimal("2"));
+
+    variables.putValue("x", 2);
+    assertThat(simpleExpression.<BigDecimal>evaluate(variables.asVariableContext())).isEqualTo(new BigDecimal("3"));
+  }
+
   public void assertEvaluatesToTrue(Object input, String feelExpression) {
     boolean result = evaluateFeel(input, feelExpression);
     assertThat(result).isTrue();
@@ -366,6 +528,10 @@ public class FeelEngineTest {
     return feelEngine.evaluateSimpleUnaryTests(feelExpression, INPUT_VARIABLE, variables.asVariableContext());
   }
 
+  public <T> T evaluateSimpleExpression(String simpleExpression) {
+    return feelEngine.evaluateSimpleExpression(simpleExpression, variables.asVariableContext());
+  }
+
   protected DateValue parseDateAndTime(String dateAndTimeString) {
     Date date = FeelFunctionMapper.parseDateAndTime(dateAndTimeString);
     return Variables.dateValue(date);
@@ -20,6 +20,8 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 
 import org.camunda.bpm.dmn.feel.impl.juel.FeelEngineFactoryImpl;
+import org.camunda.bpm.dmn.feel.impl.juel.FeelMissingVariableException;
+import org.camunda.bpm.dmn.feel.impl.juel.FeelSyntaxException;
 import org.camunda.bpm.engine.variable.VariableMap;
 import org.camunda.bpm.engine.variable.Variables;
 import org.junit.Before;
@@ -40,13 +42,58 @@ public class FeelExceptionTest {
   }
 
   @Test
-  public void testSimpleExpressionNotSupported() {
+  public void testSimpleExpressionUnknownVariable() {
     try {
-      feelEngine.evaluateSimpleExpression("12 == 12", Variables.emptyVariableContext());
-      failBecauseExceptionWasNotThrown(UnsupportedOperationException.class);
+      feelEngine.evaluateSimpleExpression("x + 1", Variables.emptyVariableContext());
+      failBecauseExceptionWasNotThrown(FeelMissingVariableException.class);
     }
-    catch (UnsupportedOperationException e) {
-      assertThat(e).hasMessageStartingWith("FEEL-01016");
+    catch (FeelMissingVariableException e) {
+      assertThat(e).hasMessageStartingWith("FEEL-01009");
+      assertThat(e.getVariable()).isEqualTo("x");
+    }
+  }
+
+  @Test
+  public void testInvalidSimpleExpression() {
+    try {
+      feelEngine.evaluateSimpleExpression("x +", Variables.emptyVariableContext());
+      failBecauseExceptionWasNotThrown(FeelSyntaxException.class);
+    }
+    catch (FeelSyntaxException e) {
+      assertThat(e).hasMessageStartingWith("FEEL-01010");
+    }
+  }
+
+  @Test
+  public void testJuelSyntaxInSimpleExpression() {
+    assertInvalidSimpleExpression("empty x", "empty");
+    assertInvalidSimpleExpression("x == null ? 1 : 2", "==");
+    assertInvalidSimpleExpression("x = null ? 1 : 2", "?");
+    assertInvalidSimpleExpression("'a'", "'");
+    assertInvalidSimpleExpression("x && y", "&");
+    assertInvalidSimpleExpression("x || y", "|");
+    assertInvalidSimpleExpression("!x", "!");
+    assertInvalidSimpleExpression("not x", "not");
+    assertInvalidSimpleExpression("x % 2", "%");
+    assertInvalidSimpleExpression("x mod 2", "mod");
+    assertInvalidSimpleExpression("x div 2", "div");
+    assertInvalidSimpleExpression("x eq 1", "eq");
+    assertInvalidSimpleExpression("x[\"y\"]", "[");
+    assertInvalidSimpleExpression("${x}", "$");
+
+    // the tokens are allowed in string literals
+    assertThat(feelEngine.<Object>evaluateSimpleExpression("\"empty 'x' ? a : b\"", Variables.emptyVariableContext()))
+      .isEqualTo("empty 'x' ? a : b");
+  }
+
+  protected void assertInvalidSimpleExpression(String simpleExpression, String token) {
+    try {
+      feelEngine.evaluateSimpleExpression(simpleExpression, Variables.emptyVariableContext());
+      failBecauseExceptionWasNotThrown(FeelSyntaxException.class);
+    }
+    catch (FeelSyntaxException e) {
+      assertThat(e).hasMessageStartingWith("FEEL-01020");
+      assertThat(e.getMessage()).contains("'" + token + "'");
     }
   }
 
@@ -272,6 +319,25 @@ public class FeelExceptionTest {
     );
   }
 
+  @Test
+  public void testCompileInvalidExpression() {
+    try {
+      feelEngine.compileSimpleUnaryTests("[1..3", INPUT_VARIABLE);
+      failBecauseExceptionWasNotThrown(FeelException.class);
+    }
+    catch (FeelException e) {
+      assertThat(e).hasMessageStartingWith("FEEL-01002");
+    }
+
+    try {
+      feelEngine.compileSimpleUnaryTests("unknown(12)", INPUT_VARIABLE);
+      failBecauseExceptionWasNotThrown(FeelException.class);
+    }
+    catch (FeelException e) {
+      assertThat(e).hasMessageStartingWith("FEEL-01007");
+    }
+  }
+
   public void assertException(String exceptionCode, String... feelExpressions) {
     for (String feelExpression : feelExpressions) {
       try {
@@ -0,0 +1,164 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
+
+import org.camunda.bpm.dmn.feel.impl.juel.CompiledSimpleUnaryTests;
+import org.camunda.bpm.dmn.feel.impl.juel.FeelEngineFactoryImpl;
+import org.camunda.bpm.dmn.feel.impl.juel.FeelEngineImpl;
+import org.camunda.bpm.dmn.feel.impl.juel.SimpleUnaryTestsCacheKey;
+import org.camunda.bpm.dmn.feel.impl.juel.cache.Cache;
+import org.camunda.bpm.dmn.feel.impl.juel.cache.EvictionPolicy;
+import org.camunda.bpm.dmn.feel.impl.juel.cache.SegmentedCache;
+import org.camunda.bpm.dmn.feel.impl.juel.el.FeelElContextFactory;
+import org.camunda.bpm.dmn.feel.impl.juel.el.FeelTreeBuilder;
+import org.camunda.bpm.dmn.feel.impl.juel.el.FeelTypeConverter;
+import org.camunda.bpm.dmn.feel.impl.juel.transform.FeelToJuelTransformImpl;
+import org.camunda.bpm.engine.variable.VariableMap;
+import org.camunda.bpm.engine.variable.Variables;
+import org.junit.Before;
+import org.junit.Test;
+
+import de.odysseus.el.ExpressionFactoryImpl;
+import de.odysseus.el.tree.TreeStore;
+
+public class FeelExpressionCacheTest {
+
+  public static final String INPUT_VARIABLE = "input";
+
+  public FeelEngineImpl feelEngine;
+
+  public VariableMap variables;
+
+  @Before
+  public void initFeelEngine() {
+    feelEngine = (FeelEngineImpl) new FeelEngineFactoryImpl().createInstance();
+    variables = Variables.createVariables();
+  }
+
+  @Test
+  public void testCacheHitsAndMisses() {
+    Cache<SimpleUnaryTestsCacheKey, CompiledSimpleUnaryTests> cache = feelEngine.getExpressionCache();
+
+    assertThat(evaluate(12, "< 13")).isTrue();
+    assertThat(cache.getMissCount()).isEqualTo(1);
+    assertThat(cache.getHitCount()).isEqualTo(0);
+
+    assertThat(evaluate(14, "< 13")).isFalse();
+    assertThat(evaluate(12, "< 13")).isTrue();
+    assertThat(cache.getMissCount()).isEqualTo(1);
+    assertThat(cache.getHitCount()).isEqualTo(2);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void testInputNameIsPartOfCacheKey() {
+    variables.putValue("a", 1);
+    variables.putValue("b", 2);
+
+    assertThat(feelEngine.evaluateSimpleUnaryTests("1", "a", variables.asVariableContext())).isTrue();
+    assertThat(feelEngine.evaluateSimpleUnaryTests("1", "b", variables.asVariableContext())).isFalse();
+    assertThat(feelEngine.getExpressionCache().size()).isEqualTo(2);
+  }
+
+  @Test
+  public void testCachedExpressionResolvesVariablesOnEvaluation() {
+    variables.putValue("y", 10);
+    assertThat(evaluate(15, "[y..20]")).isTrue();
+
+    variables.putValue("y", 16);
+    assertThat(evaluate(15, "[y..20]")).isFalse();
+
+    variables.remove("y");
+    try {
+      evaluate(15, "[y..20]");
+      failBecauseExceptionWasNotThrown(FeelException.class);
+    }
+    catch (FeelException e) {
+      assertThat(e).hasMessageStartingWith("FEEL-01009");
+    }
+
+    assertThat(feelEngine.getExpressionCache().getMissCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void testDisabledCache() {
+    feelEngine = (FeelEngineImpl) new FeelEngineFactoryImpl(0).createInstance();
+
+    assertThat(evaluate(12, "< 13")).isTrue();
+    assertThat(evaluate(12, "< 13")).isTrue();
+
+    Cache<SimpleUnaryTestsCacheKey, CompiledSimpleUnaryTests> cache = feelEngine.getExpressionCache();
+    assertThat(cache.size()).isEqualTo(0);
+    assertThat(cache.getMissCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void testLruEviction() {
+    Cache<String, String> cache = new SegmentedCache<String, String>(2, EvictionPolicy.LRU, 1);
+    cache.put("a", "A");
+    cache.put("b", "B");
+    cache.get("a");
+    cache.put("c", "C");
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.get("a")).isEqualTo("A");
+    assertThat(cache.get("b")).isNull();
+    assertThat(cache.get("c")).isEqualTo("C");
+  }
+
+  @Test
+  public void testFifoEviction() {
+    Cache<String, String> cache = new SegmentedCache<String, String>(2, EvictionPolicy.FIFO, 1);
+    cache.put("a", "A");
+    cache.put("b", "B");
+    cache.get("a");
+    cache.put("c", "C");
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.get("a")).isNull();
+    assertThat(cache.get("b")).isEqualTo("B");
+    assertThat(cache.get("c")).isEqualTo("C");
+  }
+
+  @Test
+  public void testCacheCapacity() {
+    Cache<Integer, Integer> cache = new SegmentedCache<Integer, Integer>(100, EvictionPolicy.LRU);
+    for (int i = 0; i < 1000; i++) {
+      cache.put(i, i);
+    }
+
+    assertThat(cache.getCapacity()).isEqualTo(100);
+    assertThat(cache.size()).isLessThanOrEqualTo(100);
+  }
+
+  @Test
+  public void testDefaultCacheOfEngineCreatedWithoutCache() {
+    ExpressionFactoryImpl expressionFactory = new ExpressionFactoryImpl(new TreeStore(new FeelTreeBuilder(), null), new FeelTypeConverter());
+    feelEngine = new FeelEngineImpl(new FeelToJuelTransformImpl(), expressionFactory, new FeelElContextFactory());
+
+    assertThat(evaluate(12, "< 13")).isTrue();
+    assertThat(evaluate(12, "< 13")).isTrue();
+    assertThat(feelEngine.getExpressionCache().getCapacity()).isEqualTo(FeelEngineFactoryImpl.DEFAULT_EXPRESSION_CACHE_SIZE);
+    assertThat(feelEngine.getExpressionCache().getHitCount()).isEqualTo(1);
+  }
+
+  public boolean evaluate(Object input, String feelExpression) {
+    variables.putValue(INPUT_VARIABLE, input);
+    return feelEngine.evaluateSimpleUnaryTests(feelExpression, INPUT_VARIABLE, variables.asVariableContext());
+  }
+
+}
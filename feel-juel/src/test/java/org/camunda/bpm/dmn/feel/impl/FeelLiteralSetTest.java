@@ -0,0 +1,92 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.camunda.bpm.dmn.feel.impl.juel.el.AstLiteralSetTest;
+import org.camunda.bpm.dmn.feel.impl.juel.el.FeelTreeBuilder;
+import org.camunda.bpm.dmn.feel.impl.juel.el.FeelTypeConverter;
+import org.camunda.bpm.dmn.feel.impl.juel.predicate.DisjunctionPredicate;
+import org.camunda.bpm.dmn.feel.impl.juel.predicate.FeelPredicate;
+import org.camunda.bpm.dmn.feel.impl.juel.predicate.FeelPredicateParser;
+import org.camunda.bpm.dmn.feel.impl.juel.predicate.LiteralSetPredicate;
+import org.camunda.bpm.dmn.feel.impl.juel.transform.ListTokenizer;
+import org.junit.Test;
+
+import de.odysseus.el.tree.Tree;
+import de.odysseus.el.tree.impl.ast.AstNode;
+
+public class FeelLiteralSetTest {
+
+  @Test
+  public void testFoldListOfLiterals() {
+    AstNode node = parse("${(x == \"a\") || (x == \"b\") || (x == 12) || (x == 13.37)}");
+
+    assertThat(node).isInstanceOf(AstLiteralSetTest.class);
+    assertThat(((AstLiteralSetTest) node).getValueSet().getValues()).containsExactly("a", "b", 12L, 13.37);
+  }
+
+  @Test
+  public void testDoNotFoldListWithVariables() {
+    AstNode node = parse("${(x == \"a\") || (x == y)}");
+    assertThat(node).isNotInstanceOf(AstLiteralSetTest.class);
+
+    node = parse("${(x == \"a\") || (y == \"b\")}");
+    assertThat(node).isNotInstanceOf(AstLiteralSetTest.class);
+
+    node = parse("${(x == \"a\") || (x < \"b\")}");
+    assertThat(node).isNotInstanceOf(AstLiteralSetTest.class);
+  }
+
+  @Test
+  public void testKeepStructureOfFoldedList() {
+    String expression = "${(x == \"a\") || (x == 12)}";
+    Tree folded = new FeelTreeBuilder().build(expression);
+    Tree unfolded = new FeelTreeBuilder().build("${(x == \"a\") || ((x == 12))}");
+
+    assertThat(folded.getRoot().getStructuralId(null)).isEqualTo("${(x == 'a') || (x == 12)}");
+    assertThat(unfolded.getRoot().getStructuralId(null)).isEqualTo("${(x == 'a') || ((x == 12))}");
+  }
+
+  @Test
+  public void testParseListOfLiterals() {
+    FeelPredicateParser parser = new FeelPredicateParser(new FeelTypeConverter());
+
+    FeelPredicate predicate = parser.parseSimpleUnaryTests("\"a\",\"b,c\",12", "x", new ArrayList<String>());
+    assertThat(predicate).isInstanceOf(LiteralSetPredicate.class);
+    assertThat(((LiteralSetPredicate) predicate).getValueSet().getValues()).containsExactly("a", "b,c", 12L);
+
+    predicate = parser.parseSimpleUnaryTests("\"a\",y", "x", new ArrayList<String>());
+    assertThat(predicate).isInstanceOf(DisjunctionPredicate.class);
+  }
+
+  @Test
+  public void testTokenizeList() {
+    assertThat(ListTokenizer.tokenize("a,b")).isEqualTo(Arrays.asList("a", "b"));
+    assertThat(ListTokenizer.tokenize("\"a,b\", 'c,d'")).isEqualTo(Arrays.asList("\"a,b\"", " 'c,d'"));
+    assertThat(ListTokenizer.tokenize("\"a\\\",b\",c")).isEqualTo(Arrays.asList("\"a\\\",b\"", "c"));
+    assertThat(ListTokenizer.tokenize("'a\",b'")).isEqualTo(Arrays.asList("'a\",b'"));
+    assertThat(ListTokenizer.tokenize("a,")).isEqualTo(Arrays.asList("a", ""));
+  }
+
+  protected AstNode parse(String expression) {
+    Tree tree = new FeelTreeBuilder().build(expression);
+    return (AstNode) tree.getRoot().getChild(0);
+  }
+
+}
@@ -217,6 +217,15 @@ public class FeelToJuelTransformTest {
     assertTransform("x", "<a,<=date(\"2015-12-12\"),>date(\"2016-06-06\"),>=date(\"2017-07-07\")", "${(x < a) || (x <= date(\"2015-12-12\")) || (x > date(\"2016-06-06\")) || (x >= date(\"2017-07-07\"))}");
   }
 
+  @Test
+  public void testListWithCommasInStrings() {
+    assertTransform("x", "\"a,b\",'c,d'", "${(x == \"a,b\") || (x == 'c,d')}");
+    assertTransform("x", "\"a\\\",b\",c", "${(x == \"a\\\",b\") || (x == c)}");
+    assertTransform("x", "'a\",b',\"c',d\"", "${(x == 'a\",b') || (x == \"c',d\")}");
+    assertTransform("x", "\"a,b\"", "${x == \"a,b\"}");
+    assertTransform("x", "not(\"a,b\",c)", "${not((x == \"a,b\") || (x == c))}");
+  }
+
   @Test
   public void testNested() {
     assertTransform("x", "not(>=a,13.37,].37...42),<.37)", "${not((x >= a) || (x == 13.37) || (x > .37 && x < .42) || (x < .37))}");
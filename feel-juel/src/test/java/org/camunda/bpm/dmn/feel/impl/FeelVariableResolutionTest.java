@@ -0,0 +1,95 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.camunda.bpm.dmn.feel.impl.juel.FeelEngineFactoryImpl;
+import org.camunda.bpm.dmn.feel.impl.juel.NativeFeelEngineFactoryImpl;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.engine.variable.context.VariableContext;
+import org.camunda.bpm.engine.variable.value.TypedValue;
+import org.junit.Test;
+
+public class FeelVariableResolutionTest {
+
+  public static final String INPUT_VARIABLE = "input";
+
+  @Test
+  public void testResolveVariablesOnceWithJuelEngine() {
+    FeelEngine feelEngine = new FeelEngineFactoryImpl().createInstance();
+    assertResolvedOnce(feelEngine);
+  }
+
+  @Test
+  public void testResolveVariablesOnceWithNativeEngine() {
+    FeelEngine feelEngine = new NativeFeelEngineFactoryImpl().createInstance();
+    assertResolvedOnce(feelEngine);
+  }
+
+  protected void assertResolvedOnce(FeelEngine feelEngine) {
+    CountingVariableContext variableContext = new CountingVariableContext(Variables.createVariables()
+      .putValue(INPUT_VARIABLE, 5)
+      .putValue("lower", 1)
+      .putValue("upper", 10)
+      .asVariableContext());
+
+    assertThat(feelEngine.evaluateSimpleUnaryTests("[lower..upper]", INPUT_VARIABLE, variableContext)).isTrue();
+    assertThat(variableContext.getResolveCount(INPUT_VARIABLE)).isEqualTo(1);
+    assertThat(variableContext.getResolveCount("lower")).isEqualTo(1);
+    assertThat(variableContext.getResolveCount("upper")).isEqualTo(1);
+
+    variableContext.reset();
+    assertThat(feelEngine.evaluateSimpleUnaryTests("< lower, > upper, 5", INPUT_VARIABLE, variableContext)).isTrue();
+    assertThat(variableContext.getResolveCount(INPUT_VARIABLE)).isEqualTo(1);
+  }
+
+  protected static class CountingVariableContext implements VariableContext {
+
+    protected VariableContext variableContext;
+    protected Map<String, Integer> resolveCounts = new HashMap<String, Integer>();
+
+    public CountingVariableContext(VariableContext variableContext) {
+      this.variableContext = variableContext;
+    }
+
+    public TypedValue resolve(String variableName) {
+      resolveCounts.put(variableName, getResolveCount(variableName) + 1);
+      return variableContext.resolve(variableName);
+    }
+
+    public boolean containsVariable(String variableName) {
+      return variableContext.containsVariable(variableName);
+    }
+
+    public Set<String> keySet() {
+      return variableContext.keySet();
+    }
+
+    public int getResolveCount(String variableName) {
+      Integer count = resolveCounts.get(variableName);
+      return count != null ? count : 0;
+    }
+
+    public void reset() {
+      resolveCounts.clear();
+    }
+
+  }
+
+}
@@ -0,0 +1,90 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
+
+import org.camunda.bpm.dmn.feel.impl.juel.JuelSimpleExpression;
+import org.camunda.bpm.dmn.feel.impl.juel.JuelSimpleUnaryTests;
+import org.camunda.bpm.dmn.feel.impl.juel.NativeFeelEngineFactoryImpl;
+import org.camunda.bpm.dmn.feel.impl.juel.predicate.EndpointSimpleExpression;
+import org.camunda.bpm.dmn.feel.impl.juel.predicate.PredicateSimpleUnaryTests;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Runs all FEEL engine tests against the native engine.
+ */
+public class NativeFeelEngineTest extends FeelEngineTest {
+
+  @BeforeClass
+  public static void initFeelEngine() {
+    feelEngine = new NativeFeelEngineFactoryImpl().createInstance();
+  }
+
+  @Test
+  public void testLiteralAndVariableEndpointsAreEvaluatedNatively() {
+    assertCompiledNatively("-");
+    assertCompiledNatively("\"Hello World\"");
+    assertCompiledNatively("'Hello World'");
+    assertCompiledNatively("< 12");
+    assertCompiledNatively(">= -12.5");
+    assertCompiledNatively("true");
+    assertCompiledNatively("null");
+    assertCompiledNatively("[1..x)");
+    assertCompiledNatively("not(1, 2, y)");
+    assertCompiledNatively("date and time(\"2015-12-12T22:12:53\")");
+  }
+
+  @Test
+  public void testOtherEndpointsAreEvaluatedByJuel() {
+    assertCompiledByJuel("customer.name");
+    assertCompiledByJuel("\"Hello \\\"World\\\"\"");
+    assertCompiledByJuel("date and time(x)");
+    assertCompiledByJuel("date and time(\"invalid\")");
+    assertCompiledByJuel("< x + 1");
+  }
+
+  @Test
+  public void testInvalidExpressionsAreCompiledByJuel() {
+    try {
+      feelEngine.compileSimpleUnaryTests("[1..3", INPUT_VARIABLE);
+      failBecauseExceptionWasNotThrown(FeelException.class);
+    }
+    catch (FeelException e) {
+      assertThat(e).hasMessageStartingWith("FEEL-01002");
+    }
+  }
+
+  @Test
+  public void testLiteralAndVariableSimpleExpressionsAreEvaluatedNatively() {
+    assertThat(feelEngine.compileSimpleExpression("\"Hello World\"")).isInstanceOf(EndpointSimpleExpression.class);
+    assertThat(feelEngine.compileSimpleExpression("12")).isInstanceOf(EndpointSimpleExpression.class);
+    assertThat(feelEngine.compileSimpleExpression("x")).isInstanceOf(EndpointSimpleExpression.class);
+    assertThat(feelEngine.compileSimpleExpression("x + 1")).isInstanceOf(JuelSimpleExpression.class);
+    assertThat(feelEngine.compileSimpleExpression("customer.name")).isInstanceOf(JuelSimpleExpression.class);
+  }
+
+  protected void assertCompiledNatively(String simpleUnaryTests) {
+    FeelSimpleUnaryTests compiled = feelEngine.compileSimpleUnaryTests(simpleUnaryTests, INPUT_VARIABLE);
+    assertThat(compiled).isInstanceOf(PredicateSimpleUnaryTests.class);
+  }
+
+  protected void assertCompiledByJuel(String simpleUnaryTests) {
+    FeelSimpleUnaryTests compiled = feelEngine.compileSimpleUnaryTests(simpleUnaryTests, INPUT_VARIABLE);
+    assertThat(compiled).isInstanceOf(JuelSimpleUnaryTests.class);
+  }
+
+}
@@ -0,0 +1,118 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.benchmark;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.camunda.bpm.dmn.feel.impl.juel.el.DateAndTimeParser;
+
+/**
+ * Measures the throughput of concurrent date parsing with the
+ * {@link DateAndTimeParser} compared to a synchronized shared
+ * {@link SimpleDateFormat}. Run the main method, it is not part of the test
+ * suite.
+ */
+public class DateAndTimeParserBenchmark {
+
+  public static final int ITERATIONS = 500000;
+  public static final int DISTINCT_DATES = 100;
+
+  public static void main(String[] args) throws Exception {
+    String[] dates = new String[DISTINCT_DATES];
+    String[] lenientDates = new String[DISTINCT_DATES];
+    for (int i = 0; i < dates.length; i++) {
+      dates[i] = String.format("20%02d-%02d-%02dT%02d:%02d:00", i % 100, i % 12 + 1, i % 28 + 1, i % 24, i % 60);
+      lenientDates[i] = String.format("20%02d-%d-%dT%d:%d:0", i % 100, i % 12 + 1, i % 28 + 1, i % 24, i % 60);
+    }
+
+    final SimpleDateFormat sharedFormat = new SimpleDateFormat(DateAndTimeParser.DATE_AND_TIME_PATTERN);
+    final DateAndTimeParser cachingParser = new DateAndTimeParser();
+    final DateAndTimeParser parser = new DateAndTimeParser(0);
+
+    DateParser synchronizedFormat = new DateParser() {
+      public Object parse(String date) throws ParseException {
+        synchronized (sharedFormat) {
+          return sharedFormat.parse(date);
+        }
+      }
+    };
+    DateParser uncachedParser = new DateParser() {
+      public Object parse(String date) throws ParseException {
+        return parser.parse(date);
+      }
+    };
+    DateParser cachedParser = new DateParser() {
+      public Object parse(String date) throws ParseException {
+        return cachingParser.parse(date);
+      }
+    };
+
+    System.out.println(String.format("%-30s %-8s %8s %15s", "parser", "format", "threads", "parses/ms"));
+    for (int threads = 1; threads <= 8; threads *= 2) {
+      benchmark("synchronized SimpleDateFormat", synchronizedFormat, "exact", dates, threads);
+      benchmark("DateAndTimeParser", cachedParser, "exact", dates, threads);
+      benchmark("synchronized SimpleDateFormat", synchronizedFormat, "lenient", lenientDates, threads);
+      benchmark("DateAndTimeParser (no cache)", uncachedParser, "lenient", lenientDates, threads);
+      benchmark("DateAndTimeParser", cachedParser, "lenient", lenientDates, threads);
+    }
+  }
+
+  protected static void benchmark(String name, DateParser parser, String format, String[] dates, int threads) throws Exception {
+    ExecutorService executorService = Executors.newFixedThreadPool(threads);
+    try {
+      // warm up
+      run(executorService, parser, dates, threads);
+
+      long startTime = System.nanoTime();
+      run(executorService, parser, dates, threads);
+      long duration = System.nanoTime() - startTime;
+
+      long parses = (long) ITERATIONS * threads;
+      System.out.println(String.format("%-30s %-8s %8d %15d", name, format, threads, parses * 1000000 / duration));
+    }
+    finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  protected static void run(ExecutorService executorService, final DateParser parser, final String[] dates, int threads) throws Exception {
+    Future<?>[] results = new Future<?>[threads];
+    for (int thread = 0; thread < threads; thread++) {
+      results[thread] = executorService.submit(new Callable<Integer>() {
+        public Integer call() throws Exception {
+          int parsed = 0;
+          for (int i = 0; i < ITERATIONS; i++) {
+            if (parser.parse(dates[i % dates.length]) != null) {
+              parsed++;
+            }
+          }
+          return parsed;
+        }
+      });
+    }
+    for (Future<?> result : results) {
+      result.get();
+    }
+  }
+
+  protected interface DateParser {
+    Object parse(String date) throws ParseException;
+  }
+
+}
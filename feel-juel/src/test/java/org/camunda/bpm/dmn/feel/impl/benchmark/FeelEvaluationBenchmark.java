@@ -0,0 +1,144 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.camunda.bpm.dmn.feel.impl.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.Date;
+
+import org.camunda.bpm.dmn.feel.impl.FeelEngine;
+import org.camunda.bpm.dmn.feel.impl.FeelSimpleExpression;
+import org.camunda.bpm.dmn.feel.impl.FeelSimpleUnaryTests;
+import org.camunda.bpm.dmn.feel.impl.juel.FeelEngineFactoryImpl;
+import org.camunda.bpm.dmn.feel.impl.juel.NativeFeelEngineFactoryImpl;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.engine.variable.context.VariableContext;
+
+/**
+ * Measures the bytes allocated and the time spent per evaluation of compiled
+ * simple unary tests and simple expressions. Requires a JVM which supports thread allocation
+ * accounting, e.g. HotSpot. Run the main method, it is not part of the test
+ * suite.
+ */
+public class FeelEvaluationBenchmark {
+
+  public static final String INPUT_VARIABLE = "cellInput";
+
+  public static final int WARMUP_ITERATIONS = 200000;
+  public static final int ITERATIONS = 1000000;
+
+  public static final Object[][] CELLS = {
+    { "\"gold\"", "gold" },
+    { "< 1000", 500L },
+    { "< 1000", 5000 },
+    { "[18..25]", 20 },
+    { "\"DE\",\"FR\",\"IT\",\"ES\"", "ES" },
+    { createList(300), "C299" },
+    { "not(\"silver\")", "gold" },
+    { "< date and time(\"2016-01-01T00:00:00\")", new Date(0) },
+    { "-", "gold" }
+  };
+
+  public static final String[] SIMPLE_EXPRESSIONS = {
+    "\"gold\"",
+    INPUT_VARIABLE,
+    INPUT_VARIABLE + " + 1",
+    INPUT_VARIABLE + " * 2 > 100"
+  };
+
+  public static void main(String[] args) {
+    benchmark("juel", new FeelEngineFactoryImpl().createInstance());
+    benchmark("native", new NativeFeelEngineFactoryImpl().createInstance());
+  }
+
+  protected static void benchmark(String engineName, FeelEngine feelEngine) {
+    System.out.println("FEEL engine: " + engineName);
+    System.out.println(String.format("%-45s %-10s %12s %12s", "cell", "input", "bytes/eval", "ns/eval"));
+    for (Object[] cell : CELLS) {
+      String expression = (String) cell[0];
+      Object input = cell[1];
+      VariableContext variableContext = Variables.createVariables()
+        .putValue(INPUT_VARIABLE, input)
+        .asVariableContext();
+      FeelSimpleUnaryTests simpleUnaryTests = feelEngine.compileSimpleUnaryTests(expression, INPUT_VARIABLE);
+
+      evaluate(simpleUnaryTests, variableContext, WARMUP_ITERATIONS);
+
+      long allocatedBytes = getAllocatedBytes();
+      long startTime = System.nanoTime();
+      evaluate(simpleUnaryTests, variableContext, ITERATIONS);
+      long duration = System.nanoTime() - startTime;
+      allocatedBytes = getAllocatedBytes() - allocatedBytes;
+
+      System.out.println(String.format("%-45s %-10s %12d %12d", abbreviate(expression), input.getClass().getSimpleName(),
+        allocatedBytes / ITERATIONS, duration / ITERATIONS));
+    }
+
+    VariableContext variableContext = Variables.createVariables()
+      .putValue(INPUT_VARIABLE, 42L)
+      .asVariableContext();
+    for (String expression : SIMPLE_EXPRESSIONS) {
+      FeelSimpleExpression simpleExpression = feelEngine.compileSimpleExpression(expression);
+
+      evaluate(simpleExpression, variableContext, WARMUP_ITERATIONS);
+
+      long allocatedBytes = getAllocatedBytes();
+      long startTime = System.nanoTime();
+      evaluate(simpleExpression, variableContext, ITERATIONS);
+      long duration = System.nanoTime() - startTime;
+      allocatedBytes = getAllocatedBytes() - allocatedBytes;
+
+      System.out.println(String.format("%-45s %-10s %12d %12d", expression, "Long",
+        allocatedBytes / ITERATIONS, duration / ITERATIONS));
+    }
+    System.out.println();
+  }
+
+  protected static int evaluate(FeelSimpleExpression simpleExpression, VariableContext variableContext, int iterations) {
+    int results = 0;
+    for (int i = 0; i < iterations; i++) {
+      if (simpleExpression.evaluate(variableContext) != null) {
+        results++;
+      }
+    }
+    return results;
+  }
+
+  protected static int evaluate(FeelSimpleUnaryTests simpleUnaryTests, VariableContext variableContext, int iterations) {
+    int matches = 0;
+    for (int i = 0; i < iterations; i++) {
+      if (simpleUnaryTests.evaluate(variableContext)) {
+        matches++;
+      }
+    }
+    return matches;
+  }
+
+  protected static String createList(int size) {
+    StringBuilder builder = new StringBuilder("\"C0\"");
+    for (int i = 1; i < size; i++) {
+      builder.append(",\"C").append(i).append("\"");
+    }
+    return builder.toString();
+  }
+
+  protected static String abbreviate(String expression) {
+    return expression.length() > 45 ? expression.substring(0, 41) + " ..." : expression;
+  }
+
+  protected static long getAllocatedBytes() {
+    com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+}